@@ -0,0 +1,74 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyArrayList;
+import org.arraylist.SegmentedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the latency of single appends to lists that keep growing up to {@value #LIMIT} elements, where a MyArrayList
+ * copies its whole array on growth and a SegmentedList allocates one segment. Compare the high percentiles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class AppendLatencyBenchmark {
+    /** The size at which a list is replaced by a new one. */
+    private static final int LIMIT = 1 << 23;
+    /** The element that is appended. */
+    private static final Integer ELEMENT = 42;
+
+    /** The growing MyArrayList. */
+    private MyArrayList<Integer> arrayList;
+    /** The growing SegmentedList. */
+    private SegmentedList<Integer> segmentedList;
+
+    /**
+     * Starts every iteration with empty lists.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        arrayList = new MyArrayList<>();
+        segmentedList = new SegmentedList<>();
+    }
+
+    /**
+     * Appends one element to the MyArrayList.
+     * @return the list
+     */
+    @Benchmark
+    public MyArrayList<Integer> arrayListAdd() {
+        if (arrayList.size() == LIMIT) {
+            arrayList = new MyArrayList<>();
+        }
+        arrayList.add(ELEMENT);
+        return arrayList;
+    }
+
+    /**
+     * Appends one element to the SegmentedList.
+     * @return the list
+     */
+    @Benchmark
+    public SegmentedList<Integer> segmentedListAdd() {
+        if (segmentedList.size() == LIMIT) {
+            segmentedList = new SegmentedList<>();
+        }
+        segmentedList.add(ELEMENT);
+        return segmentedList;
+    }
+}
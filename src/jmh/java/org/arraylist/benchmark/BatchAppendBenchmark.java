@@ -0,0 +1,110 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways of filling a MyArrayList in bulk. Run with {@code -prof gc} to see the temporary copy
+ * made by addAll(Collection) disappear from the array and list paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchAppendBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /** The elements to be added. */
+    private Integer[] elements;
+    /** The elements as a collection. */
+    private List<Integer> collection;
+    /** The elements in a MyArrayList. */
+    private MyArrayList<Integer> source;
+
+    /**
+     * Creates the elements in every source form.
+     */
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.elements("random", size, 42);
+        collection = Arrays.asList(elements);
+        source = new MyArrayList<>(size);
+        source.addAll(elements, 0, size);
+    }
+
+    /**
+     * Adds the elements one at a time to a list with the default capacity.
+     * @return the filled list
+     */
+    @Benchmark
+    public MyArrayList<Integer> addEach() {
+        MyArrayList<Integer> target = new MyArrayList<>();
+        for (Integer element : elements) {
+            target.add(element);
+        }
+        return target;
+    }
+
+    /**
+     * Adds the elements with addAll(Collection), which copies them into a temporary array first.
+     * @return the filled list
+     */
+    @Benchmark
+    public MyArrayList<Integer> addAllCollection() {
+        MyArrayList<Integer> target = new MyArrayList<>();
+        target.addAll(collection);
+        return target;
+    }
+
+    /**
+     * Adds the elements straight from the array.
+     * @return the filled list
+     */
+    @Benchmark
+    public MyArrayList<Integer> addAllArray() {
+        MyArrayList<Integer> target = new MyArrayList<>();
+        target.addAll(elements, 0, elements.length);
+        return target;
+    }
+
+    /**
+     * Adds the elements straight from the underlying array of another MyArrayList.
+     * @return the filled list
+     */
+    @Benchmark
+    public MyArrayList<Integer> addAllMyList() {
+        MyArrayList<Integer> target = new MyArrayList<>();
+        target.addAll(source);
+        return target;
+    }
+
+    /**
+     * Adds the elements one at a time to a builder pre-sized with the exact size.
+     * @return the built list
+     */
+    @Benchmark
+    public MyArrayList<Integer> builder() {
+        MyArrayList.Builder<Integer> builder = MyArrayList.builder(size);
+        for (Integer element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+}
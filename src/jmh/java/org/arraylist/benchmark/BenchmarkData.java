@@ -0,0 +1,114 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.GapBufferList;
+import org.arraylist.HashIndexedList;
+import org.arraylist.MyArrayList;
+import org.arraylist.MyList;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * BenchmarkData creates the lists and the input data shared by the benchmarks.
+ */
+final class BenchmarkData {
+    /** The name of the MyArrayList implementation in the benchmark parameters. */
+    static final String MY_ARRAY_LIST = "MyArrayList";
+    /** The name of the HashIndexedList implementation in the benchmark parameters. */
+    static final String HASH_INDEXED_LIST = "HashIndexedList";
+    /** The name of the GapBufferList implementation in the benchmark parameters. */
+    static final String GAP_BUFFER_LIST = "GapBufferList";
+    /** The name of the java.util.ArrayList baseline in the benchmark parameters. */
+    static final String ARRAY_LIST = "ArrayList";
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates an empty list of the specified implementation with the default capacity.
+     * @param implementation the name of the implementation
+     * @return the new list
+     */
+    static MyList<Integer> newList(String implementation) {
+        switch (implementation) {
+            case MY_ARRAY_LIST:
+                return new MyArrayList<>();
+            case HASH_INDEXED_LIST:
+                return new HashIndexedList<>();
+            case GAP_BUFFER_LIST:
+                return new GapBufferList<>();
+            case ARRAY_LIST:
+                return new JdkArrayList<>(10);
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    /**
+     * Creates elements with the specified distribution.
+     * <ul>
+     * <li>sorted - ascending distinct values</li>
+     * <li>reverse - descending distinct values</li>
+     * <li>random - uniformly random values</li>
+     * <li>duplicates - random values drawn from only 16 distinct keys</li>
+     * </ul>
+     * @param distribution the name of the distribution
+     * @param size         the number of elements
+     * @param seed         the seed of the random generator
+     * @return the elements
+     */
+    static Integer[] elements(String distribution, int size, long seed) {
+        Random random = new Random(seed);
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case "sorted":
+                    elements[i] = i;
+                    break;
+                case "reverse":
+                    elements[i] = size - i;
+                    break;
+                case "random":
+                    elements[i] = random.nextInt();
+                    break;
+                case "duplicates":
+                    elements[i] = random.nextInt(16);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Creates a list of the specified implementation holding the specified elements.
+     * @param implementation the name of the implementation
+     * @param elements       the elements to be added
+     * @return the new list
+     */
+    static MyList<Integer> filledList(String implementation, Integer[] elements) {
+        MyList<Integer> list = newList(implementation);
+        list.addAll(Arrays.asList(elements));
+        return list;
+    }
+
+    /**
+     * Creates random indices below the specified bound.
+     * @param count the number of indices
+     * @param bound the exclusive upper bound of the indices
+     * @param seed  the seed of the random generator
+     * @return the indices
+     */
+    static int[] indices(int count, int bound, long seed) {
+        Random random = new Random(seed);
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = random.nextInt(bound);
+        }
+        return indices;
+    }
+}
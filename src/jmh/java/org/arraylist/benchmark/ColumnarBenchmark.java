@@ -0,0 +1,137 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.ColumnarList;
+import org.arraylist.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares aggregations over one field of small records kept as objects in a MyArrayList and kept in a ColumnarList.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarBenchmark {
+    /**
+     * A small record with a few fields.
+     */
+    public static final class Trade {
+        /** The identifier of the trade. */
+        final int id;
+        /** The time of the trade. */
+        final long time;
+        /** The price of the trade. */
+        final double price;
+
+        /**
+         * Creates a trade.
+         * @param id    the identifier
+         * @param time  the time
+         * @param price the price
+         */
+        Trade(int id, long time, double price) {
+            this.id = id;
+            this.time = time;
+            this.price = price;
+        }
+    }
+
+    @Param({"1000000"})
+    public int size;
+
+    /** The trades as objects, allocated in shuffled order so they are scattered on the heap. */
+    private MyArrayList<Trade> objects;
+    /** The same trades in columns. */
+    private ColumnarList<Trade> columns;
+
+    /**
+     * Creates the trades in both layouts.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Trade[] trades = new Trade[size];
+        for (int i = 0; i < size; i++) {
+            trades[i] = new Trade(random.nextInt(), i, random.nextDouble());
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Trade tmp = trades[i];
+            trades[i] = trades[j];
+            trades[j] = tmp;
+        }
+        objects = new MyArrayList<>(size);
+        objects.addAll(trades, 0, size);
+        columns = new ColumnarList<>(ColumnarList.<Trade>schema()
+                .intColumn("id", t -> t.id)
+                .longColumn("time", t -> t.time)
+                .doubleColumn("price", t -> t.price)
+                .build(row -> new Trade(row.getInt(0), row.getLong(1), row.getDouble(2))), size);
+        for (Trade trade : trades) {
+            columns.add(trade);
+        }
+    }
+
+    /**
+     * Sums the prices by reading every record.
+     * @return the sum
+     */
+    @Benchmark
+    public double sumObjects() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += objects.get(i).price;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the price column.
+     * @return the sum
+     */
+    @Benchmark
+    public double sumColumn() {
+        return columns.sumDouble(2);
+    }
+
+    /**
+     * Counts the records whose time is in a range by reading every record.
+     * @return the count
+     */
+    @Benchmark
+    public int countObjects() {
+        int count = 0;
+        long high = size / 2;
+        for (int i = 0; i < size; i++) {
+            long time = objects.get(i).time;
+            if (time >= 0 && time <= high) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the records whose time is in a range with a scan of the time column.
+     * @return the count
+     */
+    @Benchmark
+    public int countColumn() {
+        return columns.countInRange(1, 0L, size / 2);
+    }
+}
@@ -0,0 +1,79 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures an editing workload that inserts and deletes elements at a cursor that moves slowly through the list,
+ * and a workload that inserts and deletes at random positions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EditingBenchmark {
+    @Param({BenchmarkData.MY_ARRAY_LIST, BenchmarkData.GAP_BUFFER_LIST, BenchmarkData.ARRAY_LIST})
+    public String implementation;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    /** The list being edited. */
+    private MyList<Integer> list;
+    /** The position of the cursor. */
+    private int cursor;
+    /** The state of the generator of random positions. */
+    private int seed;
+
+    /**
+     * Fills the list and places the cursor in the middle.
+     */
+    @Setup
+    public void setUp() {
+        list = BenchmarkData.filledList(implementation, BenchmarkData.elements("sorted", size, 42));
+        cursor = size >> 1;
+        seed = 42;
+    }
+
+    /**
+     * Types two elements at the cursor, deletes them again and moves the cursor one position, wrapping around.
+     * @return the last deleted element
+     */
+    @Benchmark
+    public Integer editAtCursor() {
+        list.add(cursor, cursor);
+        list.add(cursor + 1, cursor);
+        list.remove(cursor + 1);
+        Integer removed = list.remove(cursor);
+        if (++cursor >= size) {
+            cursor = 0;
+        }
+        return removed;
+    }
+
+    /**
+     * Inserts an element at a random position and removes one at another random position.
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer editAtRandom() {
+        seed = seed * 1103515245 + 12345;
+        list.add((seed >>> 1) % (size + 1), seed);
+        seed = seed * 1103515245 + 12345;
+        return list.remove((seed >>> 1) % (size + 1));
+    }
+}
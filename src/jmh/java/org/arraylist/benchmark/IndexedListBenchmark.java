@@ -0,0 +1,80 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups of HashIndexedList against the linear scans of MyArrayList and java.util.ArrayList,
+ * and the extra cost the index adds to positional inserts and removals. Run with {@code -prof gc}
+ * to see the allocation caused by the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedListBenchmark {
+    @Param({BenchmarkData.MY_ARRAY_LIST, BenchmarkData.HASH_INDEXED_LIST, BenchmarkData.ARRAY_LIST})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    /** The list being searched. */
+    private MyList<Integer> list;
+    /** An element that is not contained in the list. */
+    private Integer missing;
+    /** The element in the middle of the list. */
+    private Integer middle;
+
+    /**
+     * Fills the list with distinct elements.
+     */
+    @Setup
+    public void setUp() {
+        list = BenchmarkData.filledList(implementation, BenchmarkData.elements("sorted", size, 42));
+        missing = -1;
+        middle = list.get(size >> 1);
+    }
+
+    /**
+     * Searches for an element that is not in the list.
+     * @return the result of contains
+     */
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missing);
+    }
+
+    /**
+     * Finds the index of the element in the middle of the list.
+     * @return the index of the element
+     */
+    @Benchmark
+    public int indexOfMiddle() {
+        return list.indexOf(middle);
+    }
+
+    /**
+     * Inserts an element at the front of the list and removes it again, which shifts every indexed position twice.
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer addAtFrontAndRemove() {
+        list.add(0, missing);
+        return list.remove(0);
+    }
+}
@@ -0,0 +1,86 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * JdkArrayList adapts java.util.ArrayList to the MyList interface, so the benchmarks can run the same code
+ * against the JDK list as the baseline.
+ * @param <T> the type of objects to be stored in the list
+ */
+public class JdkArrayList<T> implements MyList<T> {
+    /** The adapted list. */
+    private final ArrayList<T> list;
+
+    /**
+     * Creates an adapter over a new java.util.ArrayList with the specified capacity.
+     * @param initialCapacity the initial capacity of the list
+     */
+    public JdkArrayList(int initialCapacity) {
+        this.list = new ArrayList<>(initialCapacity);
+    }
+
+    @Override
+    public void add(T element) {
+        list.add(element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        list.add(index, element);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> collection) {
+        list.addAll(collection);
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        list.set(index, element);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return list.contains(element);
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        list.sort(comparator);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+}
@@ -0,0 +1,147 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the basic MyList operations of MyArrayList against java.util.ArrayList.
+ * Run with {@code -prof gc} to report the allocation rate next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListOperationsBenchmark {
+    /** The number of random indices used by the get and set benchmarks. */
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({BenchmarkData.MY_ARRAY_LIST, BenchmarkData.ARRAY_LIST})
+    public String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"random"})
+    public String distribution;
+
+    /** The elements the list is filled with. */
+    private Integer[] elements;
+    /** The elements as a collection, for addAll. */
+    private List<Integer> collection;
+    /** The list the read and in-place benchmarks work on. */
+    private MyList<Integer> list;
+    /** The random indices used by the get and set benchmarks. */
+    private int[] indices;
+    /** An element that is not contained in the list. */
+    private Integer missing;
+
+    /**
+     * Creates the input data and the list.
+     */
+    @Setup
+    public void setUp() {
+        missing = Integer.MIN_VALUE;
+        elements = BenchmarkData.elements(distribution, size, 42);
+        for (int i = 0; i < size; i++) {
+            if (missing.equals(elements[i])) {
+                elements[i] = 0;
+            }
+        }
+        collection = Arrays.asList(elements);
+        list = BenchmarkData.filledList(implementation, elements);
+        indices = BenchmarkData.indices(INDEX_COUNT, size, 7);
+    }
+
+    /**
+     * Fills an empty list one element at a time, including every resize.
+     * @return the filled list
+     */
+    @Benchmark
+    public MyList<Integer> add() {
+        MyList<Integer> target = BenchmarkData.newList(implementation);
+        for (Integer element : elements) {
+            target.add(element);
+        }
+        return target;
+    }
+
+    /**
+     * Fills an empty list with a single addAll.
+     * @return the filled list
+     */
+    @Benchmark
+    public MyList<Integer> addAll() {
+        MyList<Integer> target = BenchmarkData.newList(implementation);
+        target.addAll(collection);
+        return target;
+    }
+
+    /**
+     * Inserts an element in the middle of the list and removes it again, shifting the tail twice.
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer addAtIndexAndRemove() {
+        int middle = size >> 1;
+        list.add(middle, missing);
+        return list.remove(middle);
+    }
+
+    /**
+     * Removes the last element and appends it again.
+     */
+    @Benchmark
+    public void removeLastAndAdd() {
+        list.add(list.remove(size - 1));
+    }
+
+    /**
+     * Reads elements at random positions.
+     * @param blackhole the sink for the elements read
+     */
+    @Benchmark
+    @OperationsPerInvocation(INDEX_COUNT)
+    public void get(Blackhole blackhole) {
+        for (int index : indices) {
+            blackhole.consume(list.get(index));
+        }
+    }
+
+    /**
+     * Overwrites elements at random positions with the element already stored there.
+     */
+    @Benchmark
+    @OperationsPerInvocation(INDEX_COUNT)
+    public void set() {
+        for (int index : indices) {
+            list.set(index, elements[index]);
+        }
+    }
+
+    /**
+     * Searches for an element that is not in the list, which scans the whole list.
+     * @return the result of contains
+     */
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missing);
+    }
+}
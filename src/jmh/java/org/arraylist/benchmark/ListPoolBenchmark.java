@@ -0,0 +1,111 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.ListPool;
+import org.arraylist.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates a request that fills a few short-lived lists, with new lists and with pooled ones.
+ * Run with {@code -prof gc} to compare the allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListPoolBenchmark {
+    /** The number of lists a request uses. */
+    private static final int LISTS_PER_REQUEST = 4;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    /** The elements added to every list. */
+    private Integer[] elements;
+    /** The thread-local pool. */
+    private ListPool<Integer> threadLocalPool;
+    /** The shared pool. */
+    private ListPool<Integer> sharedPool;
+
+    /**
+     * Creates the elements and the pools.
+     */
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.elements("random", size, 42);
+        threadLocalPool = ListPool.threadLocal(10, 1 << 16, LISTS_PER_REQUEST);
+        sharedPool = ListPool.shared(10, 1 << 16, LISTS_PER_REQUEST);
+    }
+
+    /**
+     * Fills new lists for every request.
+     * @return the total number of elements added
+     */
+    @Benchmark
+    public int newLists() {
+        int total = 0;
+        for (int i = 0; i < LISTS_PER_REQUEST; i++) {
+            MyArrayList<Integer> list = new MyArrayList<>();
+            fill(list);
+            total += list.size();
+        }
+        return total;
+    }
+
+    /**
+     * Fills lists from the thread-local pool.
+     * @return the total number of elements added
+     */
+    @Benchmark
+    public int threadLocalPool() {
+        return pooled(threadLocalPool);
+    }
+
+    /**
+     * Fills lists from the shared pool.
+     * @return the total number of elements added
+     */
+    @Benchmark
+    public int sharedPool() {
+        return pooled(sharedPool);
+    }
+
+    /**
+     * Acquires the lists of a request from the specified pool, fills them and releases them.
+     * @param pool the pool to use
+     * @return the total number of elements added
+     */
+    private int pooled(ListPool<Integer> pool) {
+        int total = 0;
+        for (int i = 0; i < LISTS_PER_REQUEST; i++) {
+            MyArrayList<Integer> list = pool.acquire();
+            fill(list);
+            total += list.size();
+            pool.release(list);
+        }
+        return total;
+    }
+
+    /**
+     * Adds the elements one at a time.
+     * @param list the list to fill
+     */
+    private void fill(MyArrayList<Integer> list) {
+        for (Integer element : elements) {
+            list.add(element);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyArrayList;
+import org.arraylist.PersistentList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares producing a new version of a list after one update: a defensive copy of a MyArrayList against
+ * a PersistentList update that shares the unchanged arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentListBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /** The elements of the lists. */
+    private Integer[] elements;
+    /** The current version as a MyArrayList. */
+    private MyArrayList<Integer> array;
+    /** The current version as a PersistentList. */
+    private PersistentList<Integer> persistent;
+    /** The index of the next update. */
+    private int next;
+
+    /**
+     * Creates both lists.
+     */
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.elements("random", size, 42);
+        array = new MyArrayList<>(size);
+        array.addAll(elements, 0, size);
+        persistent = PersistentList.copyOf(Arrays.asList(elements));
+    }
+
+    /**
+     * Copies the MyArrayList and replaces one element of the copy.
+     * @return the new version
+     */
+    @Benchmark
+    public MyArrayList<Integer> copyAndSet() {
+        MyArrayList<Integer> copy = new MyArrayList<>(size);
+        copy.addAll(array);
+        copy.set(nextIndex(), 0);
+        return copy;
+    }
+
+    /**
+     * Replaces one element of the PersistentList.
+     * @return the new version
+     */
+    @Benchmark
+    public PersistentList<Integer> persistentWith() {
+        return persistent.with(nextIndex(), 0);
+    }
+
+    /**
+     * Reads every element of the MyArrayList.
+     * @return the number of non-null elements
+     */
+    @Benchmark
+    public int scanArray() {
+        int count = 0;
+        for (Integer element : array) {
+            if (element != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads every element of the PersistentList.
+     * @return the number of non-null elements
+     */
+    @Benchmark
+    public int scanPersistent() {
+        int count = 0;
+        for (Integer element : persistent) {
+            if (element != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the next update, walking through the list.
+     * @return the index
+     */
+    private int nextIndex() {
+        next = next + 7919 < size ? next + 7919 : (next + 7919) % size;
+        return next;
+    }
+}
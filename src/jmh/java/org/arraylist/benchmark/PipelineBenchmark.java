@@ -0,0 +1,85 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a chain of map and filter steps that builds a MyArrayList after every step with the same chain run
+ * as a fused pipeline. Run with {@code -prof gc} to see the intermediate lists disappear.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /** The list the chains read. */
+    private MyArrayList<Integer> source;
+
+    /**
+     * Fills the source list with random elements.
+     */
+    @Setup
+    public void setUp() {
+        Integer[] elements = BenchmarkData.elements("random", size, 42);
+        source = new MyArrayList<>(size);
+        source.addAll(elements, 0, size);
+    }
+
+    /**
+     * Runs every step over the whole list into a new MyArrayList.
+     * @return the result of the last step
+     */
+    @Benchmark
+    public MyArrayList<Integer> eagerSteps() {
+        MyArrayList<Integer> mapped = new MyArrayList<>();
+        for (Integer element : source) {
+            mapped.add(element * 3);
+        }
+        MyArrayList<Integer> filtered = new MyArrayList<>();
+        for (Integer element : mapped) {
+            if ((element & 1) == 0) {
+                filtered.add(element);
+            }
+        }
+        MyArrayList<Integer> result = new MyArrayList<>();
+        for (Integer element : filtered) {
+            result.add(element + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Runs the same steps as one fused pass.
+     * @return the collected result
+     */
+    @Benchmark
+    public MyArrayList<Integer> pipeline() {
+        return source.pipeline().map(e -> e * 3).filter(e -> (e & 1) == 0).map(e -> e + 1).toList();
+    }
+
+    /**
+     * Runs the same steps as a fused pass over chunks in the common fork-join pool.
+     * @return the collected result
+     */
+    @Benchmark
+    public MyArrayList<Integer> parallelPipeline() {
+        return source.pipeline().parallel().map(e -> e * 3).filter(e -> (e & 1) == 0).map(e -> e + 1).toList();
+    }
+}
@@ -0,0 +1,206 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.IntArrayList;
+import org.arraylist.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scans of IntArrayList with the boxed scans of MyArrayList and with plain loops over an int[],
+ * which is how IntArrayList scanned before it used the shared kernels.
+ * <p>
+ * The Primitive benchmarks fork without jdk.incubator.vector and measure the scalar kernels. The Vector benchmarks
+ * run the same calls in a fork with the module added, so they measure the Vector API kernels if the jar was built
+ * with the vector profile, which is active by default on JDK 17 and later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveScanBenchmark {
+    /** The JVM argument that resolves the Vector API module in a fork. */
+    private static final String VECTOR_MODULE = "--add-modules=jdk.incubator.vector";
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /** The boxed list. */
+    private MyArrayList<Integer> boxed;
+    /** The primitive list holding the same values. */
+    private IntArrayList primitive;
+    /** The same values in a plain array. */
+    private int[] values;
+    /** A value that is not contained in the lists. */
+    private int missing;
+
+    /**
+     * Fills the lists with random values between 0 and 999 999.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new int[size];
+        boxed = new MyArrayList<>(size);
+        primitive = new IntArrayList(size);
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(1_000_000);
+            boxed.add(values[i]);
+            primitive.add(values[i]);
+        }
+        missing = -1;
+    }
+
+    /**
+     * Searches the boxed list for a missing value.
+     * @return the result of contains
+     */
+    @Benchmark
+    public boolean containsBoxed() {
+        return boxed.contains(missing);
+    }
+
+    /**
+     * Searches the array for a missing value with a loop that branches on every element.
+     * @return the result of the search
+     */
+    @Benchmark
+    public boolean containsLoop() {
+        for (int value : values) {
+            if (value == missing) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Searches the primitive list for a missing value with the scalar kernel.
+     * @return the result of contains
+     */
+    @Benchmark
+    public boolean containsPrimitive() {
+        return primitive.contains(missing);
+    }
+
+    /**
+     * Searches the primitive list for a missing value with the Vector API kernel.
+     * @return the result of contains
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public boolean containsVector() {
+        return primitive.contains(missing);
+    }
+
+    /**
+     * Counts the values in the lower half of the range with a loop that branches on every element.
+     * @return the number of values in the range
+     */
+    @Benchmark
+    public int countInRangeLoop() {
+        int count = 0;
+        for (int value : values) {
+            if (value >= 250_000 && value <= 749_999) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the values in the lower half of the range with the branch-free kernel.
+     * @return the number of values in the range
+     */
+    @Benchmark
+    public int countInRangePrimitive() {
+        return primitive.countInRange(250_000, 749_999);
+    }
+
+    /**
+     * Counts the values in the lower half of the range with the Vector API kernel.
+     * @return the number of values in the range
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public int countInRangeVector() {
+        return primitive.countInRange(250_000, 749_999);
+    }
+
+    /**
+     * Sums the array with a single accumulator.
+     * @return the sum
+     */
+    @Benchmark
+    public long sumLoop() {
+        long sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the primitive list with four accumulators.
+     * @return the sum
+     */
+    @Benchmark
+    public long sumPrimitive() {
+        return primitive.sum();
+    }
+
+    /**
+     * Sums the primitive list with the Vector API kernel.
+     * @return the sum
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public long sumVector() {
+        return primitive.sum();
+    }
+
+    /**
+     * Finds the maximum of the array with a single accumulator.
+     * @return the maximum
+     */
+    @Benchmark
+    public int maxLoop() {
+        int max = values[0];
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * Finds the maximum of the primitive list with two accumulators.
+     * @return the maximum
+     */
+    @Benchmark
+    public int maxPrimitive() {
+        return primitive.max();
+    }
+
+    /**
+     * Finds the maximum of the primitive list with the Vector API kernel.
+     * @return the maximum
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public int maxVector() {
+        return primitive.max();
+    }
+}
@@ -0,0 +1,95 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the k least elements after a full sort with partialSort, topK and select.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionBenchmark {
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"100"})
+    public int k;
+
+    /** The unsorted elements. */
+    private Integer[] elements;
+    /** A fresh unsorted copy for every invocation. */
+    private MyArrayList<Integer> list;
+
+    /**
+     * Creates the elements.
+     */
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.elements("random", size, 42);
+    }
+
+    /**
+     * Restores the unsorted order before every invocation.
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        list = new MyArrayList<>(size);
+        list.addAll(elements, 0, size);
+    }
+
+    /**
+     * Sorts the whole list and reads the first k elements.
+     * @return the k-th least element
+     */
+    @Benchmark
+    public Integer fullSort() {
+        list.sort(Comparator.naturalOrder());
+        return list.get(k - 1);
+    }
+
+    /**
+     * Sorts only the first k elements in place.
+     * @return the k-th least element
+     */
+    @Benchmark
+    public Integer partialSort() {
+        list.partialSort(k, Comparator.naturalOrder());
+        return list.get(k - 1);
+    }
+
+    /**
+     * Collects the k least elements with a bounded heap, leaving the list unchanged.
+     * @return the k-th least element
+     */
+    @Benchmark
+    public Integer topK() {
+        return list.topK(k, Comparator.naturalOrder()).get(k - 1);
+    }
+
+    /**
+     * Selects the k-th least element in place.
+     * @return the k-th least element
+     */
+    @Benchmark
+    public Integer select() {
+        return list.select(k - 1, Comparator.naturalOrder());
+    }
+}
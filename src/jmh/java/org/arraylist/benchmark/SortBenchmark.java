@@ -0,0 +1,86 @@
+package org.arraylist.benchmark;
+
+import org.arraylist.MyArrayList;
+import org.arraylist.MyList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sort on sorted, reverse, random and duplicate-heavy input, for MyArrayList against java.util.ArrayList,
+ * and the parallel sort of MyArrayList. The list is refilled before every invocation, which JMH only measures
+ * reliably for invocations that take well over a millisecond; the smallest sizes are indicative only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+    @Param({BenchmarkData.MY_ARRAY_LIST, BenchmarkData.ARRAY_LIST})
+    public String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"sorted", "reverse", "random", "duplicates"})
+    public String distribution;
+
+    /** The unsorted elements. */
+    private Integer[] elements;
+    /** The list being sorted. */
+    private MyList<Integer> list;
+
+    /**
+     * Creates the input data.
+     */
+    @Setup(Level.Trial)
+    public void createElements() {
+        elements = BenchmarkData.elements(distribution, size, 42);
+    }
+
+    /**
+     * Refills the list with the unsorted elements.
+     */
+    @Setup(Level.Invocation)
+    public void fillList() {
+        list = BenchmarkData.filledList(implementation, elements);
+    }
+
+    /**
+     * Sorts the list sequentially.
+     * @return the sorted list
+     */
+    @Benchmark
+    public MyList<Integer> sort() {
+        list.sort(Comparator.naturalOrder());
+        return list;
+    }
+
+    /**
+     * Sorts the list in the common fork-join pool; java.util.ArrayList has no parallel sort and is sorted sequentially.
+     * @return the sorted list
+     */
+    @Benchmark
+    public MyList<Integer> parallelSort() {
+        if (list instanceof MyArrayList) {
+            ((MyArrayList<Integer>) list).parallelSort(Comparator.naturalOrder());
+        } else {
+            list.sort(Comparator.naturalOrder());
+        }
+        return list;
+    }
+}
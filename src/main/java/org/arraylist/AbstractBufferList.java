@@ -0,0 +1,376 @@
+package org.arraylist;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * AbstractBufferList is the base of the lists that store their elements as fixed-width records in ByteBuffers.
+ * Elements are converted to and from bytes by an {@link ElementCodec}, which means every get returns a new object
+ * and null elements are only supported if the codec supports them.
+ * <p>
+ * The elements are kept in segments of {@code 1 << shift} elements each, so the segment of an index is
+ * {@code index >>> shift} and its record starts at byte {@code (index & mask) * elementSize} of that segment, like
+ * the slots of SegmentedList. Only the last segment may be shorter. A list with {@link #UNSEGMENTED_SHIFT} keeps all
+ * its elements in one buffer of any capacity. Subclasses decide where the segments live and how they are added,
+ * resized and released.
+ * @param <T> the type of objects to be stored in the list
+ */
+abstract class AbstractBufferList<T> implements MyList<T> {
+    /** The size of the scratch array used to move elements inside the buffer. */
+    private static final int MOVE_CHUNK_BYTES = 8192;
+    /** The segment shift of a list that stores all its elements in a single buffer. */
+    static final int UNSEGMENTED_SHIFT = 31;
+
+    /** The codec that converts elements to and from bytes. */
+    private final ElementCodec<T> codec;
+    /** The number of bytes taken by every element. */
+    private final int elementSize;
+    /** The number of index bits within a segment. */
+    private final int shift;
+    /** The mask of the index bits within a segment. */
+    private final int mask;
+    /** The segments that store the elements, or null once the list is closed. */
+    private ByteBuffer[] segments;
+    /** The number of elements currently stored in the list. */
+    private int size;
+
+    /**
+     * Creates a list that stores its elements with the specified codec in segments of {@code 1 << shift} elements.
+     * @param codec the codec that converts elements to and from bytes
+     * @param shift the number of index bits within a segment, or UNSEGMENTED_SHIFT for a single buffer
+     * @throws IllegalArgumentException if the element size of the codec is negative or 0
+     */
+    AbstractBufferList(ElementCodec<T> codec, int shift) {
+        this.codec = Objects.requireNonNull(codec);
+        this.elementSize = codec.size();
+        if (elementSize <= 0) {
+            throw new IllegalArgumentException("Illegal element size: " + elementSize);
+        }
+        this.shift = shift;
+        this.mask = (int) ((1L << shift) - 1);
+    }
+
+    /**
+     * Sets the segments that store the elements and the number of elements they already contain.
+     * @param segments the segments that store the elements
+     * @param size     the number of elements in the segments
+     */
+    final void init(ByteBuffer[] segments, int size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     * @param element the element to be added
+     */
+    public void add(T element) {
+        grow(size + 1);
+        codec.write(segment(size), offset(size), element);
+        setSize(size + 1);
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        grow(size + 1);
+        moveElements(index, index + 1, size - index);
+        codec.write(segment(index), offset(index), element);
+        setSize(size + 1);
+    }
+
+    /**
+     * Adds all elements from the specified collection to the end of the list.
+     * @param collection the collection containing the elements to be added
+     */
+    public void addAll(Collection<? extends T> collection) {
+        grow(size + collection.size());
+        for (T element : collection) {
+            add(element);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in the list with the specified element.
+     * @param index   the index of the element to be replaced
+     * @param element the replacement element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        codec.write(segment(index), offset(index), element);
+    }
+
+    /**
+     * Removes the element at the specified position in the list.
+     * @param index the index of the element to be removed
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        T removedElement = codec.read(segment(index), offset(index));
+        moveElements(index + 1, index, size - index - 1);
+        setSize(size - 1);
+        return removedElement;
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     * @param index the index of the element to retrieve
+     * @return the element at the specified position in the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return codec.read(segment(index), offset(index));
+    }
+
+    /**
+     * Returns true if the list contains the specified element, false otherwise.
+     * @param element the element to be checked for containment in the list
+     * @return true if the list contains the specified element, false otherwise
+     */
+    public boolean contains(T element) {
+        ByteBuffer[] data = segments();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(codec.read(data[i >>> shift], offset(i)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all the elements from this list. The segments are kept, as they hold no references.
+     */
+    public void clear() {
+        segments();
+        setSize(0);
+    }
+
+    /**
+     * Sorts the elements in the list with the specified comparator.
+     * The elements are decoded into a temporary heap array, sorted with the same stable sort as MyArrayList
+     * and written back.
+     * @param comparator the comparator to determine the order of the elements
+     */
+    public void sort(Comparator<? super T> comparator) {
+        ByteBuffer[] data = segments();
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = codec.read(data[i >>> shift], offset(i));
+        }
+        TimSort.sort(elements, 0, size, comparator);
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[i];
+            codec.write(data[i >>> shift], offset(i), element);
+        }
+    }
+
+    /**
+     * Detaches the segments from the list, after which the list behaves as closed.
+     * @return the segments that stored the elements, or null if the list was already closed
+     */
+    final ByteBuffer[] detach() {
+        ByteBuffer[] data = segments;
+        segments = null;
+        size = 0;
+        return data;
+    }
+
+    /**
+     * Updates the number of elements in the list.
+     * @param size the new number of elements
+     */
+    private void setSize(int size) {
+        this.size = size;
+        sizeChanged(size);
+    }
+
+    /**
+     * Called after every change of the number of elements. The default implementation does nothing.
+     * @param size the new number of elements
+     */
+    void sizeChanged(int size) {
+    }
+
+    /**
+     * Returns segments that hold at least the specified number of elements and start with the elements of the
+     * current segments. Segments that are not returned are released by this method and are not used afterwards.
+     * @param current     the segments that store the elements
+     * @param minCapacity the required capacity, in elements, which does not exceed maxCapacity()
+     * @return the new segments
+     */
+    abstract ByteBuffer[] resize(ByteBuffer[] current, int minCapacity);
+
+    /**
+     * Returns the segments that store the elements.
+     * @return the segments that store the elements
+     * @throws IllegalStateException if the list is closed
+     */
+    private ByteBuffer[] segments() {
+        ByteBuffer[] data = segments;
+        if (data == null) {
+            throw new IllegalStateException("List is closed");
+        }
+        return data;
+    }
+
+    /**
+     * Returns the segment that stores the element at the specified index.
+     * @param index the index of the element
+     * @return the segment of the element
+     * @throws IllegalStateException if the list is closed
+     */
+    private ByteBuffer segment(int index) {
+        return segments()[index >>> shift];
+    }
+
+    /**
+     * Returns the byte offset of the element at the specified index within its segment.
+     * @param index the index of the element
+     * @return the byte offset of the element
+     */
+    final int offset(int index) {
+        return (index & mask) * elementSize;
+    }
+
+    /**
+     * Returns the number of elements in a full segment, or Integer.MAX_VALUE for a list kept in a single buffer.
+     * @return the capacity of a segment, in elements
+     */
+    final int segmentCapacity() {
+        return mask == Integer.MAX_VALUE ? Integer.MAX_VALUE : mask + 1;
+    }
+
+    /**
+     * Returns the number of index bits within a segment.
+     * @return the segment shift
+     */
+    final int shift() {
+        return shift;
+    }
+
+    /**
+     * Returns the number of bytes taken by every element.
+     * @return the size of an element in bytes
+     */
+    final int elementSize() {
+        return elementSize;
+    }
+
+    /**
+     * Returns the largest number of elements the list can hold.
+     * @return the maximum capacity, in elements
+     */
+    int maxCapacity() {
+        return shift == UNSEGMENTED_SHIFT ? Integer.MAX_VALUE / elementSize : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the capacity of the list for a new segment or a resized single buffer, growing the old capacity with
+     * the policy of MyArrayList and limiting it to maxCapacity().
+     * @param oldCapacity the current capacity, in elements
+     * @param minCapacity the required capacity, in elements
+     * @return the new capacity, in elements
+     */
+    final int newCapacity(int oldCapacity, int minCapacity) {
+        int newCapacity = MyArrayList.newCapacity(oldCapacity, minCapacity);
+        return newCapacity < 0 || newCapacity > maxCapacity() ? maxCapacity() : newCapacity;
+    }
+
+    /**
+     * Moves a range of elements, handling overlapping ranges. The bytes are copied through a scratch array in chunks
+     * that never cross the end of a source or destination segment.
+     * @param from   the index of the first element to be moved
+     * @param to     the index the first element is moved to
+     * @param length the number of elements to be moved
+     */
+    private void moveElements(int from, int to, int length) {
+        ByteBuffer[] data = segments();
+        if (length == 0) {
+            return;
+        }
+        int chunkElements = Math.max(1, MOVE_CHUNK_BYTES / elementSize);
+        byte[] chunk = new byte[Math.min(length, chunkElements) * elementSize];
+        if (to < from) {
+            for (int done = 0; done < length; ) {
+                int source = from + done;
+                int dest = to + done;
+                int count = Math.min(length - done, chunkElements);
+                count = Math.min(count - 1, Math.min(mask - (source & mask), mask - (dest & mask))) + 1;
+                copy(data, source, dest, count, chunk);
+                done += count;
+            }
+        } else {
+            for (int remaining = length; remaining > 0; ) {
+                int source = from + remaining - 1;
+                int dest = to + remaining - 1;
+                int count = Math.min(remaining, chunkElements);
+                count = Math.min(count - 1, Math.min(source & mask, dest & mask)) + 1;
+                copy(data, source - count + 1, dest - count + 1, count, chunk);
+                remaining -= count;
+            }
+        }
+    }
+
+    /**
+     * Copies elements that lie within one source segment to a range within one destination segment.
+     * @param data   the segments that store the elements
+     * @param source the index of the first element to be copied
+     * @param dest   the index the first element is copied to
+     * @param count  the number of elements to be copied
+     * @param chunk  the scratch array, which holds at least count elements
+     */
+    private void copy(ByteBuffer[] data, int source, int dest, int count, byte[] chunk) {
+        int bytes = count * elementSize;
+        ByteBuffer reader = data[source >>> shift].duplicate();
+        reader.position(offset(source));
+        reader.get(chunk, 0, bytes);
+        ByteBuffer writer = data[dest >>> shift].duplicate();
+        writer.position(offset(dest));
+        writer.put(chunk, 0, bytes);
+    }
+
+    /**
+     * Increases the capacity of the list if necessary, ensuring that it can accommodate a minimum number of elements.
+     * @param minCapacity the desired minimum capacity
+     * @throws OutOfMemoryError if the required capacity exceeds maxCapacity()
+     */
+    private void grow(int minCapacity) {
+        ByteBuffer[] data = segments();
+        ByteBuffer last = data[data.length - 1];
+        long capacity = ((long) (data.length - 1) << shift) + last.capacity() / elementSize;
+        if (minCapacity > capacity) {
+            if (minCapacity < 0 || minCapacity > maxCapacity()) {
+                throw new OutOfMemoryError("Required capacity exceeds the maximum list size: " + minCapacity);
+            }
+            segments = resize(data, minCapacity);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
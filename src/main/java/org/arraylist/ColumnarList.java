@@ -0,0 +1,1065 @@
+package org.arraylist;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * ColumnarList is a MyList of records that stores every field of the records in its own array, as described by a
+ * {@link Schema}. Int, long and double fields are stored in primitive arrays, other fields in object arrays, so the
+ * records themselves are not kept and carry no object header or pointer per element.
+ * <p>
+ * Row operations take records: {@link #add(Object)} and {@link #set(int, Object)} split a record into its fields,
+ * and {@link #get(int)} builds a new record from them with the factory of the schema, so records returned by get
+ * are copies. Column operations read one array only: {@link #getInt(int, int)} and the other typed getters, the
+ * sums, {@link #countInRange(int, long, long)} and {@link #sortedPermutation(int)}. All columns grow together with
+ * the policy of MyArrayList.
+ * <p>
+ * contains, indexOf and sort with a comparator build every record they look at, so they are as slow as on a list of
+ * records and should be replaced by column operations where possible.
+ * @param <T> the type of the records
+ */
+public class ColumnarList<T> implements MyList<T> {
+    /** The default capacity of the columns. */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** The schema that describes the columns. */
+    private final Schema<T> schema;
+    /** The columns, in the order of the schema. */
+    private final Column<T>[] columns;
+    /** The capacity of every column. */
+    private int capacity;
+    /** The number of records in the list. */
+    private int size;
+
+    /**
+     * This constructor creates an empty ColumnarList with the specified schema and a default capacity of 10.
+     * @param schema the schema that describes the columns
+     */
+    public ColumnarList(Schema<T> schema) {
+        this(schema, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an empty ColumnarList with the specified schema and a specific capacity.
+     * @param schema          the schema that describes the columns
+     * @param initialCapacity the initial capacity of every column
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     * @throws IllegalStateException    if the schema has not been completed with {@link Schema#build(Function)}
+     */
+    public ColumnarList(Schema<T> schema, int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        if (schema.factory == null) {
+            throw new IllegalStateException("Schema has not been built");
+        }
+        this.schema = schema;
+        this.columns = newColumns(schema.columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = schema.columns[i].newColumn(initialCapacity);
+        }
+        this.capacity = initialCapacity;
+    }
+
+    /**
+     * Returns a new schema builder for records of the specified type.
+     * @param <T> the type of the records
+     * @return a schema builder without columns
+     */
+    public static <T> Schema<T> schema() {
+        return new Schema<>();
+    }
+
+    /**
+     * Returns the schema of the list.
+     * @return the schema of the list
+     */
+    public Schema<T> getSchema() {
+        return schema;
+    }
+
+    /**
+     * Adds the specified record to the end of the list.
+     * @param element the record to be added
+     */
+    @Override
+    public void add(T element) {
+        read(element);
+        grow(size + 1);
+        write(size);
+        size++;
+    }
+
+    /**
+     * Inserts the specified record at the specified position in the list, shifting every column once.
+     * The fields are read before any column is changed, so a record that cannot be read leaves the list unchanged.
+     * @param index   the index at which the record is to be inserted
+     * @param element the record to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        read(element);
+        grow(size + 1);
+        for (Column<T> column : columns) {
+            Object array = column.array();
+            System.arraycopy(array, index, array, index + 1, size - index);
+        }
+        write(index);
+        size++;
+    }
+
+    /**
+     * Adds all records from the specified collection to the end of the list, growing the columns once.
+     * @param collection the collection containing the records to be added
+     */
+    @Override
+    public void addAll(Collection<? extends T> collection) {
+        grow(size + collection.size());
+        for (T element : collection) {
+            add(element);
+        }
+    }
+
+    /**
+     * Returns a new record built from the fields at the specified position.
+     * @param index the index of the record to retrieve
+     * @return a new record with the fields at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return schema.factory.apply(new Row(this, index));
+    }
+
+    /**
+     * Removes the record at the specified position in the list, shifting every column once.
+     * @param index the index of the record to be removed
+     * @return a record built from the removed fields
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    public T remove(int index) {
+        T removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    /**
+     * Removes the records whose index is between fromIndex, inclusive, and toIndex, exclusive,
+     * with one array copy per column.
+     * @param fromIndex the index of the first record to be removed
+     * @param toIndex   the index after the last record to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        int newSize = size - (toIndex - fromIndex);
+        for (Column<T> column : columns) {
+            Object array = column.array();
+            System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+            column.clear(newSize, size);
+        }
+        size = newSize;
+    }
+
+    /**
+     * Removes all the records of the list that satisfy the specified predicate. Every record is built to be tested,
+     * and the kept rows are then gathered in every column with a single pass.
+     * @param filter the predicate that returns true for the records to be removed
+     * @return true if any record was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int[] kept = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!filter.test(get(i))) {
+                kept[count++] = i;
+            }
+        }
+        if (count == size) {
+            return false;
+        }
+        gather(kept, count);
+        return true;
+    }
+
+    /**
+     * Replaces the record at the specified position with the fields of the specified record.
+     * All fields are read before any is written, so a record that cannot be read leaves the list unchanged.
+     * @param index   the index of the record to be replaced
+     * @param element the record whose fields are to be stored
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        read(element);
+        write(index);
+    }
+
+    /**
+     * Returns true if the list contains a record equal to the specified record. Every record is built to be compared.
+     * @param element the record to be checked for containment in the list
+     * @return true if the list contains the specified record, false otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Removes all the records from this list, nulling only the used slots of the object columns.
+     */
+    @Override
+    public void clear() {
+        for (Column<T> column : columns) {
+            column.clear(0, size);
+        }
+        size = 0;
+    }
+
+    /**
+     * Sorts the records with the specified comparator. The records are built once, their positions are sorted
+     * with the same stable sort as MyArrayList and every column is then permuted once.
+     * @param comparator the comparator to determine the order of the records
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        Object[] records = new Object[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            records[i] = get(i);
+            order[i] = i;
+        }
+        @SuppressWarnings("unchecked")
+        Comparator<Integer> byRecord = (a, b) -> comparator.compare((T) records[a], (T) records[b]);
+        TimSort.sort(order, 0, size, byRecord);
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = order[i];
+        }
+        gather(permutation, size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the int field of the specified column at the specified position.
+     * @param index  the index of the record
+     * @param column the index of an int column
+     * @return the field
+     * @throws IndexOutOfBoundsException if the index or the column is out of range
+     * @throws IllegalArgumentException  if the column is not an int column
+     */
+    public int getInt(int index, int column) {
+        Objects.checkIndex(index, size);
+        return ((IntColumn<T>) column(column, ColumnType.INT)).data[index];
+    }
+
+    /**
+     * Returns the long field of the specified column at the specified position.
+     * @param index  the index of the record
+     * @param column the index of a long column
+     * @return the field
+     * @throws IndexOutOfBoundsException if the index or the column is out of range
+     * @throws IllegalArgumentException  if the column is not a long column
+     */
+    public long getLong(int index, int column) {
+        Objects.checkIndex(index, size);
+        return ((LongColumn<T>) column(column, ColumnType.LONG)).data[index];
+    }
+
+    /**
+     * Returns the double field of the specified column at the specified position.
+     * @param index  the index of the record
+     * @param column the index of a double column
+     * @return the field
+     * @throws IndexOutOfBoundsException if the index or the column is out of range
+     * @throws IllegalArgumentException  if the column is not a double column
+     */
+    public double getDouble(int index, int column) {
+        Objects.checkIndex(index, size);
+        return ((DoubleColumn<T>) column(column, ColumnType.DOUBLE)).data[index];
+    }
+
+    /**
+     * Returns the field of the specified object column at the specified position.
+     * @param index  the index of the record
+     * @param column the index of an object column
+     * @return the field
+     * @throws IndexOutOfBoundsException if the index or the column is out of range
+     * @throws IllegalArgumentException  if the column is not an object column
+     */
+    public Object getObject(int index, int column) {
+        Objects.checkIndex(index, size);
+        return ((ObjectColumn<T>) column(column, ColumnType.OBJECT)).data[index];
+    }
+
+    /**
+     * Returns the sum of an int or long column.
+     * @param column the index of an int or long column
+     * @return the sum of the fields, wrapping around on overflow
+     * @throws IndexOutOfBoundsException if the column is out of range
+     * @throws IllegalArgumentException  if the column is neither an int nor a long column
+     */
+    public long sum(int column) {
+        Column<T> c = column(column, null);
+        if (c.type() == ColumnType.INT) {
+            return PrimitiveKernels.sum(((IntColumn<T>) c).data, size);
+        }
+        return PrimitiveKernels.sum(((LongColumn<T>) column(column, ColumnType.LONG)).data, size);
+    }
+
+    /**
+     * Returns the sum of a double column.
+     * @param column the index of a double column
+     * @return the sum of the fields
+     * @throws IndexOutOfBoundsException if the column is out of range
+     * @throws IllegalArgumentException  if the column is not a double column
+     */
+    public double sumDouble(int column) {
+        return PrimitiveKernels.sum(((DoubleColumn<T>) column(column, ColumnType.DOUBLE)).data, size);
+    }
+
+    /**
+     * Returns the number of records whose int or long field in the specified column is between low and high,
+     * both inclusive.
+     * @param column the index of an int or long column
+     * @param low    the lowest value to count
+     * @param high   the highest value to count
+     * @return the number of fields in the range, or 0 if low is greater than high
+     * @throws IndexOutOfBoundsException if the column is out of range
+     * @throws IllegalArgumentException  if the column is neither an int nor a long column
+     */
+    public int countInRange(int column, long low, long high) {
+        Column<T> c = column(column, null);
+        if (c.type() == ColumnType.INT) {
+            if (low > high || low > Integer.MAX_VALUE || high < Integer.MIN_VALUE) {
+                return 0;
+            }
+            return PrimitiveKernels.countInRange(((IntColumn<T>) c).data, size,
+                    (int) Math.max(low, Integer.MIN_VALUE), (int) Math.min(high, Integer.MAX_VALUE));
+        }
+        return PrimitiveKernels.countInRange(((LongColumn<T>) column(column, ColumnType.LONG)).data, size, low, high);
+    }
+
+    /**
+     * Returns the number of records whose double field in the specified column is between low and high,
+     * both inclusive.
+     * @param column the index of a double column
+     * @param low    the lowest value to count
+     * @param high   the highest value to count
+     * @return the number of fields in the range
+     * @throws IndexOutOfBoundsException if the column is out of range
+     * @throws IllegalArgumentException  if the column is not a double column
+     */
+    public int countInRange(int column, double low, double high) {
+        return PrimitiveKernels.countInRange(((DoubleColumn<T>) column(column, ColumnType.DOUBLE)).data, size,
+                low, high);
+    }
+
+    /**
+     * Returns the positions of the records in the order of the fields of the specified column, without changing the
+     * list: element i of the result is the index of the record that comes i-th. The order is stable; primitive
+     * columns use their natural order (Double.compare for doubles), object columns use the natural order of their
+     * fields, which must be Comparable.
+     * @param column the index of the column to sort by
+     * @return the sorted positions
+     * @throws IndexOutOfBoundsException if the column is out of range
+     */
+    public int[] sortedPermutation(int column) {
+        Column<T> c = column(column, null);
+        int[] permutation = new int[size];
+        if (c.type() == ColumnType.INT) {
+            int[] data = ((IntColumn<T>) c).data;
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = (long) data[i] << 32 | i;
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < size; i++) {
+                permutation[i] = (int) keys[i];
+            }
+            return permutation;
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        TimSort.sort(order, 0, size, c::compare);
+        for (int i = 0; i < size; i++) {
+            permutation[i] = order[i];
+        }
+        return permutation;
+    }
+
+    /**
+     * Sorts the records by the fields of the specified column in the order of {@link #sortedPermutation(int)},
+     * permuting every column once. The records are never built.
+     * @param column the index of the column to sort by
+     * @throws IndexOutOfBoundsException if the column is out of range
+     */
+    public void sortByColumn(int column) {
+        gather(sortedPermutation(column), size);
+    }
+
+    /**
+     * Returns the column at the specified index after checking its type.
+     * @param column the index of the column
+     * @param type   the required type, or null for any type
+     * @return the column
+     * @throws IndexOutOfBoundsException if the column is out of range
+     * @throws IllegalArgumentException  if the column has another type
+     */
+    private Column<T> column(int column, ColumnType type) {
+        Column<T> c = columns[Objects.checkIndex(column, columns.length)];
+        if (type != null && c.type() != type) {
+            throw new IllegalArgumentException("Column " + c.name + " is not a " + type + " column");
+        }
+        return c;
+    }
+
+    /**
+     * Reads the fields of the specified record into every column without storing them yet.
+     * @param element the record
+     * @throws NullPointerException if the record is null
+     */
+    private void read(T element) {
+        Objects.requireNonNull(element);
+        for (Column<T> column : columns) {
+            column.read(element);
+        }
+    }
+
+    /**
+     * Stores the fields read by {@link #read(Object)} at the specified position of every column.
+     * @param index the checked index
+     */
+    private void write(int index) {
+        for (Column<T> column : columns) {
+            column.write(index);
+        }
+    }
+
+    /**
+     * Returns a new array for the specified number of columns.
+     * @param length the number of columns
+     * @param <T>    the type of the records
+     * @return the new array
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Column<T>[] newColumns(int length) {
+        return (Column<T>[]) new Column<?>[length];
+    }
+
+    /**
+     * Replaces every column with the rows at the specified positions, in order, and sets the size to their number.
+     * @param rows  the positions of the rows to keep
+     * @param count the number of rows to keep
+     */
+    private void gather(int[] rows, int count) {
+        for (Column<T> column : columns) {
+            column.gather(rows, count, capacity);
+        }
+        size = count;
+    }
+
+    /**
+     * Increases the capacity of every column if necessary, with the growth policy of MyArrayList.
+     * @param minCapacity the desired minimum capacity
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity > capacity) {
+            capacity = MyArrayList.newCapacity(capacity, minCapacity);
+            for (Column<T> column : columns) {
+                column.resize(capacity);
+            }
+        }
+    }
+
+    /**
+     * ColumnType is the type of the array a column is stored in.
+     */
+    public enum ColumnType {
+        /** The fields are stored in an int array. */
+        INT,
+        /** The fields are stored in a long array. */
+        LONG,
+        /** The fields are stored in a double array. */
+        DOUBLE,
+        /** The fields are stored in an object array. */
+        OBJECT
+    }
+
+    /**
+     * Schema describes the columns of a ColumnarList: how to read every field from a record and how to build a record
+     * from its fields. Columns are numbered in the order they are added. A schema is built once and can be shared by
+     * any number of lists.
+     * @param <T> the type of the records
+     */
+    public static final class Schema<T> {
+        /** The prototypes of the columns, which hold the names and the field readers. */
+        private Column<T>[] columns;
+        /** Builds a record from its fields, or null while the schema is being built. */
+        private Function<Row, T> factory;
+
+        /**
+         * Creates a schema without columns.
+         */
+        private Schema() {
+            this.columns = newColumns(0);
+        }
+
+        /**
+         * Adds a column stored in an int array.
+         * @param name   the name of the column
+         * @param reader reads the field from a record
+         * @return this schema
+         */
+        public Schema<T> intColumn(String name, ToIntFunction<? super T> reader) {
+            return addColumn(new IntColumn<>(name, Objects.requireNonNull(reader), 0));
+        }
+
+        /**
+         * Adds a column stored in a long array.
+         * @param name   the name of the column
+         * @param reader reads the field from a record
+         * @return this schema
+         */
+        public Schema<T> longColumn(String name, ToLongFunction<? super T> reader) {
+            return addColumn(new LongColumn<>(name, Objects.requireNonNull(reader), 0));
+        }
+
+        /**
+         * Adds a column stored in a double array.
+         * @param name   the name of the column
+         * @param reader reads the field from a record
+         * @return this schema
+         */
+        public Schema<T> doubleColumn(String name, ToDoubleFunction<? super T> reader) {
+            return addColumn(new DoubleColumn<>(name, Objects.requireNonNull(reader), 0));
+        }
+
+        /**
+         * Adds a column stored in an object array.
+         * @param name   the name of the column
+         * @param reader reads the field from a record
+         * @return this schema
+         */
+        public Schema<T> objectColumn(String name, Function<? super T, ?> reader) {
+            return addColumn(new ObjectColumn<>(name, Objects.requireNonNull(reader), 0));
+        }
+
+        /**
+         * Completes the schema with the function that builds a record from its fields.
+         * @param factory builds a record from the fields of a row
+         * @return this schema
+         * @throws IllegalStateException if the schema has already been completed
+         */
+        public Schema<T> build(Function<Row, T> factory) {
+            checkNotBuilt();
+            this.factory = Objects.requireNonNull(factory);
+            return this;
+        }
+
+        /**
+         * Returns the number of columns.
+         * @return the number of columns
+         */
+        public int columnCount() {
+            return columns.length;
+        }
+
+        /**
+         * Returns the index of the column with the specified name, or -1 if there is none.
+         * @param name the name of the column
+         * @return the index of the column, or -1
+         */
+        public int columnIndex(String name) {
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i].name.equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the type of the column at the specified index.
+         * @param column the index of the column
+         * @return the type of the column
+         * @throws IndexOutOfBoundsException if the column is out of range
+         */
+        public ColumnType columnType(int column) {
+            return columns[Objects.checkIndex(column, columns.length)].type();
+        }
+
+        /**
+         * Adds a column to the schema.
+         * @param column the prototype of the column
+         * @return this schema
+         * @throws IllegalStateException    if the schema has already been completed
+         * @throws IllegalArgumentException if there already is a column with the same name
+         */
+        private Schema<T> addColumn(Column<T> column) {
+            checkNotBuilt();
+            if (columnIndex(column.name) >= 0) {
+                throw new IllegalArgumentException("Duplicate column: " + column.name);
+            }
+            columns = Arrays.copyOf(columns, columns.length + 1);
+            columns[columns.length - 1] = column;
+            return this;
+        }
+
+        /**
+         * Throws an exception if the schema has already been completed.
+         * @throws IllegalStateException if the schema has already been completed
+         */
+        private void checkNotBuilt() {
+            if (factory != null) {
+                throw new IllegalStateException("Schema has already been built");
+            }
+        }
+    }
+
+    /**
+     * Row gives the factory of a schema the fields of one record, by column index.
+     */
+    public static final class Row {
+        /** The list the record belongs to. */
+        private final ColumnarList<?> list;
+        /** The index of the record. */
+        private final int index;
+
+        /**
+         * Creates a row for the record at the specified position.
+         * @param list  the list the record belongs to
+         * @param index the checked index of the record
+         */
+        private Row(ColumnarList<?> list, int index) {
+            this.list = list;
+            this.index = index;
+        }
+
+        /**
+         * Returns the field of the specified int column.
+         * @param column the index of an int column
+         * @return the field
+         */
+        public int getInt(int column) {
+            return ((IntColumn<?>) list.column(column, ColumnType.INT)).data[index];
+        }
+
+        /**
+         * Returns the field of the specified long column.
+         * @param column the index of a long column
+         * @return the field
+         */
+        public long getLong(int column) {
+            return ((LongColumn<?>) list.column(column, ColumnType.LONG)).data[index];
+        }
+
+        /**
+         * Returns the field of the specified double column.
+         * @param column the index of a double column
+         * @return the field
+         */
+        public double getDouble(int column) {
+            return ((DoubleColumn<?>) list.column(column, ColumnType.DOUBLE)).data[index];
+        }
+
+        /**
+         * Returns the field of the specified object column.
+         * @param column the index of an object column
+         * @return the field
+         */
+        public Object getObject(int column) {
+            return ((ObjectColumn<?>) list.column(column, ColumnType.OBJECT)).data[index];
+        }
+    }
+
+    /**
+     * Column stores one field of the records in an array. The column in a schema is a prototype with an empty array
+     * from which the columns of every list are created.
+     * @param <T> the type of the records
+     */
+    private abstract static class Column<T> {
+        /** The name of the column. */
+        final String name;
+
+        /**
+         * Creates a column with the specified name.
+         * @param name the name of the column
+         */
+        Column(String name) {
+            this.name = Objects.requireNonNull(name);
+        }
+
+        /**
+         * Returns the type of the column.
+         * @return the type of the column
+         */
+        abstract ColumnType type();
+
+        /**
+         * Returns a new column with the same name and reader and an array of the specified length.
+         * @param capacity the length of the array
+         * @return the new column
+         */
+        abstract Column<T> newColumn(int capacity);
+
+        /**
+         * Returns the array the fields are stored in.
+         * @return the array
+         */
+        abstract Object array();
+
+        /**
+         * Replaces the array with a copy of the specified length.
+         * @param capacity the new length
+         */
+        abstract void resize(int capacity);
+
+        /**
+         * Reads the field from the specified record and keeps it until the next {@link #write(int)}.
+         * @param record the record
+         */
+        abstract void read(T record);
+
+        /**
+         * Stores the field kept by the last {@link #read(Object)} at the specified position.
+         * @param index the position
+         */
+        abstract void write(int index);
+
+        /**
+         * Releases the references in the specified range; only object columns hold any.
+         * @param from the first position
+         * @param to   the position after the last one
+         */
+        void clear(int from, int to) {
+        }
+
+        /**
+         * Replaces the array with a new one holding the fields at the specified positions, in order.
+         * @param rows     the positions of the fields to keep
+         * @param count    the number of fields to keep
+         * @param capacity the length of the new array
+         */
+        abstract void gather(int[] rows, int count, int capacity);
+
+        /**
+         * Compares the fields at two positions.
+         * @param i the first position
+         * @param j the second position
+         * @return a negative number, zero or a positive number as the first field is less than, equal to
+         *         or greater than the second
+         */
+        abstract int compare(int i, int j);
+    }
+
+    /**
+     * IntColumn stores a field in an int array.
+     * @param <T> the type of the records
+     */
+    private static final class IntColumn<T> extends Column<T> {
+        /** Reads the field from a record. */
+        private final ToIntFunction<? super T> reader;
+        /** The fields. */
+        int[] data;
+        /** The field read by the last read. */
+        private int pending;
+
+        /**
+         * Creates a column with an array of the specified length.
+         * @param name     the name of the column
+         * @param reader   reads the field from a record
+         * @param capacity the length of the array
+         */
+        IntColumn(String name, ToIntFunction<? super T> reader, int capacity) {
+            super(name);
+            this.reader = reader;
+            this.data = new int[capacity];
+        }
+
+        @Override
+        ColumnType type() {
+            return ColumnType.INT;
+        }
+
+        @Override
+        Column<T> newColumn(int capacity) {
+            return new IntColumn<>(name, reader, capacity);
+        }
+
+        @Override
+        Object array() {
+            return data;
+        }
+
+        @Override
+        void resize(int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+
+        @Override
+        void read(T record) {
+            pending = reader.applyAsInt(record);
+        }
+
+        @Override
+        void write(int index) {
+            data[index] = pending;
+        }
+
+        @Override
+        void gather(int[] rows, int count, int capacity) {
+            int[] gathered = new int[capacity];
+            for (int i = 0; i < count; i++) {
+                gathered[i] = data[rows[i]];
+            }
+            data = gathered;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return Integer.compare(data[i], data[j]);
+        }
+    }
+
+    /**
+     * LongColumn stores a field in a long array.
+     * @param <T> the type of the records
+     */
+    private static final class LongColumn<T> extends Column<T> {
+        /** Reads the field from a record. */
+        private final ToLongFunction<? super T> reader;
+        /** The fields. */
+        long[] data;
+        /** The field read by the last read. */
+        private long pending;
+
+        /**
+         * Creates a column with an array of the specified length.
+         * @param name     the name of the column
+         * @param reader   reads the field from a record
+         * @param capacity the length of the array
+         */
+        LongColumn(String name, ToLongFunction<? super T> reader, int capacity) {
+            super(name);
+            this.reader = reader;
+            this.data = new long[capacity];
+        }
+
+        @Override
+        ColumnType type() {
+            return ColumnType.LONG;
+        }
+
+        @Override
+        Column<T> newColumn(int capacity) {
+            return new LongColumn<>(name, reader, capacity);
+        }
+
+        @Override
+        Object array() {
+            return data;
+        }
+
+        @Override
+        void resize(int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+
+        @Override
+        void read(T record) {
+            pending = reader.applyAsLong(record);
+        }
+
+        @Override
+        void write(int index) {
+            data[index] = pending;
+        }
+
+        @Override
+        void gather(int[] rows, int count, int capacity) {
+            long[] gathered = new long[capacity];
+            for (int i = 0; i < count; i++) {
+                gathered[i] = data[rows[i]];
+            }
+            data = gathered;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return Long.compare(data[i], data[j]);
+        }
+    }
+
+    /**
+     * DoubleColumn stores a field in a double array.
+     * @param <T> the type of the records
+     */
+    private static final class DoubleColumn<T> extends Column<T> {
+        /** Reads the field from a record. */
+        private final ToDoubleFunction<? super T> reader;
+        /** The fields. */
+        double[] data;
+        /** The field read by the last read. */
+        private double pending;
+
+        /**
+         * Creates a column with an array of the specified length.
+         * @param name     the name of the column
+         * @param reader   reads the field from a record
+         * @param capacity the length of the array
+         */
+        DoubleColumn(String name, ToDoubleFunction<? super T> reader, int capacity) {
+            super(name);
+            this.reader = reader;
+            this.data = new double[capacity];
+        }
+
+        @Override
+        ColumnType type() {
+            return ColumnType.DOUBLE;
+        }
+
+        @Override
+        Column<T> newColumn(int capacity) {
+            return new DoubleColumn<>(name, reader, capacity);
+        }
+
+        @Override
+        Object array() {
+            return data;
+        }
+
+        @Override
+        void resize(int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+
+        @Override
+        void read(T record) {
+            pending = reader.applyAsDouble(record);
+        }
+
+        @Override
+        void write(int index) {
+            data[index] = pending;
+        }
+
+        @Override
+        void gather(int[] rows, int count, int capacity) {
+            double[] gathered = new double[capacity];
+            for (int i = 0; i < count; i++) {
+                gathered[i] = data[rows[i]];
+            }
+            data = gathered;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return Double.compare(data[i], data[j]);
+        }
+    }
+
+    /**
+     * ObjectColumn stores a field in an object array.
+     * @param <T> the type of the records
+     */
+    private static final class ObjectColumn<T> extends Column<T> {
+        /** Reads the field from a record. */
+        private final Function<? super T, ?> reader;
+        /** The fields. */
+        Object[] data;
+        /** The field read by the last read. */
+        private Object pending;
+
+        /**
+         * Creates a column with an array of the specified length.
+         * @param name     the name of the column
+         * @param reader   reads the field from a record
+         * @param capacity the length of the array
+         */
+        ObjectColumn(String name, Function<? super T, ?> reader, int capacity) {
+            super(name);
+            this.reader = reader;
+            this.data = new Object[capacity];
+        }
+
+        @Override
+        ColumnType type() {
+            return ColumnType.OBJECT;
+        }
+
+        @Override
+        Column<T> newColumn(int capacity) {
+            return new ObjectColumn<>(name, reader, capacity);
+        }
+
+        @Override
+        Object array() {
+            return data;
+        }
+
+        @Override
+        void resize(int capacity) {
+            data = Arrays.copyOf(data, capacity);
+        }
+
+        @Override
+        void read(T record) {
+            pending = reader.apply(record);
+        }
+
+        @Override
+        void write(int index) {
+            data[index] = pending;
+            pending = null;
+        }
+
+        @Override
+        void clear(int from, int to) {
+            Arrays.fill(data, from, to, null);
+        }
+
+        @Override
+        void gather(int[] rows, int count, int capacity) {
+            Object[] gathered = new Object[capacity];
+            for (int i = 0; i < count; i++) {
+                gathered[i] = data[rows[i]];
+            }
+            data = gathered;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        int compare(int i, int j) {
+            return ((Comparable) data[i]).compareTo(data[j]);
+        }
+    }
+}
@@ -0,0 +1,607 @@
+package org.arraylist;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * ConcurrentArrayList is a thread-safe MyList built for many concurrent producers.
+ * <p>
+ * The elements live in buckets whose sizes double (8, 16, 32, ...), so the list never copies its elements to grow:
+ * the first thread that needs a bucket installs it with a compare-and-set, and every other thread uses it.
+ * An append reserves its slots by advancing the size with a compare-and-set and then writes them, so any number
+ * of threads can add at the same time. {@link #get(int)} takes no lock; if it hits a slot that has been reserved
+ * but not written yet, it waits for the writer.
+ * <p>
+ * Appends and {@link #set(int, Object)} share a read lock, while the operations that move elements
+ * ({@link #add(int, Object)}, {@link #remove(int)}, {@link #sort(Comparator)} and {@link #clear()}) take the
+ * write lock. Lock-free reads running at the same time as such an operation may observe it half done.
+ * The scans and the iterators are weakly consistent: they stop where the list ends when they get there and never
+ * fail because the list shrank under them.
+ * @param <T> the type of objects to be stored in the list
+ */
+public class ConcurrentArrayList<T> implements MyList<T> {
+    /** The size of the first bucket; every next bucket is twice as large. */
+    private static final int FIRST_BUCKET_SIZE = 8;
+    /** The number of trailing zero bits of the first bucket size. */
+    private static final int FIRST_BUCKET_SHIFT = Integer.numberOfTrailingZeros(FIRST_BUCKET_SIZE);
+    /** The number of buckets, which is enough for MAX_CAPACITY elements. */
+    private static final int BUCKET_COUNT = 32 - FIRST_BUCKET_SHIFT - 1;
+    /** The maximum number of elements the list can hold. */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - FIRST_BUCKET_SIZE;
+    /** The value stored in a slot in place of a null element, as an empty slot means it has not been written yet. */
+    private static final Object NULL = new Object();
+
+    /** The buckets that store the elements; a bucket is null until it is first needed. */
+    private final AtomicReferenceArray<AtomicReferenceArray<Object>> buckets =
+            new AtomicReferenceArray<>(BUCKET_COUNT);
+    /** The number of reserved slots, which includes the slots that are still being written. */
+    private final AtomicInteger size = new AtomicInteger();
+    /** The lock that is shared by appends and taken exclusively by the operations that move elements. */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds the specified element to the end of the list.
+     * @param element the element to be added
+     */
+    public void add(T element) {
+        lock.readLock().lock();
+        try {
+            store(reserve(1), element);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public void add(int index, T element) {
+        lock.writeLock().lock();
+        try {
+            int oldSize = size.get();
+            Objects.checkIndex(index, oldSize + 1);
+            reserve(1);
+            for (int i = oldSize; i > index; i--) {
+                slots(i).set(offset(i), load(i - 1));
+            }
+            store(index, element);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds all elements from the specified collection to the end of the list.
+     * The slots for all elements are reserved at once, so the elements stay together.
+     * @param collection the collection containing the elements to be added
+     */
+    public void addAll(Collection<? extends T> collection) {
+        Object[] objects = collection.toArray();
+        if (objects.length == 0) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            append(objects);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds all elements of the specified list to the end of this list. The slots for all elements are reserved
+     * at once, so the elements stay together. The elements of another list are read with get before the lock is
+     * taken; the elements of this list are read under the read lock, so the list cannot shrink meanwhile.
+     * @param list the list containing the elements to be added, which may be this list
+     */
+    @Override
+    public void addAll(MyList<? extends T> list) {
+        Object[] objects = list == this ? null : toArray(list);
+        lock.readLock().lock();
+        try {
+            append(objects == null ? toArray(list) : objects);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in the list with the specified element.
+     * @param index   the index of the element to be replaced
+     * @param element the replacement element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public void set(int index, T element) {
+        lock.readLock().lock();
+        try {
+            Objects.checkIndex(index, size.get());
+            store(index, element);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in the list.
+     * @param index the index of the element to be removed
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public T remove(int index) {
+        lock.writeLock().lock();
+        try {
+            int oldSize = size.get();
+            Objects.checkIndex(index, oldSize);
+            T removedElement = get(index);
+            for (int i = index; i < oldSize - 1; i++) {
+                slots(i).set(offset(i), load(i + 1));
+            }
+            slots(oldSize - 1).set(offset(oldSize - 1), null);
+            size.set(oldSize - 1);
+            return removedElement;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all the elements of the list that satisfy the specified predicate in a single pass under the write lock.
+     * If the predicate throws an exception, the elements it has not been applied to are kept.
+     * @param filter the predicate that returns true for the elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        lock.writeLock().lock();
+        try {
+            int oldSize = size.get();
+            int kept = 0;
+            int i = 0;
+            try {
+                for (; i < oldSize; i++) {
+                    Object value = load(i);
+                    if (!filter.test(value == NULL ? null : (T) value)) {
+                        moveSlot(i, kept++);
+                    }
+                }
+            } finally {
+                for (; i < oldSize; i++) {
+                    moveSlot(i, kept++);
+                }
+                truncate(oldSize, kept);
+            }
+            return kept != oldSize;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive, under the write lock.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        lock.writeLock().lock();
+        try {
+            int oldSize = size.get();
+            Objects.checkFromToIndex(fromIndex, toIndex, oldSize);
+            int removed = toIndex - fromIndex;
+            for (int i = toIndex; i < oldSize; i++) {
+                moveSlot(i, i - removed);
+            }
+            truncate(oldSize, oldSize - removed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in the list. This method takes no lock.
+     * @param index the index of the element to retrieve
+     * @return the element at the specified position in the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size.get());
+        Object value = load(index);
+        return value == NULL ? null : (T) value;
+    }
+
+    /**
+     * Returns true if the list contains the specified element, false otherwise. This method takes no lock.
+     * @param element the element to be checked for containment in the list
+     * @return true if the list contains the specified element, false otherwise
+     */
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list, or -1 if there is none.
+     * This method takes no lock; the scan ends early if the list shrinks under it.
+     * @param element the element to search for, which may be null
+     * @return the index of the first occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        Object target = element == null ? NULL : element;
+        int currentSize = size.get();
+        for (int i = 0; i < currentSize; i++) {
+            Object value = tryLoad(i);
+            if (value == null) {
+                return -1;
+            }
+            if (target.equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list, or -1 if there is none.
+     * This method takes no lock; the indexes the list has shrunk below are skipped.
+     * @param element the element to search for, which may be null
+     * @return the index of the last occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        Object target = element == null ? NULL : element;
+        for (int i = size.get() - 1; i >= 0; i--) {
+            Object value = tryLoad(i);
+            if (value != null && target.equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements in the list. The iterator takes no lock, reads each
+     * element when it gets to it, ends where the list ends at that moment and does not support removal.
+     * @return an iterator over the elements in the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int cursor;
+            private Object next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = tryLoad(cursor);
+                }
+                return next != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object value = next;
+                next = null;
+                cursor++;
+                return value == NULL ? null : (T) value;
+            }
+        };
+    }
+
+    /**
+     * Returns a weakly consistent spliterator over the elements in the list, backed by {@link #iterator()}.
+     * @return a spliterator over the elements in the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Removes all the elements from this list and drops the buckets.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            size.set(0);
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sorts the elements in the list with the specified comparator, using the same stable sort as MyArrayList.
+     * @param comparator the comparator to determine the order of the elements
+     */
+    public void sort(Comparator<? super T> comparator) {
+        lock.writeLock().lock();
+        try {
+            Object[] elements = copyOut();
+            TimSort.sort(elements, 0, elements.length, comparator);
+            copyIn(elements);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reorders the list so that its first k positions hold the k least elements in sorted order, followed by the
+     * other elements in no particular order. The whole reordering runs under the write lock.
+     * @param k          the number of least elements to sort; values above size() sort the whole list
+     * @param comparator the comparator to determine the order of the elements
+     * @throws IllegalArgumentException if k is negative
+     */
+    @Override
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        lock.writeLock().lock();
+        try {
+            Object[] elements = copyOut();
+            Selection.partialSort(elements, 0, elements.length, k, comparator);
+            copyIn(elements);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the element a sort would put at position nth, reordering the list so that it is there, the elements
+     * before it are not greater and the elements after it are not less. The whole reordering runs under the write
+     * lock.
+     * @param nth        the position in sorted order of the element to select
+     * @param comparator the comparator to determine the order of the elements
+     * @return the element at position nth in sorted order
+     * @throws IndexOutOfBoundsException if nth is out of range (nth < 0 || nth >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T select(int nth, Comparator<? super T> comparator) {
+        lock.writeLock().lock();
+        try {
+            Objects.checkIndex(nth, size.get());
+            Object[] elements = copyOut();
+            Selection.select(elements, 0, elements.length, nth, comparator);
+            copyIn(elements);
+            return (T) elements[nth];
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns an array holding the elements of the list. Must be called with the write lock held.
+     * @return a new array of the elements
+     */
+    private Object[] copyOut() {
+        Object[] elements = new Object[size.get()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = get(i);
+        }
+        return elements;
+    }
+
+    /**
+     * Writes the elements of the specified array, which has size() elements, into the slots in order.
+     * Must be called with the write lock held.
+     * @param elements the elements, in the new order
+     */
+    private void copyIn(Object[] elements) {
+        for (int i = 0; i < elements.length; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[i];
+            store(i, element);
+        }
+    }
+
+    /**
+     * Reserves one block of slots at the end of the list and writes the elements into it.
+     * Must be called with the read lock held.
+     * @param objects the elements to be added
+     */
+    private void append(Object[] objects) {
+        if (objects.length == 0) {
+            return;
+        }
+        int start = reserve(objects.length);
+        for (int i = 0; i < objects.length; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) objects[i];
+            store(start + i, element);
+        }
+    }
+
+    /**
+     * Returns an array holding the elements of the specified list, read with get.
+     * @param list the list
+     * @return a new array of the elements
+     */
+    private static Object[] toArray(MyList<?> list) {
+        Object[] elements = new Object[list.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = list.get(i);
+        }
+        return elements;
+    }
+
+    /**
+     * Reserves the specified number of slots at the end of the list. The buckets of the slots are installed before
+     * the size is advanced, so a failed allocation reserves nothing and readers never wait for a slot that cannot
+     * be written. Must be called with the read lock held, so that no bucket is dropped in the meantime.
+     * @param count the number of slots to reserve
+     * @return the index of the first reserved slot
+     * @throws OutOfMemoryError if the list would exceed its maximum capacity or a bucket cannot be allocated
+     */
+    private int reserve(int count) {
+        while (true) {
+            int start = size.get();
+            if (start > MAX_CAPACITY - count) {
+                throw new OutOfMemoryError("Required capacity exceeds the maximum capacity: " + (start + (long) count));
+            }
+            for (int b = bucketIndex(start), last = bucketIndex(start + count - 1); b <= last; b++) {
+                slots((FIRST_BUCKET_SIZE << b) - FIRST_BUCKET_SIZE);
+            }
+            if (size.compareAndSet(start, start + count)) {
+                return start;
+            }
+        }
+    }
+
+    /**
+     * Copies the value of one slot into another. Must be called with the write lock held.
+     * @param from the index of the slot to be copied
+     * @param to   the index of the slot to be overwritten
+     */
+    private void moveSlot(int from, int to) {
+        if (from != to) {
+            slots(to).set(offset(to), load(from));
+        }
+    }
+
+    /**
+     * Clears the slots after the new size and publishes the new size. Must be called with the write lock held.
+     * @param oldSize the current number of elements
+     * @param newSize the new number of elements
+     */
+    private void truncate(int oldSize, int newSize) {
+        for (int i = newSize; i < oldSize; i++) {
+            slots(i).set(offset(i), null);
+        }
+        size.set(newSize);
+    }
+
+    /**
+     * Writes the element into the slot with the specified index.
+     * @param index   the index of the slot
+     * @param element the element to be written
+     */
+    private void store(int index, T element) {
+        slots(index).set(offset(index), element == null ? NULL : element);
+    }
+
+    /**
+     * Reads the slot with the specified index, waiting until it has been written.
+     * The returned value is {@link #NULL} for a null element.
+     * @param index the index of the slot
+     * @return the value of the slot
+     * @throws IndexOutOfBoundsException if the list shrinks below the index while waiting
+     */
+    private Object load(int index) {
+        Object value;
+        while ((value = tryLoad(index)) == null) {
+            Objects.checkIndex(index, size.get());
+        }
+        return value;
+    }
+
+    /**
+     * Reads the slot with the specified index, waiting until it has been written, or returns null if the index is
+     * not below the size. The returned value is {@link #NULL} for a null element.
+     * @param index the non-negative index of the slot
+     * @return the value of the slot, or null if the list ends before the index
+     */
+    private Object tryLoad(int index) {
+        int bucketIndex = bucketIndex(index);
+        int offset = offset(index);
+        while (true) {
+            AtomicReferenceArray<Object> bucket = buckets.get(bucketIndex);
+            if (bucket != null) {
+                Object value = bucket.get(offset);
+                if (value != null) {
+                    return value;
+                }
+            }
+            if (index >= size.get()) {
+                return null;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Returns the bucket that holds the slot with the specified index, installing it if it does not exist yet.
+     * @param index the index of the slot
+     * @return the bucket that holds the slot
+     */
+    private AtomicReferenceArray<Object> slots(int index) {
+        int bucketIndex = bucketIndex(index);
+        AtomicReferenceArray<Object> bucket = buckets.get(bucketIndex);
+        if (bucket == null) {
+            AtomicReferenceArray<Object> created = newBucket(FIRST_BUCKET_SIZE << bucketIndex);
+            if (buckets.compareAndSet(bucketIndex, null, created)) {
+                bucket = created;
+            } else {
+                bucket = buckets.get(bucketIndex);
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * Allocates an empty bucket.
+     * @param length the number of slots in the bucket
+     * @return the new bucket
+     */
+    AtomicReferenceArray<Object> newBucket(int length) {
+        return new AtomicReferenceArray<>(length);
+    }
+
+    /**
+     * Returns the index of the bucket that holds the slot with the specified index.
+     * @param index the index of the slot
+     * @return the index of the bucket
+     */
+    private static int bucketIndex(int index) {
+        return 31 - Integer.numberOfLeadingZeros(index + FIRST_BUCKET_SIZE) - FIRST_BUCKET_SHIFT;
+    }
+
+    /**
+     * Returns the position of the slot with the specified index inside its bucket.
+     * @param index the index of the slot
+     * @return the position inside the bucket
+     */
+    private static int offset(int index) {
+        int position = index + FIRST_BUCKET_SIZE;
+        return position ^ Integer.highestOneBit(position);
+    }
+
+    /**
+     * Returns the number of elements in this list, including the elements that are still being added.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+}
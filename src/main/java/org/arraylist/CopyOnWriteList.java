@@ -0,0 +1,344 @@
+package org.arraylist;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * CopyOnWriteList is a thread-safe MyList for data that is read far more often than it is changed.
+ * <p>
+ * Readers work on an immutable snapshot array published through a volatile field, so {@link #get(int)},
+ * {@link #contains(Object)} and iteration take no lock. Every mutator copies the snapshot, changes the copy
+ * and publishes it; mutators are serialized by a lock. To apply several changes with a single copy,
+ * use {@link #update(Consumer)}.
+ * @param <T> the type of objects to be stored in the list
+ */
+public class CopyOnWriteList<T> implements MyList<T> {
+    /** The lock that serializes the mutators. */
+    private final Object lock = new Object();
+    /** The current snapshot; its length is always the size of the list and it is never modified. */
+    private volatile Object[] snapshot = new Object[0];
+
+    /**
+     * Adds the specified element to the end of the list.
+     * @param element the element to be added
+     */
+    public void add(T element) {
+        synchronized (lock) {
+            Object[] current = snapshot;
+            Object[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = element;
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public void add(int index, T element) {
+        synchronized (lock) {
+            Object[] current = snapshot;
+            Objects.checkIndex(index, current.length + 1);
+            Object[] next = new Object[current.length + 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index, next, index + 1, current.length - index);
+            next[index] = element;
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Adds all elements from the specified collection to the end of the list.
+     * @param collection the collection containing the elements to be added
+     */
+    public void addAll(Collection<? extends T> collection) {
+        append(collection.toArray());
+    }
+
+    /**
+     * Adds all elements of the specified list to the end of this list with a single copy, published at once.
+     * The elements of another CopyOnWriteList are taken from its current snapshot; those of any other list are
+     * read with get before the lock is taken.
+     * @param list the list containing the elements to be added, which may be this list
+     */
+    @Override
+    public void addAll(MyList<? extends T> list) {
+        Object[] objects;
+        if (list instanceof CopyOnWriteList) {
+            objects = ((CopyOnWriteList<?>) list).snapshot;
+        } else {
+            objects = new Object[list.size()];
+            for (int i = 0; i < objects.length; i++) {
+                objects[i] = list.get(i);
+            }
+        }
+        append(objects);
+    }
+
+    /**
+     * Replaces the element at the specified position in the list with the specified element.
+     * @param index   the index of the element to be replaced
+     * @param element the replacement element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public void set(int index, T element) {
+        synchronized (lock) {
+            Object[] current = snapshot;
+            Objects.checkIndex(index, current.length);
+            Object[] next = current.clone();
+            next[index] = element;
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in the list.
+     * @param index the index of the element to be removed
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        synchronized (lock) {
+            Object[] current = snapshot;
+            Objects.checkIndex(index, current.length);
+            Object[] next = new Object[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            snapshot = next;
+            return (T) current[index];
+        }
+    }
+
+    /**
+     * Removes all the elements of the list that satisfy the specified predicate and publishes the result at once.
+     * @param filter the predicate that returns true for the elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        synchronized (lock) {
+            Object[] current = snapshot;
+            Object[] kept = new Object[current.length];
+            int count = 0;
+            for (Object element : current) {
+                if (!filter.test((T) element)) {
+                    kept[count++] = element;
+                }
+            }
+            if (count == current.length) {
+                return false;
+            }
+            snapshot = Arrays.copyOf(kept, count);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive,
+     * and publishes the result at once.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            Object[] current = snapshot;
+            Objects.checkFromToIndex(fromIndex, toIndex, current.length);
+            if (fromIndex == toIndex) {
+                return;
+            }
+            Object[] next = new Object[current.length - (toIndex - fromIndex)];
+            System.arraycopy(current, 0, next, 0, fromIndex);
+            System.arraycopy(current, toIndex, next, fromIndex, current.length - toIndex);
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in the list. This method takes no lock.
+     * @param index the index of the element to retrieve
+     * @return the element at the specified position in the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object[] current = snapshot;
+        Objects.checkIndex(index, current.length);
+        return (T) current[index];
+    }
+
+    /**
+     * Returns true if the list contains the specified element, false otherwise. This method takes no lock.
+     * @param element the element to be checked for containment in the list
+     * @return true if the list contains the specified element, false otherwise
+     */
+    public boolean contains(T element) {
+        for (Object candidate : snapshot) {
+            if (element.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all the elements from this list.
+     */
+    public void clear() {
+        synchronized (lock) {
+            snapshot = new Object[0];
+        }
+    }
+
+    /**
+     * Sorts the elements in the list with the specified comparator, using the same stable sort as MyArrayList.
+     * @param comparator the comparator to determine the order of the elements
+     */
+    public void sort(Comparator<? super T> comparator) {
+        synchronized (lock) {
+            Object[] next = snapshot.clone();
+            TimSort.sort(next, 0, next.length, comparator);
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Reorders the list so that its first k positions hold the k least elements in sorted order, followed by the
+     * other elements in no particular order. The reordering is done on one copy that is published at once.
+     * @param k          the number of least elements to sort; values above size() sort the whole list
+     * @param comparator the comparator to determine the order of the elements
+     * @throws IllegalArgumentException if k is negative
+     */
+    @Override
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        synchronized (lock) {
+            Object[] next = snapshot.clone();
+            Selection.partialSort(next, 0, next.length, k, comparator);
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Returns the element a sort would put at position nth, reordering the list so that it is there, the elements
+     * before it are not greater and the elements after it are not less. The reordering is done on one copy that is
+     * published at once.
+     * @param nth        the position in sorted order of the element to select
+     * @param comparator the comparator to determine the order of the elements
+     * @return the element at position nth in sorted order
+     * @throws IndexOutOfBoundsException if nth is out of range (nth < 0 || nth >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T select(int nth, Comparator<? super T> comparator) {
+        synchronized (lock) {
+            Object[] current = snapshot;
+            Objects.checkIndex(nth, current.length);
+            Object[] next = current.clone();
+            Selection.select(next, 0, next.length, nth, comparator);
+            snapshot = next;
+            return (T) next[nth];
+        }
+    }
+
+    /**
+     * Applies several changes and publishes them at once. The edits receive a private MyArrayList holding
+     * a copy of the current elements; readers see either none or all of the changes.
+     * Other mutators wait until the edits have finished, so the edits must not use this list.
+     * @param edits the changes to be applied
+     */
+    public void update(Consumer<? super MyArrayList<T>> edits) {
+        synchronized (lock) {
+            Object[] current = snapshot;
+            Object[] working = Arrays.copyOf(current, Math.max(current.length + (current.length >> 1), 10));
+            MyArrayList<T> batch = new MyArrayList<>(working, current.length);
+            edits.accept(batch);
+            snapshot = batch.toArray();
+        }
+    }
+
+    /**
+     * Publishes a copy of the snapshot with the specified elements appended.
+     * @param objects the elements to be added, which are not modified
+     */
+    private void append(Object[] objects) {
+        if (objects.length == 0) {
+            return;
+        }
+        synchronized (lock) {
+            Object[] current = snapshot;
+            Object[] next = Arrays.copyOf(current, current.length + objects.length);
+            System.arraycopy(objects, 0, next, current.length, objects.length);
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Returns an iterator over the snapshot taken when this method is called. The iterator takes no lock,
+     * never fails because of concurrent changes and does not support removal.
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] current = snapshot;
+        return new Iterator<T>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < current.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= current.length) {
+                    throw new NoSuchElementException();
+                }
+                return (T) current[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the snapshot taken when this method is called.
+     * @return a spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(snapshot, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return snapshot.length;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return snapshot.length == 0;
+    }
+}
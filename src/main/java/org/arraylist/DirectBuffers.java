@@ -0,0 +1,55 @@
+package org.arraylist;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * DirectBuffers releases the native memory of direct and mapped byte buffers without waiting for the garbage collector.
+ * It uses sun.misc.Unsafe.invokeCleaner, which is available since Java 9; if the method cannot be found
+ * the buffer is left to be released when it becomes unreachable.
+ */
+final class DirectBuffers {
+    /** The Unsafe instance, or null if it is not accessible. */
+    private static final Object UNSAFE;
+    /** The Unsafe.invokeCleaner method, or null if it is not accessible. */
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private DirectBuffers() {
+    }
+
+    /**
+     * Releases the memory of the specified direct buffer. The buffer must not be used afterwards.
+     * @param buffer the direct buffer to be released
+     */
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // the memory is released by the garbage collector instead
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.arraylist;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The ElementCodec interface describes how elements of type T are stored as fixed-width records in a ByteBuffer.
+ * Every element takes exactly {@link #size()} bytes, so the element at index i starts at byte offset i * size().
+ * @param <T> the type of the elements
+ */
+public interface ElementCodec<T> {
+    /** The codec that stores Integer values in 4 bytes. */
+    ElementCodec<Integer> INTEGER = new ElementCodec<Integer>() {
+        @Override
+        public int size() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /** The codec that stores Long values in 8 bytes. */
+    ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public int size() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /** The codec that stores Double values in 8 bytes. */
+    ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        @Override
+        public int size() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Returns the number of bytes taken by every element.
+     * @return the size of an element in bytes
+     */
+    int size();
+
+    /**
+     * Writes the element into the buffer at the specified byte offset, without changing the buffer position.
+     * @param buffer  the buffer to write to
+     * @param offset  the byte offset of the element
+     * @param element the element to be written
+     * @throws NullPointerException if the element is null and the codec cannot represent null
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Reads the element from the buffer at the specified byte offset, without changing the buffer position.
+     * @param buffer the buffer to read from
+     * @param offset the byte offset of the element
+     * @return the element read
+     */
+    T read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,263 @@
+package org.arraylist;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * GapBufferList is a MyList for editing workloads that insert and remove elements near a moving cursor.
+ * <p>
+ * The elements are stored in one array with a gap of free slots in it. The gap follows the last insertion or removal,
+ * so inserting or removing at the same position again, or close to it, only moves the elements between the old and
+ * the new position: editing at a cursor costs O(1) amortized plus O(d) for a cursor that moved d positions.
+ * {@link #get(int)} and {@link #set(int, Object)} stay O(1) with one extra comparison. Appending after an edit in the
+ * middle moves the gap to the end once. When the gap is used up, the array grows with the same 1.5x policy as
+ * MyArrayList.
+ * <p>
+ * Edits at unrelated random positions still cost O(n): the gap has to travel the distance between them, and the slots
+ * it leaves behind are cleared so that removed elements can be garbage collected. For such workloads MyArrayList
+ * is faster, because it shifts only the tail and has nothing to clear.
+ * @param <T> the type of objects to be stored in the list
+ */
+public class GapBufferList<T> implements MyList<T> {
+    /** The default capacity of the underlying array. */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** The array that stores the elements before and after the gap. */
+    private Object[] elementData;
+    /** The index of the first slot of the gap, which is also the number of elements before it. */
+    private int gapStart;
+    /** The index of the first slot after the gap. */
+    private int gapEnd;
+
+    /**
+     * This constructor creates an instance of GapBufferList with a default capacity of the array inside.
+     */
+    public GapBufferList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of GapBufferList with a specific capacity of the array inside.
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public GapBufferList(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        this.elementData = new Object[initialCapacity];
+        this.gapEnd = initialCapacity;
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     * @param element the element to be added
+     */
+    public void add(T element) {
+        add(size(), element);
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list, moving the gap there first.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size() + 1);
+        moveGap(index);
+        ensureGap(1);
+        elementData[gapStart++] = element;
+    }
+
+    /**
+     * Adds all elements from the specified collection to the end of the list.
+     * @param collection the collection containing the elements to be added
+     */
+    public void addAll(Collection<? extends T> collection) {
+        Object[] objects = collection.toArray();
+        if (objects.length != 0) {
+            moveGap(size());
+            ensureGap(objects.length);
+            System.arraycopy(objects, 0, elementData, gapStart, objects.length);
+            gapStart += objects.length;
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in the list with the specified element. The gap does not move.
+     * @param index   the index of the element to be replaced
+     * @param element the replacement element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size());
+        elementData[slot(index)] = element;
+    }
+
+    /**
+     * Removes the element at the specified position in the list, moving the gap there first.
+     * @param index the index of the element to be removed
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        Objects.checkIndex(index, size());
+        moveGap(index);
+        T removedElement = (T) elementData[gapEnd];
+        elementData[gapEnd++] = null;
+        return removedElement;
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive,
+     * by moving the gap to fromIndex and widening it.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        if (fromIndex == toIndex) {
+            return;
+        }
+        moveGap(fromIndex);
+        int newGapEnd = gapEnd + (toIndex - fromIndex);
+        Arrays.fill(elementData, gapEnd, newGapEnd, null);
+        gapEnd = newGapEnd;
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     * @param index the index of the element to retrieve
+     * @return the element at the specified position in the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        return (T) elementData[slot(index)];
+    }
+
+    /**
+     * Returns true if the list contains the specified element, false otherwise.
+     * @param element the element to be checked for containment in the list
+     * @return true if the list contains the specified element, false otherwise
+     */
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list, or -1 if there is none.
+     * The parts before and after the gap are scanned directly.
+     * @param element the element to search for, which may be null
+     * @return the index of the first occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int i = 0; i < gapStart; i++) {
+            if (Objects.equals(element, elementData[i])) {
+                return i;
+            }
+        }
+        for (int i = gapEnd; i < elementData.length; i++) {
+            if (Objects.equals(element, elementData[i])) {
+                return i - (gapEnd - gapStart);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all the elements from this list. The underlying array is kept.
+     */
+    public void clear() {
+        Arrays.fill(elementData, 0, gapStart, null);
+        Arrays.fill(elementData, gapEnd, elementData.length, null);
+        gapStart = 0;
+        gapEnd = elementData.length;
+    }
+
+    /**
+     * Sorts the elements in the list with the specified comparator, using the same stable sort as MyArrayList.
+     * The gap is moved to the end first so that the elements are contiguous.
+     * @param comparator the comparator to determine the order of the elements
+     */
+    public void sort(Comparator<? super T> comparator) {
+        moveGap(size());
+        TimSort.sort(elementData, 0, gapStart, comparator);
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return elementData.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the array slot that holds the element at the specified index.
+     * @param index the index of the element
+     * @return the slot of the element in the underlying array
+     */
+    private int slot(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Moves the gap so that it starts at the specified index, shifting only the elements between the old and
+     * the new position. The vacated slots are cleared.
+     * @param index the new start of the gap
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            int newGapEnd = gapEnd - count;
+            System.arraycopy(elementData, index, elementData, newGapEnd, count);
+            Arrays.fill(elementData, index, Math.min(gapStart, newGapEnd), null);
+            gapStart = index;
+            gapEnd = newGapEnd;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(elementData, gapEnd, elementData, gapStart, count);
+            Arrays.fill(elementData, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Grows the array if the gap is smaller than the specified number of slots. The elements after the gap are
+     * moved to the end of the new array.
+     * @param minGap the number of free slots needed
+     */
+    private void ensureGap(int minGap) {
+        int gap = gapEnd - gapStart;
+        if (gap >= minGap) {
+            return;
+        }
+        int oldCapacity = elementData.length;
+        int newCapacity = MyArrayList.newCapacity(oldCapacity, oldCapacity - gap + minGap);
+        Object[] grown = new Object[newCapacity];
+        int tail = oldCapacity - gapEnd;
+        System.arraycopy(elementData, 0, grown, 0, gapStart);
+        System.arraycopy(elementData, gapEnd, grown, newCapacity - tail, tail);
+        elementData = grown;
+        gapEnd = newCapacity - tail;
+    }
+}
@@ -0,0 +1,332 @@
+package org.arraylist;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * HashIndexedList is a MyList that keeps a hash index from every distinct element to the sorted positions
+ * it occupies, so {@link #contains(Object)}, {@link #indexOf(Object)} and {@link #lastIndexOf(Object)} take
+ * O(1) expected time instead of a linear scan. Null elements are supported.
+ * <p>
+ * The elements themselves are stored in a MyArrayList. Appends, {@link #set(int, Object)} and removal of the last
+ * element keep the index up to date in O(1) expected time (O(log k) for an element that occurs k times).
+ * Inserting or removing anywhere else shifts the positions of all later elements, so it costs O(n) like the array
+ * shift itself, but with a larger constant; sort and the bulk removals rebuild the index in O(n).
+ * <p>
+ * On a 64-bit virtual machine with compressed references the index costs about 80 bytes per distinct element
+ * (a hash map entry and a small IntArrayList) plus 4 bytes per position, on top of the list itself.
+ * @param <T> the type of objects to be stored in the list
+ */
+public class HashIndexedList<T> implements MyList<T> {
+    /** The elements in list order. */
+    private final MyArrayList<T> elements;
+    /** The sorted positions of every distinct element. */
+    private final Map<T, IntArrayList> positions = new HashMap<>();
+
+    /**
+     * This constructor creates an empty HashIndexedList.
+     */
+    public HashIndexedList() {
+        this.elements = new MyArrayList<>();
+    }
+
+    /**
+     * This constructor creates an empty HashIndexedList with a specific capacity.
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public HashIndexedList(int initialCapacity) {
+        this.elements = new MyArrayList<>(initialCapacity);
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     * @param element the element to be added
+     */
+    public void add(T element) {
+        elements.add(element);
+        positionsOf(element).add(elements.size() - 1);
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list.
+     * The positions of all later elements are shifted in the index.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public void add(int index, T element) {
+        elements.add(index, element);
+        if (index < elements.size() - 1) {
+            shiftPositions(index, 1);
+        }
+        insertPosition(positionsOf(element), index);
+    }
+
+    /**
+     * Adds all elements from the specified collection to the end of the list.
+     * @param collection the collection containing the elements to be added
+     */
+    public void addAll(Collection<? extends T> collection) {
+        elements.ensureCapacity(elements.size() + collection.size());
+        for (T element : collection) {
+            add(element);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in the list with the specified element.
+     * @param index   the index of the element to be replaced
+     * @param element the replacement element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public void set(int index, T element) {
+        T oldElement = elements.get(index);
+        elements.set(index, element);
+        removePosition(oldElement, index);
+        insertPosition(positionsOf(element), index);
+    }
+
+    /**
+     * Removes the element at the specified position in the list.
+     * The positions of all later elements are shifted in the index.
+     * @param index the index of the element to be removed
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public T remove(int index) {
+        T removedElement = elements.remove(index);
+        removePosition(removedElement, index);
+        if (index < elements.size()) {
+            shiftPositions(index + 1, -1);
+        }
+        return removedElement;
+    }
+
+    /**
+     * Removes all the elements of the list that satisfy the specified predicate and rebuilds the index.
+     * @param filter the predicate that returns true for the elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = elements.removeIf(filter);
+        if (removed) {
+            rebuildIndex();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive,
+     * and rebuilds the index.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        elements.removeRange(fromIndex, toIndex);
+        if (fromIndex != toIndex) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     * @param index the index of the element to retrieve
+     * @return the element at the specified position in the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Returns true if the list contains the specified element, false otherwise. This is a single hash lookup.
+     * @param element the element to be checked for containment in the list
+     * @return true if the list contains the specified element, false otherwise
+     */
+    public boolean contains(T element) {
+        return positions.containsKey(element);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list, or -1 if there is none.
+     * This is a single hash lookup.
+     * @param element the element to search for, which may be null
+     * @return the index of the first occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        IntArrayList indices = positions.get(element);
+        return indices == null ? -1 : indices.get(0);
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list, or -1 if there is none.
+     * This is a single hash lookup.
+     * @param element the element to search for, which may be null
+     * @return the index of the last occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        IntArrayList indices = positions.get(element);
+        return indices == null ? -1 : indices.get(indices.size() - 1);
+    }
+
+    /**
+     * Removes all the elements from this list and clears the index.
+     */
+    public void clear() {
+        elements.clear();
+        positions.clear();
+    }
+
+    /**
+     * Sorts the elements in the list with the specified comparator and rebuilds the index.
+     * @param comparator the comparator to determine the order of the elements
+     */
+    public void sort(Comparator<? super T> comparator) {
+        elements.sort(comparator);
+        rebuildIndex();
+    }
+
+    /**
+     * Reorders the list so that its first k positions hold the k least elements in sorted order, followed by the
+     * other elements in no particular order, and rebuilds the index once.
+     * @param k          the number of least elements to sort; values above size() sort the whole list
+     * @param comparator the comparator to determine the order of the elements
+     * @throws IllegalArgumentException if k is negative
+     */
+    @Override
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        elements.partialSort(k, comparator);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the element a sort would put at position nth, reordering the list so that it is there, the elements
+     * before it are not greater and the elements after it are not less, and rebuilds the index once.
+     * @param nth        the position in sorted order of the element to select
+     * @param comparator the comparator to determine the order of the elements
+     * @return the element at position nth in sorted order
+     * @throws IndexOutOfBoundsException if nth is out of range (nth < 0 || nth >= size())
+     */
+    @Override
+    public T select(int nth, Comparator<? super T> comparator) {
+        T element = elements.select(nth, comparator);
+        rebuildIndex();
+        return element;
+    }
+
+    /**
+     * Returns the positions of the specified element, creating an empty entry if there is none.
+     * @param element the element
+     * @return the sorted positions of the element
+     */
+    private IntArrayList positionsOf(T element) {
+        IntArrayList indices = positions.get(element);
+        if (indices == null) {
+            indices = new IntArrayList(1);
+            positions.put(element, indices);
+        }
+        return indices;
+    }
+
+    /**
+     * Inserts a position into a sorted list of positions.
+     * @param indices the sorted positions
+     * @param index   the position to be inserted
+     */
+    private static void insertPosition(IntArrayList indices, int index) {
+        int size = indices.size();
+        if (size == 0 || indices.get(size - 1) < index) {
+            indices.add(index);
+        } else {
+            indices.add(lowerBound(indices, index), index);
+        }
+    }
+
+    /**
+     * Removes a position of the specified element, dropping the element from the index if it was the last one.
+     * @param element the element
+     * @param index   the position to be removed
+     */
+    private void removePosition(T element, int index) {
+        IntArrayList indices = positions.get(element);
+        if (indices.size() == 1) {
+            positions.remove(element);
+        } else {
+            indices.remove(lowerBound(indices, index));
+        }
+    }
+
+    /**
+     * Returns the first position in the sorted positions that is not less than the specified index.
+     * @param indices the sorted positions
+     * @param index   the index to search for
+     * @return the position of the index, or the position it would be inserted at
+     */
+    private static int lowerBound(IntArrayList indices, int index) {
+        int lo = 0;
+        int hi = indices.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (indices.get(mid) < index) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Adds the specified delta to every position that is not less than the specified index.
+     * @param fromIndex the smallest position to be shifted
+     * @param delta     the amount to add to the positions
+     */
+    private void shiftPositions(int fromIndex, int delta) {
+        for (IntArrayList indices : positions.values()) {
+            int size = indices.size();
+            if (indices.get(size - 1) < fromIndex) {
+                continue;
+            }
+            for (int i = lowerBound(indices, fromIndex); i < size; i++) {
+                indices.set(i, indices.get(i) + delta);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index from the elements in a single pass.
+     */
+    private void rebuildIndex() {
+        positions.clear();
+        int size = elements.size();
+        for (int i = 0; i < size; i++) {
+            positionsOf(elements.get(i)).add(i);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+}
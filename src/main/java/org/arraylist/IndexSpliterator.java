@@ -0,0 +1,82 @@
+package org.arraylist;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * IndexSpliterator is a spliterator over a range of indices of a MyList that reads the elements with get.
+ * Every split halves the range, so parallel streams divide the work evenly. It is the default spliterator
+ * of MyList; it cannot detect concurrent modification.
+ * @param <T> the type of the elements
+ */
+final class IndexSpliterator<T> implements Spliterator<T> {
+    /** The list being traversed. */
+    private final MyList<T> list;
+    /** The index of the next element to be traversed. */
+    private int index;
+    /** The index after the last element to be traversed, or -1 until first use. */
+    private int fence;
+
+    /**
+     * Creates a spliterator over the specified range of the list.
+     * @param list  the list to be traversed
+     * @param index the index of the first element
+     * @param fence the index after the last element, or -1 to use the size of the list at first use
+     */
+    IndexSpliterator(MyList<T> list, int index, int fence) {
+        this.list = list;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Returns the index after the last element, binding it to the size of the list on first use.
+     * @return the fence index
+     */
+    private int getFence() {
+        if (fence < 0) {
+            fence = list.size();
+        }
+        return fence;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int hi = getFence();
+        int lo = index;
+        int mid = (lo + hi) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new IndexSpliterator<>(list, lo, mid);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index < getFence()) {
+            action.accept(list.get(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        int hi = getFence();
+        for (int i = index; i < hi; i++) {
+            action.accept(list.get(i));
+        }
+        index = hi;
+    }
+
+    @Override
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,237 @@
+package org.arraylist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * IntArrayList is a dynamic array of int values. It mirrors MyArrayList but stores the values
+ * in an int[] array, so no element is ever boxed.
+ */
+public class IntArrayList {
+    /** The default capacity of the underlying array. */
+    private static final int DEFAULT_CAPACITY = 10;
+    /** The array that stores the elements of the IntArrayList. */
+    private int[] elementData;
+    /** The number of elements currently stored in the IntArrayList. */
+    private int size;
+
+    /**
+     * This constructor creates an instance of IntArrayList with a default capacity of an array inside.
+     */
+    public IntArrayList() {
+        this.elementData = new int[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * This constructor creates an instance of IntArrayList with a specific capacity of an array inside.
+     * @param initialCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity > 0) {
+            elementData = new int[initialCapacity];
+        } else {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+    }
+
+    /**
+     * Adds the specified element to the end of the list.
+     * @param element the element to be added
+     */
+    public void add(int element) {
+        grow(size + 1);
+        elementData[size] = element;
+        size++;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public void add(int index, int element) {
+        Objects.checkIndex(index, size + 1);
+        grow(size + 1);
+        System.arraycopy(elementData, index, elementData, index + 1, size - index);
+        elementData[index] = element;
+        size++;
+    }
+
+    /**
+     * Adds all the specified elements to the end of the list.
+     * @param elements the elements to be added
+     */
+    public void addAll(int... elements) {
+        if (elements.length != 0) {
+            grow(size + elements.length);
+            System.arraycopy(elements, 0, elementData, size, elements.length);
+            size += elements.length;
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in the list with the specified element.
+     * @param index   the index of the element to be replaced
+     * @param element the replacement element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public void set(int index, int element) {
+        Objects.checkIndex(index, size);
+        elementData[index] = element;
+    }
+
+    /**
+     * Removes the element at the specified position in the list.
+     * @param index the index of the element to be removed
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public int remove(int index) {
+        Objects.checkIndex(index, size);
+        int removedElement = elementData[index];
+        System.arraycopy(elementData, index + 1, elementData, index, size - index - 1);
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     * @param index the index of the element to retrieve
+     * @return the element at the specified position in the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elementData[index];
+    }
+
+    /**
+     * Returns true if the list contains the specified element, false otherwise.
+     * @param element the element to be checked for containment in the list
+     * @return true if the list contains the specified element, false otherwise
+     */
+    public boolean contains(int element) {
+        return PrimitiveKernels.indexOf(elementData, size, element) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list, or -1 if there is none.
+     * @param element the element to search for
+     * @return the index of the first occurrence, or -1 if the list does not contain the element
+     */
+    public int indexOf(int element) {
+        return PrimitiveKernels.indexOf(elementData, size, element);
+    }
+
+    /**
+     * Returns the number of elements between low and high, both inclusive, counted without branching
+     * on the elements.
+     * @param low  the smallest value counted
+     * @param high the largest value counted
+     * @return the number of elements in the range, or 0 if low is greater than high
+     */
+    public int countInRange(int low, int high) {
+        return PrimitiveKernels.countInRange(elementData, size, low, high);
+    }
+
+    /**
+     * Removes all the elements from this list. The underlying array is kept, as there are no references to release.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the elements in the list into ascending numerical order.
+     */
+    public void sort() {
+        Arrays.sort(elementData, 0, size);
+    }
+
+    /**
+     * Returns the sum of the elements in the list, or 0 if the list is empty.
+     * The sum is accumulated in a long, so it does not overflow for lists that fit in memory.
+     * @return the sum of the elements
+     */
+    public long sum() {
+        return PrimitiveKernels.sum(elementData, size);
+    }
+
+    /**
+     * Returns the smallest element in the list.
+     * @return the smallest element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public int min() {
+        checkNotEmpty();
+        return PrimitiveKernels.min(elementData, size);
+    }
+
+    /**
+     * Returns the largest element in the list.
+     * @return the largest element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public int max() {
+        checkNotEmpty();
+        return PrimitiveKernels.max(elementData, size);
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence.
+     * @return a new array containing the elements of this list
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * Returns the array that stores the elements, without copying it. Only the first size() entries are in use,
+     * and the array must not be modified.
+     * @return the array that stores the elements
+     */
+    int[] elementData() {
+        return elementData;
+    }
+
+    /**
+     * Throws an exception if the list is empty.
+     * @throws NoSuchElementException if the list is empty
+     */
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+
+    /**
+     * Increases the capacity of the list if necessary, ensuring that it can accommodate a minimum number of elements.
+     * @param minCapacity the desired minimum capacity.
+     */
+    private void grow(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (minCapacity > oldCapacity) {
+            elementData = Arrays.copyOf(elementData, MyArrayList.newCapacity(oldCapacity, minCapacity));
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
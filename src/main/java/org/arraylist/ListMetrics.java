@@ -0,0 +1,270 @@
+package org.arraylist;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ListMetrics holds the operation counters of an instrumented MyArrayList.
+ * Instrumentation is enabled per list with {@link MyArrayList#enableMetrics()}; a list without metrics only pays
+ * for a null check. The counters can be read as a {@link Snapshot} or published over JMX with {@link #register(String)}.
+ */
+public class ListMetrics implements ListMetricsMBean {
+    /** The JMX domain the metrics are registered under. */
+    private static final String DOMAIN = "org.arraylist";
+    /** The size of an object reference in bytes. */
+    private static final int REFERENCE_SIZE = referenceSize();
+
+    /** The number of grow events. */
+    private final LongAdder growCount = new LongAdder();
+    /** The number of elements copied. */
+    private final LongAdder elementsCopied = new LongAdder();
+    /** The number of comparator calls. */
+    private final LongAdder comparisons = new LongAdder();
+    /** The number of contains calls. */
+    private final LongAdder containsCalls = new LongAdder();
+    /** The number of elements examined by contains. */
+    private final LongAdder containsScanLength = new LongAdder();
+    /** The name the metrics are registered under, or null if they are not registered. */
+    private ObjectName objectName;
+
+    /**
+     * Records that the underlying array has grown.
+     * @param copied the number of elements copied into the new array
+     */
+    void recordGrow(int copied) {
+        growCount.increment();
+        elementsCopied.add(copied);
+    }
+
+    /**
+     * Records that elements have been copied.
+     * @param copied the number of elements copied
+     */
+    void recordCopy(int copied) {
+        elementsCopied.add(copied);
+    }
+
+    /**
+     * Records a call to contains.
+     * @param scanned the number of elements examined
+     */
+    void recordContains(int scanned) {
+        containsCalls.increment();
+        containsScanLength.add(scanned);
+    }
+
+    /**
+     * Returns a comparator that counts its calls and delegates to the specified comparator.
+     * @param comparator the comparator to be counted
+     * @param <T>        the type of the compared elements
+     * @return the counting comparator
+     */
+    <T> Comparator<T> counting(Comparator<T> comparator) {
+        return (first, second) -> {
+            comparisons.increment();
+            return comparator.compare(first, second);
+        };
+    }
+
+    @Override
+    public long getGrowCount() {
+        return growCount.sum();
+    }
+
+    @Override
+    public long getElementsCopied() {
+        return elementsCopied.sum();
+    }
+
+    @Override
+    public long getBytesCopied() {
+        return elementsCopied.sum() * REFERENCE_SIZE;
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getContainsCalls() {
+        return containsCalls.sum();
+    }
+
+    @Override
+    public long getContainsScanLength() {
+        return containsScanLength.sum();
+    }
+
+    @Override
+    public void reset() {
+        growCount.reset();
+        elementsCopied.reset();
+        comparisons.reset();
+        containsCalls.reset();
+        containsScanLength.reset();
+    }
+
+    /**
+     * Returns the current values of all counters.
+     * @return the snapshot of the counters
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(getGrowCount(), getElementsCopied(), getBytesCopied(), getComparisons(),
+                getContainsCalls(), getContainsScanLength());
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server as org.arraylist:type=ListMetrics,name=&lt;name&gt;.
+     * @param name the name that identifies the list
+     * @return the name the metrics are registered under
+     * @throws IllegalStateException if the metrics are already registered or the name is taken
+     */
+    public synchronized ObjectName register(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Metrics are already registered as " + objectName);
+        }
+        try {
+            ObjectName newName = new ObjectName(DOMAIN + ":type=ListMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, newName);
+            objectName = newName;
+            return newName;
+        } catch (MalformedObjectNameException | InstanceAlreadyExistsException | MBeanRegistrationException
+                 | NotCompliantMBeanException e) {
+            throw new IllegalStateException("Cannot register metrics " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters the metrics from the platform MBean server. Does nothing if they are not registered.
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (InstanceNotFoundException | MBeanRegistrationException e) {
+            // the MBean is gone already
+        }
+        objectName = null;
+    }
+
+    /**
+     * Returns the size of an object reference, which is 4 bytes with compressed references and 8 bytes otherwise.
+     * @return the size of an object reference in bytes
+     */
+    private static int referenceSize() {
+        try {
+            com.sun.management.HotSpotDiagnosticMXBean diagnostics =
+                    ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+            if (diagnostics != null && "true".equals(diagnostics.getVMOption("UseCompressedOops").getValue())) {
+                return 4;
+            }
+        } catch (RuntimeException | LinkageError e) {
+            // not a HotSpot virtual machine
+        }
+        return 8;
+    }
+
+    /**
+     * Snapshot holds the values of the counters at one point in time.
+     */
+    public static final class Snapshot {
+        /** The number of grow events. */
+        private final long growCount;
+        /** The number of elements copied. */
+        private final long elementsCopied;
+        /** The estimated number of bytes copied. */
+        private final long bytesCopied;
+        /** The number of comparator calls. */
+        private final long comparisons;
+        /** The number of contains calls. */
+        private final long containsCalls;
+        /** The number of elements examined by contains. */
+        private final long containsScanLength;
+
+        /**
+         * Creates a snapshot with the specified values.
+         * @param growCount          the number of grow events
+         * @param elementsCopied     the number of elements copied
+         * @param bytesCopied        the estimated number of bytes copied
+         * @param comparisons        the number of comparator calls
+         * @param containsCalls      the number of contains calls
+         * @param containsScanLength the number of elements examined by contains
+         */
+        Snapshot(long growCount, long elementsCopied, long bytesCopied, long comparisons, long containsCalls,
+                 long containsScanLength) {
+            this.growCount = growCount;
+            this.elementsCopied = elementsCopied;
+            this.bytesCopied = bytesCopied;
+            this.comparisons = comparisons;
+            this.containsCalls = containsCalls;
+            this.containsScanLength = containsScanLength;
+        }
+
+        /**
+         * Returns the number of times the underlying array has grown.
+         * @return the number of grow events
+         */
+        public long getGrowCount() {
+            return growCount;
+        }
+
+        /**
+         * Returns the number of element references copied.
+         * @return the number of elements copied
+         */
+        public long getElementsCopied() {
+            return elementsCopied;
+        }
+
+        /**
+         * Returns the estimated number of bytes copied.
+         * @return the estimated number of bytes copied
+         */
+        public long getBytesCopied() {
+            return bytesCopied;
+        }
+
+        /**
+         * Returns the number of comparator calls made by sort and parallelSort.
+         * @return the number of comparisons
+         */
+        public long getComparisons() {
+            return comparisons;
+        }
+
+        /**
+         * Returns the number of calls to contains.
+         * @return the number of contains calls
+         */
+        public long getContainsCalls() {
+            return containsCalls;
+        }
+
+        /**
+         * Returns the total number of elements examined by contains.
+         * @return the number of elements scanned by contains
+         */
+        public long getContainsScanLength() {
+            return containsScanLength;
+        }
+
+        @Override
+        public String toString() {
+            return "ListMetrics.Snapshot{growCount=" + growCount + ", elementsCopied=" + elementsCopied
+                    + ", bytesCopied=" + bytesCopied + ", comparisons=" + comparisons
+                    + ", containsCalls=" + containsCalls + ", containsScanLength=" + containsScanLength + "}";
+        }
+    }
+}
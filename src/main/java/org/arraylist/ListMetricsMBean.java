@@ -0,0 +1,49 @@
+package org.arraylist;
+
+/**
+ * The ListMetricsMBean interface exposes the operation counters of an instrumented MyArrayList over JMX.
+ */
+public interface ListMetricsMBean {
+    /**
+     * Returns the number of times the underlying array has grown.
+     * @return the number of grow events
+     */
+    long getGrowCount();
+
+    /**
+     * Returns the number of element references copied by System.arraycopy and Arrays.copyOf,
+     * including the copies made while growing, inserting, removing and adding collections.
+     * @return the number of elements copied
+     */
+    long getElementsCopied();
+
+    /**
+     * Returns the estimated number of bytes copied, which is the number of elements copied
+     * multiplied by the size of a reference in this virtual machine.
+     * @return the estimated number of bytes copied
+     */
+    long getBytesCopied();
+
+    /**
+     * Returns the number of comparator calls made by sort and parallelSort.
+     * @return the number of comparisons
+     */
+    long getComparisons();
+
+    /**
+     * Returns the number of calls to contains.
+     * @return the number of contains calls
+     */
+    long getContainsCalls();
+
+    /**
+     * Returns the total number of elements examined by contains.
+     * @return the number of elements scanned by contains
+     */
+    long getContainsScanLength();
+
+    /**
+     * Resets all counters to zero.
+     */
+    void reset();
+}
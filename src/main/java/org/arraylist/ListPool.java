@@ -0,0 +1,150 @@
+package org.arraylist;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ListPool hands out MyArrayList instances for short-lived use and takes them back, so that their underlying
+ * arrays are reused instead of becoming garbage.
+ * <p>
+ * {@link #release(MyArrayList)} resets a list in O(size) by nulling only the used slots and keeps its array,
+ * so a list that grew during one use starts the next one with that capacity and does not grow again.
+ * Arrays longer than the maximum retained capacity are replaced by arrays of that length, so one huge use does not
+ * pin its memory, and at most maxPooled idle lists are kept. In steady state, acquiring, filling and releasing a list
+ * allocates nothing.
+ * <p>
+ * A {@link #threadLocal(int, int, int) thread-local} pool keeps a separate set of idle lists for every thread and
+ * needs no synchronization; a list must be released on the thread that acquired it to be reused there. A
+ * {@link #shared(int, int, int) shared} pool keeps one bounded queue for all threads. The lists themselves are not
+ * thread-safe, and a list must not be used after it has been released.
+ * @param <T> the type of objects to be stored in the lists
+ */
+public final class ListPool<T> {
+    /** The capacity of a newly created list. */
+    private final int initialCapacity;
+    /** The longest underlying array a released list keeps. */
+    private final int maxRetainedCapacity;
+    /** The maximum number of idle lists kept in a queue. */
+    private final int maxPooled;
+    /** Returns the queue of idle lists for the calling thread. */
+    private final Supplier<Queue<MyArrayList<T>>> idle;
+    /** The number of lists the pool has created. */
+    private final AtomicLong created = new AtomicLong();
+
+    /**
+     * Creates a pool from its parts after checking the sizes.
+     * @param initialCapacity     the capacity of a newly created list
+     * @param maxRetainedCapacity the longest underlying array a released list keeps
+     * @param maxPooled           the maximum number of idle lists kept in a queue
+     * @param threadLocal         whether every thread has its own queue of idle lists
+     * @throws IllegalArgumentException if a size is not positive or initialCapacity exceeds maxRetainedCapacity
+     */
+    private ListPool(int initialCapacity, int maxRetainedCapacity, int maxPooled, boolean threadLocal) {
+        if (initialCapacity <= 0 || initialCapacity > maxRetainedCapacity) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        if (maxPooled <= 0) {
+            throw new IllegalArgumentException("Illegal pool size: " + maxPooled);
+        }
+        this.initialCapacity = initialCapacity;
+        this.maxRetainedCapacity = maxRetainedCapacity;
+        this.maxPooled = maxPooled;
+        if (threadLocal) {
+            ThreadLocal<Queue<MyArrayList<T>>> queues = ThreadLocal.withInitial(() -> new ArrayDeque<>(maxPooled));
+            this.idle = queues::get;
+        } else {
+            Queue<MyArrayList<T>> queue = new ArrayBlockingQueue<>(maxPooled);
+            this.idle = () -> queue;
+        }
+    }
+
+    /**
+     * Returns a pool that keeps a separate set of idle lists for every thread.
+     * @param initialCapacity     the capacity of a newly created list
+     * @param maxRetainedCapacity the longest underlying array a released list keeps
+     * @param maxPooled           the maximum number of idle lists kept per thread
+     * @param <T>                 the type of objects to be stored in the lists
+     * @return a new thread-local pool
+     * @throws IllegalArgumentException if a size is not positive or initialCapacity exceeds maxRetainedCapacity
+     */
+    public static <T> ListPool<T> threadLocal(int initialCapacity, int maxRetainedCapacity, int maxPooled) {
+        return new ListPool<>(initialCapacity, maxRetainedCapacity, maxPooled, true);
+    }
+
+    /**
+     * Returns a pool that keeps one bounded, thread-safe queue of idle lists for all threads.
+     * @param initialCapacity     the capacity of a newly created list
+     * @param maxRetainedCapacity the longest underlying array a released list keeps
+     * @param maxPooled           the maximum number of idle lists kept
+     * @param <T>                 the type of objects to be stored in the lists
+     * @return a new shared pool
+     * @throws IllegalArgumentException if a size is not positive or initialCapacity exceeds maxRetainedCapacity
+     */
+    public static <T> ListPool<T> shared(int initialCapacity, int maxRetainedCapacity, int maxPooled) {
+        return new ListPool<>(initialCapacity, maxRetainedCapacity, maxPooled, false);
+    }
+
+    /**
+     * Returns an empty list, reusing an idle one if there is any.
+     * @return an empty list
+     */
+    public MyArrayList<T> acquire() {
+        MyArrayList<T> list = idle.get().poll();
+        if (list == null) {
+            created.incrementAndGet();
+            list = new MyArrayList<>(initialCapacity);
+        }
+        return list;
+    }
+
+    /**
+     * Resets the specified list and keeps it for reuse if the queue of idle lists is not full.
+     * @param list the list to be released, which must not be used afterwards
+     */
+    public void release(MyArrayList<T> list) {
+        list.reset(maxRetainedCapacity);
+        Queue<MyArrayList<T>> queue = idle.get();
+        if (queue.size() < maxPooled) {
+            queue.offer(list);
+        }
+    }
+
+    /**
+     * Acquires a list, applies the specified function to it and releases the list, even if the function throws.
+     * The function must not let the list escape.
+     * @param function the function that uses the list
+     * @param <R>      the type of the result
+     * @return the result of the function
+     */
+    public <R> R apply(Function<? super MyArrayList<T>, ? extends R> function) {
+        Objects.requireNonNull(function);
+        MyArrayList<T> list = acquire();
+        try {
+            return function.apply(list);
+        } finally {
+            release(list);
+        }
+    }
+
+    /**
+     * Returns the number of idle lists available to the calling thread.
+     * @return the number of idle lists
+     */
+    public int idleCount() {
+        return idle.get().size();
+    }
+
+    /**
+     * Returns the number of lists the pool has created since it was created. It stops growing once the pool
+     * covers the demand.
+     * @return the number of lists created
+     */
+    public long createdCount() {
+        return created.get();
+    }
+}
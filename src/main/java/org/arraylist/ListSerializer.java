@@ -0,0 +1,464 @@
+package org.arraylist;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * ListSerializer writes lists to binary streams in a compact format and reads them back.
+ * <p>
+ * A stream starts with a 12-byte header: the magic number, the format version, the element kind, the encoding
+ * and the number of elements. The elements follow in chunks of up to {@value #CHUNK_SIZE} elements, each prefixed
+ * with its number of elements and its length in bytes. Only one chunk is buffered at a time, so neither the writer
+ * nor the reader holds a second copy of the whole list, and the reader allocates the list once with the size from
+ * the header. Several lists can be written to the same stream one after another. The streams are not closed.
+ * <p>
+ * Object lists are written with a {@link StreamCodec}. Int and long lists can be written with
+ * {@link Encoding#DELTA_VARINT}, which stores the difference to the previous element as a zigzag variable-length
+ * integer and shrinks sorted or clustered data to one or two bytes per element.
+ */
+public final class ListSerializer {
+    /** The number of elements in a full chunk. */
+    public static final int CHUNK_SIZE = 4096;
+    /** The number that identifies a serialized list. */
+    private static final int MAGIC = 0x4D594C42;
+    /** The version of the format. */
+    private static final byte VERSION = 1;
+    /** The kind of a list of objects. */
+    private static final byte OBJECT_KIND = 0;
+    /** The kind of an IntArrayList. */
+    private static final byte INT_KIND = 1;
+    /** The kind of a LongArrayList. */
+    private static final byte LONG_KIND = 2;
+    /** The kind of a DoubleArrayList. */
+    private static final byte DOUBLE_KIND = 3;
+
+    /**
+     * The ways the elements of a primitive list can be encoded.
+     */
+    public enum Encoding {
+        /** Every element is written with its fixed width. */
+        RAW,
+        /** Every element is written as the zigzag varint of its difference to the previous element in the chunk. */
+        DELTA_VARINT
+    }
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ListSerializer() {
+    }
+
+    /**
+     * Writes the elements of the specified list to the stream.
+     * @param list  the list to be written
+     * @param codec the codec that writes the elements
+     * @param out   the stream to write to
+     * @param <T>   the type of the elements
+     * @throws IOException if the stream cannot be written
+     */
+    public static <T> void write(MyList<T> list, StreamCodec<? super T> codec, OutputStream out) throws IOException {
+        int size = list.size();
+        writeHeader(out, OBJECT_KIND, Encoding.RAW, size);
+        ChunkBuffer chunk = new ChunkBuffer();
+        DataOutputStream data = new DataOutputStream(chunk);
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int to = Math.min(size, from + CHUNK_SIZE);
+            chunk.reset();
+            for (int i = from; i < to; i++) {
+                codec.write(data, list.get(i));
+            }
+            chunk.writeTo(out, to - from);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a list of objects written by {@link #write(MyList, StreamCodec, OutputStream)}.
+     * @param in    the stream to read from
+     * @param codec the codec that reads the elements
+     * @param <T>   the type of the elements
+     * @return the list read, with a capacity equal to its size
+     * @throws IOException if the stream cannot be read or does not hold a list of objects
+     */
+    public static <T> MyArrayList<T> read(InputStream in, StreamCodec<T> codec) throws IOException {
+        DataInputStream input = new DataInputStream(in);
+        Header header = readHeader(input, OBJECT_KIND);
+        MyArrayList<T> list = new MyArrayList<>(Math.max(header.size, 1));
+        ChunkReader chunks = new ChunkReader(input, header.size);
+        for (int count = chunks.next(); count > 0; count = chunks.next()) {
+            DataInput data = chunks.data();
+            for (int i = 0; i < count; i++) {
+                list.add(codec.read(data));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Writes the elements of the specified IntArrayList to the stream.
+     * @param list     the list to be written
+     * @param encoding the encoding of the elements
+     * @param out      the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(IntArrayList list, Encoding encoding, OutputStream out) throws IOException {
+        int size = list.size();
+        writeHeader(out, INT_KIND, encoding, size);
+        ChunkBuffer chunk = new ChunkBuffer();
+        DataOutputStream data = new DataOutputStream(chunk);
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int to = Math.min(size, from + CHUNK_SIZE);
+            chunk.reset();
+            int previous = 0;
+            for (int i = from; i < to; i++) {
+                int element = list.get(i);
+                if (encoding == Encoding.RAW) {
+                    data.writeInt(element);
+                } else {
+                    int delta = element - previous;
+                    writeVarLong(data, ((delta << 1) ^ (delta >> 31)) & 0xFFFFFFFFL);
+                    previous = element;
+                }
+            }
+            chunk.writeTo(out, to - from);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads an IntArrayList written by {@link #write(IntArrayList, Encoding, OutputStream)}.
+     * @param in the stream to read from
+     * @return the list read, with a capacity equal to its size
+     * @throws IOException if the stream cannot be read or does not hold an IntArrayList
+     */
+    public static IntArrayList readIntList(InputStream in) throws IOException {
+        DataInputStream input = new DataInputStream(in);
+        Header header = readHeader(input, INT_KIND);
+        IntArrayList list = new IntArrayList(Math.max(header.size, 1));
+        ChunkReader chunks = new ChunkReader(input, header.size);
+        for (int count = chunks.next(); count > 0; count = chunks.next()) {
+            DataInput data = chunks.data();
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                if (header.encoding == Encoding.RAW) {
+                    list.add(data.readInt());
+                } else {
+                    int zigzag = (int) readVarLong(data);
+                    previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                    list.add(previous);
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Writes the elements of the specified LongArrayList to the stream.
+     * @param list     the list to be written
+     * @param encoding the encoding of the elements
+     * @param out      the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(LongArrayList list, Encoding encoding, OutputStream out) throws IOException {
+        int size = list.size();
+        writeHeader(out, LONG_KIND, encoding, size);
+        ChunkBuffer chunk = new ChunkBuffer();
+        DataOutputStream data = new DataOutputStream(chunk);
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int to = Math.min(size, from + CHUNK_SIZE);
+            chunk.reset();
+            long previous = 0;
+            for (int i = from; i < to; i++) {
+                long element = list.get(i);
+                if (encoding == Encoding.RAW) {
+                    data.writeLong(element);
+                } else {
+                    long delta = element - previous;
+                    writeVarLong(data, (delta << 1) ^ (delta >> 63));
+                    previous = element;
+                }
+            }
+            chunk.writeTo(out, to - from);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a LongArrayList written by {@link #write(LongArrayList, Encoding, OutputStream)}.
+     * @param in the stream to read from
+     * @return the list read, with a capacity equal to its size
+     * @throws IOException if the stream cannot be read or does not hold a LongArrayList
+     */
+    public static LongArrayList readLongList(InputStream in) throws IOException {
+        DataInputStream input = new DataInputStream(in);
+        Header header = readHeader(input, LONG_KIND);
+        LongArrayList list = new LongArrayList(Math.max(header.size, 1));
+        ChunkReader chunks = new ChunkReader(input, header.size);
+        for (int count = chunks.next(); count > 0; count = chunks.next()) {
+            DataInput data = chunks.data();
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                if (header.encoding == Encoding.RAW) {
+                    list.add(data.readLong());
+                } else {
+                    long zigzag = readVarLong(data);
+                    previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                    list.add(previous);
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Writes the elements of the specified DoubleArrayList to the stream. Doubles are always written raw,
+     * as their differences do not compress.
+     * @param list the list to be written
+     * @param out  the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(DoubleArrayList list, OutputStream out) throws IOException {
+        int size = list.size();
+        writeHeader(out, DOUBLE_KIND, Encoding.RAW, size);
+        ChunkBuffer chunk = new ChunkBuffer();
+        DataOutputStream data = new DataOutputStream(chunk);
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int to = Math.min(size, from + CHUNK_SIZE);
+            chunk.reset();
+            for (int i = from; i < to; i++) {
+                data.writeDouble(list.get(i));
+            }
+            chunk.writeTo(out, to - from);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a DoubleArrayList written by {@link #write(DoubleArrayList, OutputStream)}.
+     * @param in the stream to read from
+     * @return the list read, with a capacity equal to its size
+     * @throws IOException if the stream cannot be read or does not hold a DoubleArrayList
+     */
+    public static DoubleArrayList readDoubleList(InputStream in) throws IOException {
+        DataInputStream input = new DataInputStream(in);
+        Header header = readHeader(input, DOUBLE_KIND);
+        DoubleArrayList list = new DoubleArrayList(Math.max(header.size, 1));
+        ChunkReader chunks = new ChunkReader(input, header.size);
+        for (int count = chunks.next(); count > 0; count = chunks.next()) {
+            DataInput data = chunks.data();
+            for (int i = 0; i < count; i++) {
+                list.add(data.readDouble());
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Writes the header of a list in a single write.
+     * @param out      the stream to write to
+     * @param kind     the kind of the list
+     * @param encoding the encoding of the elements
+     * @param size     the number of elements
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeHeader(OutputStream out, byte kind, Encoding encoding, int size) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream(12);
+        DataOutputStream data = new DataOutputStream(header);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(kind);
+        data.writeByte(encoding.ordinal());
+        data.writeByte(0);
+        data.writeInt(size);
+        header.writeTo(out);
+    }
+
+    /**
+     * Reads and checks the header of a list.
+     * @param in   the stream to read from
+     * @param kind the expected kind of the list
+     * @return the header
+     * @throws IOException if the stream cannot be read or the header does not match
+     */
+    private static Header readHeader(DataInputStream in, byte kind) throws IOException {
+        byte[] bytes = new byte[12];
+        in.readFully(bytes);
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (data.readInt() != MAGIC || data.readByte() != VERSION) {
+            throw new IOException("Not a serialized list");
+        }
+        byte actualKind = data.readByte();
+        if (actualKind != kind) {
+            throw new IOException("Expected list kind " + kind + " but found " + actualKind);
+        }
+        int encoding = data.readUnsignedByte();
+        if (encoding >= Encoding.values().length || kind != INT_KIND && kind != LONG_KIND && encoding != 0) {
+            throw new IOException("Unknown encoding: " + encoding);
+        }
+        data.readByte();
+        int size = data.readInt();
+        if (size < 0) {
+            throw new IOException("Corrupted list stream: negative size " + size);
+        }
+        return new Header(Encoding.values()[encoding], size);
+    }
+
+    /**
+     * Writes an unsigned variable-length integer: seven bits per byte, lowest bits first, with the high bit set
+     * on every byte but the last.
+     * @param out   the stream to write to
+     * @param value the value, treated as unsigned
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads an unsigned variable-length integer written by {@link #writeVarLong(DataOutput, long)}.
+     * @param in the stream to read from
+     * @return the value
+     * @throws IOException if the stream cannot be read or the value takes more than ten bytes
+     */
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupted list stream: varint too long");
+    }
+
+    /**
+     * Header holds the encoding and the number of elements read from the header of a list.
+     */
+    private static final class Header {
+        /** The encoding of the elements. */
+        final Encoding encoding;
+        /** The number of elements. */
+        final int size;
+
+        /**
+         * Creates a header.
+         * @param encoding the encoding of the elements
+         * @param size     the number of elements
+         */
+        Header(Encoding encoding, int size) {
+            this.encoding = encoding;
+            this.size = size;
+        }
+    }
+
+    /**
+     * ChunkBuffer collects the bytes of one chunk so that they can be written with their length prefix.
+     */
+    private static final class ChunkBuffer extends ByteArrayOutputStream {
+        /** The prefix of the chunk: the number of elements and the number of bytes. */
+        private final byte[] prefix = new byte[8];
+
+        /**
+         * Creates a buffer large enough for a chunk of fixed-width longs.
+         */
+        ChunkBuffer() {
+            super(CHUNK_SIZE * Long.BYTES);
+        }
+
+        /**
+         * Writes the chunk prefix and the collected bytes to the stream.
+         * @param out   the stream to write to
+         * @param elements the number of elements in the chunk
+         * @throws IOException if the stream cannot be written
+         */
+        void writeTo(OutputStream out, int elements) throws IOException {
+            putInt(prefix, 0, elements);
+            putInt(prefix, 4, count);
+            out.write(prefix);
+            out.write(buf, 0, count);
+        }
+
+        /**
+         * Stores an int in big-endian order.
+         * @param bytes  the array to store into
+         * @param offset the offset of the first byte
+         * @param value  the value
+         */
+        private static void putInt(byte[] bytes, int offset, int value) {
+            bytes[offset] = (byte) (value >>> 24);
+            bytes[offset + 1] = (byte) (value >>> 16);
+            bytes[offset + 2] = (byte) (value >>> 8);
+            bytes[offset + 3] = (byte) value;
+        }
+    }
+
+    /**
+     * ChunkReader reads the chunks of a list one at a time into a reused array.
+     */
+    private static final class ChunkReader {
+        /** The stream to read from. */
+        private final DataInputStream in;
+        /** The number of elements in the chunks not read yet. */
+        private int remaining;
+        /** The bytes of the current chunk. */
+        private byte[] bytes = new byte[0];
+        /** The stream over the bytes of the current chunk, or null before the first chunk. */
+        private ByteArrayInputStream current;
+
+        /**
+         * Creates a reader for the chunks of a list.
+         * @param in   the stream to read from, positioned after the header
+         * @param size the number of elements of the list
+         */
+        ChunkReader(DataInputStream in, int size) {
+            this.in = in;
+            this.remaining = size;
+        }
+
+        /**
+         * Reads the next chunk after checking that the previous one was fully decoded.
+         * @return the number of elements in the chunk, or 0 if all elements have been read
+         * @throws IOException if the stream cannot be read or the chunk is corrupted
+         */
+        int next() throws IOException {
+            if (current != null && current.available() != 0) {
+                throw new IOException("Corrupted list stream: chunk has trailing bytes");
+            }
+            if (remaining == 0) {
+                return 0;
+            }
+            int count = in.readInt();
+            int length = in.readInt();
+            if (count <= 0 || count > remaining || length < 0) {
+                throw new IOException("Corrupted list stream: chunk of " + count + " elements in " + length + " bytes");
+            }
+            if (bytes.length < length) {
+                bytes = new byte[length];
+            }
+            in.readFully(bytes, 0, length);
+            current = new ByteArrayInputStream(bytes, 0, length);
+            remaining -= count;
+            return count;
+        }
+
+        /**
+         * Returns the data of the current chunk.
+         * @return the data of the current chunk
+         */
+        DataInput data() {
+            return new DataInputStream(current);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package org.arraylist;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * MappedList is a MyList whose elements live in a memory-mapped file, so its contents survive a restart.
+ * Reopening a file with {@link #open(Path, ElementCodec)} only maps it: nothing is read or re-inserted,
+ * and pages are loaded by the operating system when they are first accessed.
+ * <p>
+ * The file starts with a 16-byte header (magic number, format version, element size and number of elements)
+ * followed by the elements as fixed-width little-endian records. The header is updated on every change of the size,
+ * and {@link #force()} writes all changes to the storage device. Appending beyond the mapped region extends
+ * the file with the same 1.5x policy as MyArrayList. A file can hold up to Integer.MAX_VALUE bytes.
+ * @param <T> the type of objects to be stored in the list
+ */
+public class MappedList<T> extends AbstractBufferList<T> implements AutoCloseable {
+    /** The number that identifies a MappedList file. */
+    private static final int MAGIC = 0x4D594C53;
+    /** The version of the file format. */
+    private static final int VERSION = 1;
+    /** The number of bytes taken by the file header. */
+    private static final int HEADER_BYTES = 16;
+    /** The byte offset of the element size in the header. */
+    private static final int ELEMENT_SIZE_OFFSET = 8;
+    /** The byte offset of the number of elements in the header. */
+    private static final int SIZE_OFFSET = 12;
+    /** The default capacity of a new file, in elements. */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** The channel of the mapped file. */
+    private final FileChannel channel;
+    /** The mapping of the whole file, including the header, or null once the list is closed. */
+    private MappedByteBuffer mapping;
+
+    /**
+     * Creates a list over the specified channel, mapping the first bytes of the file.
+     * @param codec   the codec that converts elements to and from bytes
+     * @param channel the channel of the file
+     * @param bytes   the number of bytes of the file to map
+     * @throws IOException if the file cannot be mapped
+     */
+    private MappedList(ElementCodec<T> codec, FileChannel channel, long bytes) throws IOException {
+        super(codec, UNSEGMENTED_SHIFT);
+        this.channel = channel;
+        this.mapping = map(bytes);
+    }
+
+    /**
+     * Creates a new file, or truncates an existing one, and returns an empty list stored in it.
+     * @param file  the path of the file
+     * @param codec the codec that converts elements to and from bytes
+     * @param <T>   the type of objects to be stored in the list
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static <T> MappedList<T> create(Path file, ElementCodec<T> codec) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedList<T> list = new MappedList<>(codec, channel, HEADER_BYTES + (long) codec.size() * DEFAULT_CAPACITY);
+            list.mapping.putInt(0, MAGIC);
+            list.mapping.putInt(4, VERSION);
+            list.mapping.putInt(ELEMENT_SIZE_OFFSET, codec.size());
+            list.mapping.putInt(SIZE_OFFSET, 0);
+            list.init(new ByteBuffer[] {list.elements()}, 0);
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new file holding all the elements of the specified list.
+     * @param file   the path of the file
+     * @param source the list whose elements are written to the file
+     * @param codec  the codec that converts elements to and from bytes
+     * @param <T>    the type of objects to be stored in the list
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static <T> MappedList<T> copyOf(Path file, MyList<? extends T> source, ElementCodec<T> codec)
+            throws IOException {
+        MappedList<T> list = create(file, codec);
+        try {
+            list.ensureMapped(source.size());
+            for (int i = 0; i < source.size(); i++) {
+                list.add(source.get(i));
+            }
+            return list;
+        } catch (IOException | RuntimeException | Error e) {
+            discard(list, file, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new file holding all the elements of the specified IntArrayList. The array of the source is written
+     * into the mapping with one bulk copy.
+     * @param file   the path of the file
+     * @param source the list whose elements are written to the file
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static MappedList<Integer> copyOf(Path file, IntArrayList source) throws IOException {
+        int count = source.size();
+        return copyOf(file, ElementCodec.INTEGER, count,
+                elements -> elements.asIntBuffer().put(source.elementData(), 0, count));
+    }
+
+    /**
+     * Creates a new file holding all the elements of the specified LongArrayList. The array of the source is written
+     * into the mapping with one bulk copy.
+     * @param file   the path of the file
+     * @param source the list whose elements are written to the file
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static MappedList<Long> copyOf(Path file, LongArrayList source) throws IOException {
+        int count = source.size();
+        return copyOf(file, ElementCodec.LONG, count,
+                elements -> elements.asLongBuffer().put(source.elementData(), 0, count));
+    }
+
+    /**
+     * Creates a new file holding all the elements of the specified DoubleArrayList. The array of the source is
+     * written into the mapping with one bulk copy.
+     * @param file   the path of the file
+     * @param source the list whose elements are written to the file
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static MappedList<Double> copyOf(Path file, DoubleArrayList source) throws IOException {
+        int count = source.size();
+        return copyOf(file, ElementCodec.DOUBLE, count,
+                elements -> elements.asDoubleBuffer().put(source.elementData(), 0, count));
+    }
+
+    /**
+     * Creates a new file, maps room for the specified number of elements and lets the writer fill the element region.
+     * @param file   the path of the file
+     * @param codec  the codec that converts elements to and from bytes
+     * @param count  the number of elements written
+     * @param writer the action that writes the elements into the element region
+     * @param <T>    the type of objects to be stored in the list
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be created or mapped
+     */
+    private static <T> MappedList<T> copyOf(Path file, ElementCodec<T> codec, int count, Consumer<ByteBuffer> writer)
+            throws IOException {
+        MappedList<T> list = create(file, codec);
+        try {
+            list.ensureMapped(count);
+            ByteBuffer elements = list.elements();
+            writer.accept(elements);
+            list.init(new ByteBuffer[] {elements}, count);
+            list.sizeChanged(count);
+            return list;
+        } catch (IOException | RuntimeException | Error e) {
+            discard(list, file, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Closes a list whose copy failed and deletes its file, so that no truncated file is left behind.
+     * Failures of the cleanup are added to the original exception as suppressed exceptions.
+     * @param list    the list being written
+     * @param file    the path of the file
+     * @param failure the exception that stopped the copy
+     */
+    private static void discard(MappedList<?> list, Path file, Throwable failure) {
+        try {
+            list.close();
+            Files.deleteIfExists(file);
+        } catch (IOException | RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Opens a file written by a MappedList. The file is mapped without reading the elements.
+     * @param file  the path of the file
+     * @param codec the codec that converts elements to and from bytes
+     * @param <T>   the type of objects to be stored in the list
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be mapped, is not a MappedList file, or uses a different element size
+     */
+    public static <T> MappedList<T> open(Path file, ElementCodec<T> codec) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long length = channel.size();
+            if (length < HEADER_BYTES || length > Integer.MAX_VALUE) {
+                throw new IOException("Not a MappedList file: " + file);
+            }
+            MappedList<T> list = new MappedList<>(codec, channel, length);
+            MappedByteBuffer header = list.mapping;
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a MappedList file: " + file);
+            }
+            if (header.getInt(ELEMENT_SIZE_OFFSET) != codec.size()) {
+                throw new IOException("Element size " + header.getInt(ELEMENT_SIZE_OFFSET)
+                        + " does not match the codec element size " + codec.size());
+            }
+            ByteBuffer elements = list.elements();
+            int size = header.getInt(SIZE_OFFSET);
+            if (size < 0 || (long) size * codec.size() > elements.capacity()) {
+                throw new IOException("Corrupted MappedList file: " + file);
+            }
+            list.init(new ByteBuffer[] {elements}, size);
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes all changes made to the list to the storage device.
+     * @throws IllegalStateException if the list is closed
+     */
+    public void force() {
+        mapping().force();
+    }
+
+    /**
+     * Unmaps the file and closes it. Changes that were not forced are written by the operating system later.
+     * Calling close more than once has no effect.
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    @Override
+    public void close() {
+        MappedByteBuffer data = mapping;
+        if (data == null) {
+            return;
+        }
+        detach();
+        mapping = null;
+        DirectBuffers.free(data);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stores the number of elements in the file header.
+     * @param size the new number of elements
+     */
+    @Override
+    void sizeChanged(int size) {
+        mapping().putInt(SIZE_OFFSET, size);
+    }
+
+    /**
+     * Returns the largest number of elements that fit into the file next to the header.
+     * @return the maximum capacity, in elements
+     */
+    @Override
+    int maxCapacity() {
+        return (Integer.MAX_VALUE - HEADER_BYTES) / elementSize();
+    }
+
+    /**
+     * Extends the file with the 1.5x policy and maps the larger region as the single segment of the list;
+     * the elements stay in the file and are not copied.
+     * @param current     the segments that store the elements
+     * @param minCapacity the required capacity, in elements
+     * @return the new segments
+     * @throws UncheckedIOException if the file cannot be extended or mapped
+     */
+    @Override
+    ByteBuffer[] resize(ByteBuffer[] current, int minCapacity) {
+        try {
+            int newCapacity = newCapacity(current[0].capacity() / elementSize(), minCapacity);
+            MappedByteBuffer old = mapping;
+            mapping = map(HEADER_BYTES + (long) elementSize() * newCapacity);
+            DirectBuffers.free(old);
+            return new ByteBuffer[] {elements()};
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Makes sure that the mapped region can hold the specified number of elements.
+     * @param capacity the number of elements
+     * @throws IOException if the file cannot be extended or mapped
+     */
+    private void ensureMapped(int capacity) throws IOException {
+        long bytes = HEADER_BYTES + (long) elementSize() * capacity;
+        if (bytes > mapping().capacity()) {
+            if (bytes > Integer.MAX_VALUE) {
+                throw new IOException("Required capacity exceeds the maximum file size: " + capacity);
+            }
+            MappedByteBuffer old = mapping;
+            mapping = map(bytes);
+            DirectBuffers.free(old);
+            init(new ByteBuffer[] {elements()}, size());
+        }
+    }
+
+    /**
+     * Maps the specified number of bytes of the file, extending the file if it is shorter.
+     * @param bytes the number of bytes to map
+     * @return the mapping
+     * @throws IOException if the file cannot be mapped
+     */
+    private MappedByteBuffer map(long bytes) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        return mapped;
+    }
+
+    /**
+     * Returns the element region of the current mapping.
+     * @return the buffer that stores the elements
+     */
+    private ByteBuffer elements() {
+        ByteBuffer region = mapping().duplicate();
+        region.position(HEADER_BYTES);
+        return region.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns the mapping of the file.
+     * @return the mapping of the file
+     * @throws IllegalStateException if the list is closed
+     */
+    private MappedByteBuffer mapping() {
+        MappedByteBuffer data = mapping;
+        if (data == null) {
+            throw new IllegalStateException("List is closed");
+        }
+        return data;
+    }
+}
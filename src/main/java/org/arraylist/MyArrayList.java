@@ -1,28 +1,58 @@
 package org.arraylist;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * MyArrayList is a class that implements the MyList interface and represents a dynamic array that can hold objects of type T.
+ * It is serializable if its elements are; only the used part of the array is written. For a compact format
+ * without Java serialization, see {@link ListSerializer}.
  * @param <T> the type of objects to be stored in the array
  */
-public class MyArrayList<T> implements MyList<T> {
+public class MyArrayList<T> implements MyList<T>, Serializable {
+    /** The version of the serialized form. */
+    private static final long serialVersionUID = 1L;
     /** The default capacity of the underlying array. */
     private static final int DEFAULT_CAPACITY = 10;
+    /** The default factor by which the capacity of the underlying array grows. */
+    public static final double DEFAULT_GROWTH_FACTOR = 1.5;
+    /** The default number of elements below which parallelSort falls back to the sequential sort. */
+    public static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 1 << 13;
+    /** The maximum length of an array the virtual machine can allocate. */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
     /** The array that stores the elements of the MyArrayList. */
-    private Object[] elementData;
+    private transient Object[] elementData;
     /** The number of elements currently stored in the MyArrayList. */
     private int size;
+    /** The number of structural modifications, used by iterators and spliterators to fail fast. */
+    private transient int modCount;
+    /** The capacity the list is created with, below which it never shrinks. */
+    private final int initialCapacity;
+    /** The factor by which the capacity of the underlying array grows. */
+    private final double growthFactor;
+    /** Whether the underlying array is shrunk automatically when the list becomes sparse. */
+    private final boolean autoShrink;
+    /** The operation counters, or null if instrumentation is disabled. */
+    private transient ListMetrics metrics;
 
     /**
      * This constructor creates an instance of MyArrayList with a default capacity of an array inside.
      */
     public MyArrayList() {
-        this.elementData = new Object[DEFAULT_CAPACITY];
-        this.size = 0;
+        this(DEFAULT_CAPACITY);
     }
 
     /**
@@ -31,11 +61,58 @@ public class MyArrayList<T> implements MyList<T> {
      * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
      */
     public MyArrayList(int initialCapacity) {
-        if (initialCapacity > 0) {
-            elementData = new Object[initialCapacity];
-        } else {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR, false);
+    }
+
+    /**
+     * This constructor creates an instance of MyArrayList with a specific capacity, growth factor and shrink policy.
+     * With auto-shrink enabled, the underlying array is halved whenever removals leave it less than a quarter full,
+     * but never below the initial capacity; clear() then also resets the array to the initial capacity.
+     * @param initialCapacity the initial capacity of the list
+     * @param growthFactor    the factor by which the capacity grows when the array is full
+     * @param autoShrink      whether the array is shrunk automatically when the list becomes sparse
+     * @throws IllegalArgumentException if the initial capacity is negative or 0, or the growth factor is not
+     *                                  a finite number greater than 1
+     */
+    public MyArrayList(int initialCapacity, double growthFactor, boolean autoShrink) {
+        if (initialCapacity <= 0) {
             throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
         }
+        if (!(growthFactor > 1.0) || Double.isInfinite(growthFactor)) {
+            throw new IllegalArgumentException("Illegal growth factor: " + growthFactor);
+        }
+        this.elementData = new Object[initialCapacity];
+        this.initialCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
+        this.autoShrink = autoShrink;
+    }
+
+    /**
+     * This constructor creates an instance of MyArrayList that adopts the specified array without copying it.
+     * @param elementData the array that stores the elements; the list takes ownership of it
+     * @param size        the number of elements at the start of the array
+     */
+    MyArrayList(Object[] elementData, int size) {
+        this.elementData = elementData;
+        this.size = size;
+        this.initialCapacity = DEFAULT_CAPACITY;
+        this.growthFactor = DEFAULT_GROWTH_FACTOR;
+        this.autoShrink = false;
+    }
+
+    /**
+     * Returns a builder that collects elements into an array pre-sized for the expected number of elements
+     * and hands that array to the built list without copying it.
+     * @param expectedSize the expected number of elements; the builder still grows if more are added
+     * @param <T>          the type of objects to be stored in the list
+     * @return a new builder
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public static <T> Builder<T> builder(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        }
+        return new Builder<>(Math.max(expectedSize, 1));
     }
 
     /**
@@ -43,6 +120,7 @@ public class MyArrayList<T> implements MyList<T> {
      * @param element the element to be added
      */
     public void add(T element) {
+        modCount++;
         grow(size + 1);
         elementData[size] = element;
         size++;
@@ -56,8 +134,12 @@ public class MyArrayList<T> implements MyList<T> {
      */
     public void add(int index, T element) {
         Objects.checkIndex(index, size + 1);
+        modCount++;
         grow(size + 1);
         System.arraycopy(elementData, index, elementData, index + 1, size - index);
+        if (metrics != null) {
+            metrics.recordCopy(size - index);
+        }
         elementData[index] = element;
         size++;
     }
@@ -70,12 +152,79 @@ public class MyArrayList<T> implements MyList<T> {
         Object[] objects = collection.toArray();
         int collectionSize = objects.length;
         if (collectionSize != 0) {
+            modCount++;
             grow(size + collectionSize);
             System.arraycopy(objects, 0, elementData, size, collectionSize);
+            if (metrics != null) {
+                metrics.recordCopy(collectionSize);
+            }
             size += collectionSize;
         }
     }
 
+    /**
+     * Adds len elements of the specified array, starting at index off, to the end of the list.
+     * The elements are copied straight into the underlying array, which grows at most once.
+     * @param src the array containing the elements to be added
+     * @param off the index of the first element to be added
+     * @param len the number of elements to be added
+     * @throws IndexOutOfBoundsException if off or len is out of range (off < 0 || len < 0 || off + len > src.length)
+     */
+    public void addAll(T[] src, int off, int len) {
+        addAll(size, src, off, len);
+    }
+
+    /**
+     * Inserts len elements of the specified array, starting at index off, at the specified position in the list.
+     * The elements after the position are shifted once, and the underlying array grows at most once.
+     * @param index the index at which the first element is to be inserted
+     * @param src   the array containing the elements to be inserted
+     * @param off   the index of the first element to be inserted
+     * @param len   the number of elements to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size()),
+     *                                   or off or len is out of range
+     */
+    public void addAll(int index, T[] src, int off, int len) {
+        Objects.checkIndex(index, size + 1);
+        Objects.checkFromIndexSize(off, len, src.length);
+        insert(index, src, off, len);
+    }
+
+    /**
+     * Adds all elements of the specified list to the end of this list. If the other list is a MyArrayList,
+     * its underlying array is copied directly; otherwise the elements are read with get after growing once.
+     * @param list the list containing the elements to be added, which may be this list
+     */
+    @Override
+    public void addAll(MyList<? extends T> list) {
+        addAll(size, list);
+    }
+
+    /**
+     * Inserts all elements of the specified list at the specified position in this list. The elements after the
+     * position are shifted once. If the other list is a MyArrayList, its underlying array is copied directly.
+     * @param index the index at which the first element is to be inserted
+     * @param list  the list containing the elements to be inserted, which may be this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public void addAll(int index, MyList<? extends T> list) {
+        Objects.checkIndex(index, size + 1);
+        if (list instanceof MyArrayList) {
+            MyArrayList<? extends T> other = (MyArrayList<? extends T>) list;
+            insert(index, other.elementData, 0, other.size);
+            return;
+        }
+        int count = list.size();
+        if (count == 0) {
+            return;
+        }
+        Object[] elements = new Object[count];
+        for (int i = 0; i < count; i++) {
+            elements[i] = list.get(i);
+        }
+        insert(index, elements, 0, count);
+    }
+
     /**
      * Replaces the element at the specified position in the list with the specified element.
      * @param index   the index of the element to be replaced
@@ -96,12 +245,78 @@ public class MyArrayList<T> implements MyList<T> {
     @SuppressWarnings("unchecked")
     public T remove(int index) {
         Objects.checkIndex(index, size);
+        modCount++;
         T removedElement = (T) elementData[index];
         System.arraycopy(elementData, index + 1, elementData, index, size - index - 1);
-        size--;
+        if (metrics != null) {
+            metrics.recordCopy(size - index - 1);
+        }
+        elementData[--size] = null;
+        shrinkIfSparse();
         return removedElement;
     }
 
+    /**
+     * Removes all the elements of the list that satisfy the specified predicate, preserving the order of the others.
+     * The kept elements are compacted in a single pass and the vacated slots are cleared.
+     * If the predicate throws an exception, the elements it has not been applied to are kept.
+     * @param filter the predicate that returns true for the elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int oldSize = size;
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < oldSize; i++) {
+                T element = (T) elementData[i];
+                if (!filter.test(element)) {
+                    elementData[kept++] = element;
+                }
+            }
+        } finally {
+            if (i < oldSize) {
+                System.arraycopy(elementData, i, elementData, kept, oldSize - i);
+                kept += oldSize - i;
+            }
+            if (kept != oldSize) {
+                Arrays.fill(elementData, kept, oldSize, null);
+                size = kept;
+                modCount++;
+                shrinkIfSparse();
+            }
+        }
+        return kept != oldSize;
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive,
+     * with a single shift of the tail. The vacated slots are cleared.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        modCount++;
+        System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+        if (metrics != null) {
+            metrics.recordCopy(size - toIndex);
+        }
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elementData, newSize, size, null);
+        size = newSize;
+        shrinkIfSparse();
+    }
+
     /**
      * Returns the element at the specified position in the list.
      * @param index the index of the element to retrieve
@@ -122,71 +337,323 @@ public class MyArrayList<T> implements MyList<T> {
     public boolean contains(T element) {
         for (int i = 0; i < size; i++) {
             if (element.equals(elementData[i])) {
+                if (metrics != null) {
+                    metrics.recordContains(i + 1);
+                }
                 return true;
             }
         }
+        if (metrics != null) {
+            metrics.recordContains(size);
+        }
         return false;
     }
 
     /**
-     * Removes all the elements from this list.
+     * Returns the index of the first occurrence of the specified element in the list, or -1 if there is none.
+     * @param element the element to search for, which may be null
+     * @return the index of the first occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        if (element == null) {
+            for (int i = 0; i < size; i++) {
+                if (elementData[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (element.equals(elementData[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list, or -1 if there is none.
+     * @param element the element to search for, which may be null
+     * @return the index of the last occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        if (element == null) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (elementData[i] == null) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = size - 1; i >= 0; i--) {
+                if (element.equals(elementData[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all the elements from this list. Only the used slots are cleared and the underlying array is kept,
+     * so a list that is cleared and refilled does not have to grow again. With auto-shrink enabled,
+     * the array is reset to the initial capacity instead.
      */
     public void clear() {
+        modCount++;
+        Arrays.fill(elementData, 0, size, null);
         size = 0;
-        elementData = new Object[DEFAULT_CAPACITY];
+        if (autoShrink && elementData.length > initialCapacity) {
+            elementData = new Object[initialCapacity];
+        }
+    }
+
+    /**
+     * Removes all the elements like {@link #clear()}, nulling only the used slots, and keeps the underlying array
+     * unless it is longer than the specified capacity, in which case it is replaced by an array of that length.
+     * Used by {@link ListPool}.
+     * @param maxCapacity the longest underlying array to keep, at least 1
+     */
+    void reset(int maxCapacity) {
+        modCount++;
+        Arrays.fill(elementData, 0, size, null);
+        size = 0;
+        if (elementData.length > maxCapacity) {
+            elementData = new Object[maxCapacity];
+        }
     }
 
     /**
-     * Sorts the elements in the list using the Quicksort algorithm with the specified comparator.
+     * Sorts the elements in the list with the specified comparator.
+     * The sort is stable and adaptive: existing ascending or descending runs are detected and merged,
+     * small slices are sorted with insertion sort, and the worst case is O(n log n) without recursion.
      * @param comparator the comparator to determine the order of the elements.
      */
     public void sort(Comparator<? super T> comparator) {
-        quicksort(0, size - 1, comparator);
+        TimSort.sort(elementData, 0, size, metrics == null ? comparator : metrics.counting(comparator));
+        modCount++;
     }
 
     /**
-     * Recursively performs the Quicksort algorithm on a portion of the list.
-     * @param low        the starting index of the portion to be sorted.
-     * @param high       the ending index of the portion to be sorted.
-     * @param comparator the comparator to determine the order of the elements.
+     * Reorders the list in place so that its first k positions hold the k least elements in sorted order, followed by
+     * the other elements in no particular order, in O(n + k log k) comparisons expected.
+     * @param k          the number of least elements to sort; values above size() sort the whole list
+     * @param comparator the comparator to determine the order of the elements
+     * @throws IllegalArgumentException if k is negative
      */
-    private void quicksort(int low, int high, Comparator<? super T> comparator) {
-        if (low < high) {
-            int pivotIndex = partition(low, high, comparator);
-            quicksort(low, pivotIndex - 1, comparator);
-            quicksort(pivotIndex + 1, high, comparator);
+    @Override
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
         }
+        Selection.partialSort(elementData, 0, size, k, metrics == null ? comparator : metrics.counting(comparator));
+        modCount++;
+    }
+
+    /**
+     * Returns the element a sort would put at position nth, reordering the list in place with an introselect
+     * so that it is there, the elements before it are not greater and the elements after it are not less.
+     * @param nth        the position in sorted order of the element to select
+     * @param comparator the comparator to determine the order of the elements
+     * @return the element at position nth in sorted order
+     * @throws IndexOutOfBoundsException if nth is out of range (nth < 0 || nth >= size())
+     */
+    @Override
+    public T select(int nth, Comparator<? super T> comparator) {
+        Objects.checkIndex(nth, size);
+        Selection.select(elementData, 0, size, nth, metrics == null ? comparator : metrics.counting(comparator));
+        modCount++;
+        @SuppressWarnings("unchecked")
+        T element = (T) elementData[nth];
+        return element;
+    }
+
+    /**
+     * Sorts the elements in the list with the specified comparator using the common fork-join pool.
+     * Lists with no more than {@link #DEFAULT_PARALLEL_SORT_THRESHOLD} elements are sorted sequentially.
+     * @param comparator the comparator to determine the order of the elements.
+     */
+    public void parallelSort(Comparator<? super T> comparator) {
+        parallelSort(comparator, DEFAULT_PARALLEL_SORT_THRESHOLD);
     }
 
     /**
-     * Partitions the list by selecting a pivot element and rearranging the elements accordingly.
-     * @param low        the starting index of the partition.
-     * @param high       the ending index of the partition.
+     * Sorts the elements in the list with the specified comparator using the common fork-join pool.
+     * The list is split into slices of at most threshold elements that are sorted concurrently and then merged.
+     * The sort is stable and produces the same order as {@link #sort(Comparator)}.
      * @param comparator the comparator to determine the order of the elements.
-     * @return the final index of the pivot element after partitioning.
+     * @param threshold  the number of elements below which the sequential sort is used
+     * @throws IllegalArgumentException if the threshold is negative or 0
+     */
+    public void parallelSort(Comparator<? super T> comparator, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Illegal threshold: " + threshold);
+        }
+        if (size <= threshold) {
+            sort(comparator);
+        } else {
+            ParallelSort.sort(elementData, 0, size, threshold,
+                    metrics == null ? comparator : metrics.counting(comparator));
+            modCount++;
+        }
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence.
+     * @return a new array containing the elements of this list
+     */
+    public Object[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * Enables instrumentation of this list and returns its operation counters.
+     * If instrumentation is already enabled, the existing counters are returned.
+     * @return the operation counters of this list
      */
-    private int partition(int low, int high, Comparator<? super T> comparator) {
-        T pivot = get(high);
-        int i = low;
-        for (int j = low; j < high; j++) {
-            if (comparator.compare(get(j), pivot) <= 0) {
-                swap(i, j);
-                i++;
+    public ListMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new ListMetrics();
+        }
+        return metrics;
+    }
+
+    /**
+     * Disables instrumentation of this list. The counters collected so far stay readable through
+     * the object returned by {@link #enableMetrics()}.
+     */
+    public void disableMetrics() {
+        metrics = null;
+    }
+
+    /**
+     * Returns the operation counters of this list.
+     * @return the operation counters, or null if instrumentation is disabled
+     */
+    public ListMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     * The iterator supports removal and fails fast with a ConcurrentModificationException
+     * if the list is structurally modified in any other way while it is in use.
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns a sized spliterator over the elements in this list that reads the underlying array directly
+     * and splits it in halves. It fails fast with a ConcurrentModificationException if the list is
+     * structurally modified during the traversal.
+     * @return a spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * Returns a fixed-size view of the elements whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     * The view reads and writes the underlying array directly, so creating it copies nothing. get, set and sort
+     * work within the window; sorting the view, like set, is not a structural modification of this list.
+     * The view fails fast with a ConcurrentModificationException once this list is structurally modified.
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     * @return a view of the specified range
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    @Override
+    public MyList<T> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Passes the elements between fromIndex, inclusive, and toIndex, exclusive, to the specified action straight from
+     * the underlying array until the action returns false. Used by {@link Pipeline}.
+     * @param fromIndex the checked index of the first element
+     * @param toIndex   the index after the last element, at most size()
+     * @param action    the action that returns false to stop
+     * @throws ConcurrentModificationException if the list is structurally modified during the pass
+     */
+    void forEachWhile(int fromIndex, int toIndex, Predicate<? super T> action) {
+        int expectedModCount = modCount;
+        Object[] data = elementData;
+        for (int i = fromIndex; i < toIndex; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) data[i];
+            if (!action.test(element)) {
+                break;
             }
         }
-        swap(i, high);
-        return i;
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
     }
 
     /**
-     * Swaps the elements at the specified indices in the list.
-     * @param i the index of the first element to be swapped.
-     * @param j the index of the second element to be swapped.
+     * Increases the capacity of the list, if necessary, so that it can hold at least the specified number of elements
+     * without growing again.
+     * @param minCapacity the desired minimum capacity
      */
-    private void swap(int i, int j) {
-        Object temp = elementData[i];
-        elementData[i] = elementData[j];
-        elementData[j] = temp;
+    public void ensureCapacity(int minCapacity) {
+        grow(minCapacity);
+    }
+
+    /**
+     * Trims the capacity of the list to its current size, releasing the unused part of the underlying array.
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            modCount++;
+            elementData = Arrays.copyOf(elementData, size);
+            if (metrics != null) {
+                metrics.recordCopy(size);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements the list can hold before the underlying array has to grow.
+     * @return the length of the underlying array
+     */
+    public int capacity() {
+        return elementData.length;
+    }
+
+    /**
+     * Inserts a range of an array at the specified position with one shift of the later elements.
+     * The source may be the underlying array itself: the range is copied before the shift would overwrite it.
+     * @param index the checked index at which the first element is to be inserted
+     * @param src   the array containing the elements to be inserted
+     * @param off   the checked index of the first element to be inserted
+     * @param len   the checked number of elements to be inserted
+     */
+    private void insert(int index, Object[] src, int off, int len) {
+        if (len == 0) {
+            return;
+        }
+        if (src == elementData) {
+            src = Arrays.copyOfRange(src, off, off + len);
+            off = 0;
+        }
+        modCount++;
+        grow(size + len);
+        int tail = size - index;
+        if (tail > 0) {
+            System.arraycopy(elementData, index, elementData, index + len, tail);
+        }
+        System.arraycopy(src, off, elementData, index, len);
+        if (metrics != null) {
+            metrics.recordCopy(tail + len);
+        }
+        size += len;
     }
 
     /**
@@ -196,14 +663,99 @@ public class MyArrayList<T> implements MyList<T> {
     private void grow(int minCapacity) {
         int oldCapacity = elementData.length;
         if (minCapacity > oldCapacity) {
-            int newCapacity = oldCapacity + (oldCapacity >> 1);
-            if (newCapacity < minCapacity) {
-                newCapacity = minCapacity;
+            elementData = Arrays.copyOf(elementData, newCapacity(oldCapacity, minCapacity, growthFactor));
+            if (metrics != null) {
+                metrics.recordGrow(oldCapacity);
             }
+        }
+    }
+
+    /**
+     * Halves the underlying array while the list fills less than a quarter of it, if auto-shrink is enabled.
+     * The capacity never drops below the initial capacity.
+     */
+    private void shrinkIfSparse() {
+        if (!autoShrink) {
+            return;
+        }
+        int capacity = elementData.length;
+        int newCapacity = capacity;
+        while (newCapacity > initialCapacity && size < newCapacity >> 2) {
+            newCapacity >>= 1;
+        }
+        newCapacity = Math.max(newCapacity, initialCapacity);
+        if (newCapacity < capacity) {
             elementData = Arrays.copyOf(elementData, newCapacity);
+            if (metrics != null) {
+                metrics.recordCopy(size);
+            }
+        }
+    }
+
+    /**
+     * Returns the capacity an array has to grow to, which is 1.5 times the old capacity or the minimum capacity,
+     * whichever is greater. The primitive and off-heap lists share this policy.
+     * @param oldCapacity the current capacity.
+     * @param minCapacity the desired minimum capacity.
+     * @return the new capacity.
+     */
+    static int newCapacity(int oldCapacity, int minCapacity) {
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
+        }
+        return newCapacity;
+    }
+
+    /**
+     * Returns the capacity an array has to grow to, which is the old capacity multiplied by the growth factor
+     * or the minimum capacity, whichever is greater.
+     * @param oldCapacity  the current capacity.
+     * @param minCapacity  the desired minimum capacity.
+     * @param growthFactor the factor by which the capacity grows.
+     * @return the new capacity.
+     */
+    static int newCapacity(int oldCapacity, int minCapacity, double growthFactor) {
+        double grown = oldCapacity * growthFactor;
+        int newCapacity = grown > MAX_ARRAY_LENGTH ? MAX_ARRAY_LENGTH : (int) grown;
+        return Math.max(newCapacity, minCapacity);
+    }
+
+    /**
+     * Writes the settings of the list, its size and then its elements; the unused part of the array is skipped.
+     * @param out the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        int expectedModCount = modCount;
+        out.defaultWriteObject();
+        for (int i = 0; i < size; i++) {
+            out.writeObject(elementData[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
         }
     }
 
+    /**
+     * Reads a list written by {@link #writeObject(ObjectOutputStream)}, allocating the array once
+     * for all the elements.
+     * @param in the stream to read from
+     * @throws IOException            if the stream cannot be read or holds invalid settings
+     * @throws ClassNotFoundException if the class of an element cannot be found
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size < 0 || initialCapacity <= 0 || !(growthFactor > 1.0) || Double.isInfinite(growthFactor)) {
+            throw new InvalidObjectException("Invalid MyArrayList settings");
+        }
+        Object[] elements = new Object[Math.max(size, initialCapacity)];
+        for (int i = 0; i < size; i++) {
+            elements[i] = in.readObject();
+        }
+        elementData = elements;
+    }
+
     /**
      * Returns the number of elements in this list.
      * @return the number of elements in this list
@@ -219,4 +771,399 @@ public class MyArrayList<T> implements MyList<T> {
     public boolean isEmpty() {
         return size == 0;
     }
+
+    /**
+     * The iterator returned by {@link #iterator()}.
+     */
+    private class Itr implements Iterator<T> {
+        /** The index of the next element to be returned. */
+        private int cursor;
+        /** The index of the last element returned, or -1 if there is none or it has been removed. */
+        private int lastReturned = -1;
+        /** The modification count the iterator expects the list to have. */
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            lastReturned = i;
+            return (T) elementData[i];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            MyArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Throws an exception if the list has been structurally modified outside of this iterator.
+         * @throws ConcurrentModificationException if the list has been modified
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * The spliterator returned by {@link #spliterator()}.
+     */
+    private class ArraySpliterator implements Spliterator<T> {
+        /** The index of the next element to be traversed. */
+        private int index;
+        /** The index after the last element to be traversed, or -1 until first use. */
+        private int fence;
+        /** The modification count the spliterator expects the list to have, set when the fence is bound. */
+        private int expectedModCount;
+
+        /**
+         * Creates a spliterator over the specified range.
+         * @param index            the index of the first element
+         * @param fence            the index after the last element, or -1 to use the size at first use
+         * @param expectedModCount the expected modification count, used only when the fence is given
+         */
+        ArraySpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /**
+         * Returns the index after the last element, binding it to the size of the list on first use.
+         * @return the fence index
+         */
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArraySpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept((T) elementData[i]);
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            Object[] data = elementData;
+            if (hi > data.length) {
+                throw new ConcurrentModificationException();
+            }
+            for (int i = index; i < hi; i++) {
+                action.accept((T) data[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    /**
+     * The view returned by {@link #subList(int, int)}.
+     */
+    private class SubList implements MyList<T> {
+        /** The index of the first element of the view in the underlying array. */
+        private final int offset;
+        /** The number of elements in the view. */
+        private final int size;
+        /** The modification count the view expects the list to have. */
+        private final int expectedModCount = modCount;
+
+        /**
+         * Creates a view of the specified range, which must already have been checked.
+         * @param offset the index of the first element of the view
+         * @param size   the number of elements in the view
+         */
+        SubList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public void add(T element) {
+            throw fixedSize();
+        }
+
+        @Override
+        public void add(int index, T element) {
+            throw fixedSize();
+        }
+
+        @Override
+        public void addAll(Collection<? extends T> collection) {
+            throw fixedSize();
+        }
+
+        @Override
+        public void addAll(MyList<? extends T> list) {
+            throw fixedSize();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            return (T) elementData[offset + index];
+        }
+
+        @Override
+        public T remove(int index) {
+            throw fixedSize();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super T> filter) {
+            throw fixedSize();
+        }
+
+        @Override
+        public void removeRange(int fromIndex, int toIndex) {
+            throw fixedSize();
+        }
+
+        @Override
+        public void set(int index, T element) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            elementData[offset + index] = element;
+        }
+
+        @Override
+        public boolean contains(T element) {
+            return indexOf(element) >= 0;
+        }
+
+        @Override
+        public int indexOf(T element) {
+            checkForComodification();
+            Object[] data = elementData;
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(element, data[offset + i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(T element) {
+            checkForComodification();
+            Object[] data = elementData;
+            for (int i = size - 1; i >= 0; i--) {
+                if (Objects.equals(element, data[offset + i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public void clear() {
+            throw fixedSize();
+        }
+
+        /**
+         * Sorts the window in place with the same stable sort as the whole list.
+         * @param comparator the comparator to determine the order of the elements
+         */
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            checkForComodification();
+            TimSort.sort(elementData, offset, offset + size,
+                    metrics == null ? comparator : metrics.counting(comparator));
+        }
+
+        @Override
+        public MyList<T> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            return new SubList(offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            checkForComodification();
+            return new ArraySpliterator(offset, offset + size, expectedModCount);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        /**
+         * Throws an exception if the list has been structurally modified since the view was created.
+         * @throws ConcurrentModificationException if the list has been modified
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Creates the exception thrown by the operations that would change the size of the view.
+         * @return the exception
+         */
+        private UnsupportedOperationException fixedSize() {
+            return new UnsupportedOperationException("SubList views have a fixed size");
+        }
+    }
+
+    /**
+     * Builder collects elements for a new MyArrayList. It appends into its own array without the checks
+     * and modification counting of the list, and {@link #build()} adopts that array as the list's underlying array.
+     * A builder can build only one list.
+     * @param <T> the type of objects to be stored in the list
+     */
+    public static final class Builder<T> {
+        /** The array that collects the elements, or null once the list has been built. */
+        private Object[] elementData;
+        /** The number of elements collected. */
+        private int size;
+
+        /**
+         * Creates a builder with an array of the specified capacity.
+         * @param capacity the initial capacity
+         */
+        private Builder(int capacity) {
+            this.elementData = new Object[capacity];
+        }
+
+        /**
+         * Adds the specified element.
+         * @param element the element to be added
+         * @return this builder
+         * @throws IllegalStateException if the list has already been built
+         */
+        public Builder<T> add(T element) {
+            Object[] data = elements();
+            if (size == data.length) {
+                data = grow(size + 1);
+            }
+            data[size++] = element;
+            return this;
+        }
+
+        /**
+         * Adds len elements of the specified array, starting at index off.
+         * @param src the array containing the elements to be added
+         * @param off the index of the first element to be added
+         * @param len the number of elements to be added
+         * @return this builder
+         * @throws IndexOutOfBoundsException if off or len is out of range
+         * @throws IllegalStateException     if the list has already been built
+         */
+        public Builder<T> addAll(T[] src, int off, int len) {
+            Objects.checkFromIndexSize(off, len, src.length);
+            Object[] data = elements();
+            if (size + len > data.length) {
+                data = grow(size + len);
+            }
+            System.arraycopy(src, off, data, size, len);
+            size += len;
+            return this;
+        }
+
+        /**
+         * Returns the list holding the collected elements. The list takes over the builder's array,
+         * so its capacity may exceed its size; call {@link MyArrayList#trimToSize()} to release the excess.
+         * @return the new list
+         * @throws IllegalStateException if the list has already been built
+         */
+        public MyArrayList<T> build() {
+            Object[] data = elements();
+            elementData = null;
+            return new MyArrayList<>(data, size);
+        }
+
+        /**
+         * Returns the array that collects the elements.
+         * @return the array
+         * @throws IllegalStateException if the list has already been built
+         */
+        private Object[] elements() {
+            if (elementData == null) {
+                throw new IllegalStateException("List has already been built");
+            }
+            return elementData;
+        }
+
+        /**
+         * Grows the array with the default policy of MyArrayList.
+         * @param minCapacity the desired minimum capacity
+         * @return the new array
+         */
+        private Object[] grow(int minCapacity) {
+            elementData = Arrays.copyOf(elementData,
+                    newCapacity(elementData.length, minCapacity, DEFAULT_GROWTH_FACTOR));
+            return elementData;
+        }
+    }
 }
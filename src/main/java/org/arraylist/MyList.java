@@ -2,12 +2,19 @@ package org.arraylist;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The MyList interface represents a generic list that stores elements of type T.
  * It provides various operations to manipulate and access the elements in the list.
  */
-public interface MyList<T> {
+public interface MyList<T> extends Iterable<T> {
     /**
      * Adds the specified element to the end of the list.
      * @param element the element to be added
@@ -28,6 +35,18 @@ public interface MyList<T> {
      */
     void addAll(Collection<? extends T> collection);
 
+    /**
+     * Adds all elements of the specified list to the end of this list, in order.
+     * The default implementation reads the elements with get and adds them one at a time.
+     * @param list the list containing the elements to be added, which may be this list
+     */
+    default void addAll(MyList<? extends T> list) {
+        int count = list.size();
+        for (int i = 0; i < count; i++) {
+            add(list.get(i));
+        }
+    }
+
     /**
      * Returns the element at the specified position in the list.
      * @param index the index of the element to retrieve
@@ -59,11 +78,108 @@ public interface MyList<T> {
      */
     boolean contains(T element);
 
+    /**
+     * Returns the index of the first occurrence of the specified element in the list, or -1 if there is none.
+     * The default implementation scans the list with get.
+     * @param element the element to search for, which may be null
+     * @return the index of the first occurrence, or -1 if the list does not contain the element
+     */
+    default int indexOf(T element) {
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list, or -1 if there is none.
+     * The default implementation scans the list backwards with get.
+     * @param element the element to search for, which may be null
+     * @return the index of the last occurrence, or -1 if the list does not contain the element
+     */
+    default int lastIndexOf(T element) {
+        for (int i = size() - 1; i >= 0; i--) {
+            if (Objects.equals(element, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Removes all elements from the list.
      */
     void clear();
 
+    /**
+     * Removes all the elements of the list that satisfy the specified predicate, preserving the order of the others.
+     * The default implementation moves the kept elements forward in a single pass with get and set,
+     * and then removes the vacated tail from the end.
+     * @param filter the predicate that returns true for the elements to be removed
+     * @return true if any element was removed
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int oldSize = size();
+        int kept = 0;
+        for (int i = 0; i < oldSize; i++) {
+            T element = get(i);
+            if (!filter.test(element)) {
+                if (kept != i) {
+                    set(kept, element);
+                }
+                kept++;
+            }
+        }
+        for (int i = oldSize - 1; i >= kept; i--) {
+            remove(i);
+        }
+        return kept != oldSize;
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     * The default implementation moves the tail forward with get and set and then removes the vacated tail from the end.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        int oldSize = size();
+        Objects.checkFromToIndex(fromIndex, toIndex, oldSize);
+        int removed = toIndex - fromIndex;
+        for (int i = toIndex; i < oldSize; i++) {
+            set(i - removed, get(i));
+        }
+        for (int i = oldSize - 1; i >= oldSize - removed; i--) {
+            remove(i);
+        }
+    }
+
+    /**
+     * Removes all the elements of the list that are contained in the specified collection.
+     * @param collection the collection containing the elements to be removed
+     * @return true if any element was removed
+     */
+    default boolean removeAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(collection::contains);
+    }
+
+    /**
+     * Retains only the elements of the list that are contained in the specified collection.
+     * @param collection the collection containing the elements to be retained
+     * @return true if any element was removed
+     */
+    default boolean retainAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(element -> !collection.contains(element));
+    }
+
     /**
      * Sorts the elements in the list according to the order induced by the specified
      * comparator. The elements are rearranged in ascending order.
@@ -71,6 +187,83 @@ public interface MyList<T> {
      */
     void sort(Comparator<? super T> comparator);
 
+    /**
+     * Returns the first k elements a stable sort with the specified comparator would produce, in that order,
+     * without changing the list. The elements are collected in a bounded heap in one pass, which takes
+     * O(n log k) comparisons and O(k) memory.
+     * @param k          the maximum number of elements to return
+     * @param comparator the comparator to determine the order of the elements
+     * @return a new list of the min(k, size()) least elements
+     * @throws IllegalArgumentException if k is negative
+     */
+    default MyArrayList<T> topK(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        return Selection.topK(iterator(), Math.min(k, size()), comparator);
+    }
+
+    /**
+     * Reorders the list so that its first k positions hold the k least elements in sorted order, followed by the
+     * other elements in no particular order. This takes O(n + k log k) comparisons expected instead of the
+     * O(n log n) of a full sort. Unlike {@link #sort(Comparator)}, equal elements may change their relative order.
+     * The default implementation copies the elements into an array with get and writes them back with set.
+     * @param k          the number of least elements to sort; values above size() sort the whole list
+     * @param comparator the comparator to determine the order of the elements
+     * @throws IllegalArgumentException if k is negative
+     */
+    default void partialSort(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        Object[] elements = toArray(this);
+        Selection.partialSort(elements, 0, elements.length, k, comparator);
+        writeBack(elements);
+    }
+
+    /**
+     * Returns the element a sort with the specified comparator would put at position nth, reordering the list so
+     * that it is there, the elements before it are not greater and the elements after it are not less.
+     * This takes O(n) comparisons expected.
+     * The default implementation copies the elements into an array with get and writes them back with set.
+     * @param nth        the position in sorted order of the element to select
+     * @param comparator the comparator to determine the order of the elements
+     * @return the element at position nth in sorted order
+     * @throws IndexOutOfBoundsException if nth is out of range (nth < 0 || nth >= size())
+     */
+    default T select(int nth, Comparator<? super T> comparator) {
+        Objects.checkIndex(nth, size());
+        Object[] elements = toArray(this);
+        Selection.select(elements, 0, elements.length, nth, comparator);
+        writeBack(elements);
+        return get(nth);
+    }
+
+    /**
+     * Replaces the elements of the list with those of the specified array, which has size() elements.
+     * @param elements the elements, in the new order
+     */
+    private void writeBack(Object[] elements) {
+        for (int i = 0; i < elements.length; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[i];
+            set(i, element);
+        }
+    }
+
+    /**
+     * Returns an array holding the elements of the specified list, read with get.
+     * @param list the list
+     * @return a new array of the elements
+     */
+    private static Object[] toArray(MyList<?> list) {
+        Object[] elements = new Object[list.size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = list.get(i);
+        }
+        return elements;
+    }
+
     /**
      * Returns true if the list is empty, false otherwise.
      * @return true if the list is empty, false otherwise
@@ -82,4 +275,90 @@ public interface MyList<T> {
      * @return the number of elements in the list
      */
     int size();
+
+    /**
+     * Returns a fixed-size view of the elements whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     * The view shares the elements with this list: get, set and sort work within the window and write through,
+     * while operations that change the size throw UnsupportedOperationException. Once the size of this list
+     * changes, the view fails with ConcurrentModificationException.
+     * The default implementation reads and writes the elements with get and set.
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     * @return a view of the specified range
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    default MyList<T> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        return new SubListView<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns a read-only view of the list. The view reflects later changes to this list,
+     * but all of its mutators, including removal through its iterator, throw UnsupportedOperationException.
+     * @return a read-only view of the list
+     */
+    default MyList<T> readOnlyView() {
+        return new ReadOnlyList<>(this);
+    }
+
+    /**
+     * Returns a lazy pipeline over the elements of the list. Its map, filter, flatMap, limit and skip stages are
+     * fused into a single pass over the list that only runs at a terminal operation, so no intermediate list is built.
+     * @return a sequential pipeline over the elements in the list
+     */
+    default Pipeline<T> pipeline() {
+        return Pipeline.of(this);
+    }
+
+    /**
+     * Returns an iterator over the elements in the list in proper sequence.
+     * The default implementation reads the elements with get and does not support removal.
+     * @return an iterator over the elements in the list
+     */
+    @Override
+    default Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public T next() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Returns a sized spliterator over the elements in the list that splits the index range in halves.
+     * The default implementation reads the elements with get.
+     * @return a spliterator over the elements in the list
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return new IndexSpliterator<>(this, 0, -1);
+    }
+
+    /**
+     * Returns a sequential stream with the list as its source.
+     * @return a sequential stream over the elements in the list
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream with the list as its source.
+     * @return a possibly parallel stream over the elements in the list
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
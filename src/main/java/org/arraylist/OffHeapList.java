@@ -0,0 +1,151 @@
+package org.arraylist;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * OffHeapList is a MyList that stores its elements as fixed-width records in direct memory outside the Java heap,
+ * so the garbage collector never scans them. Elements are converted to and from bytes by an {@link ElementCodec},
+ * which means every get returns a new object and null elements are only supported if the codec supports them.
+ * <p>
+ * The memory is split into segments: direct buffers of a fixed power-of-two number of elements, about 1 MiB by default.
+ * The list can therefore hold up to Integer.MAX_VALUE elements whatever their size. A small list keeps a single buffer that grows with
+ * the same 1.5x policy as MyArrayList until it reaches the segment size; after that, growing allocates new segments
+ * and never copies the elements. The memory is released as soon as {@link #close()} is called; the list cannot be
+ * used afterwards.
+ * @param <T> the type of objects to be stored in the list
+ */
+public class OffHeapList<T> extends AbstractBufferList<T> implements AutoCloseable {
+    /** The default capacity of the list, in elements. */
+    private static final int DEFAULT_CAPACITY = 10;
+    /** The default number of bytes in a segment. */
+    private static final int DEFAULT_SEGMENT_BYTES = 1 << 20;
+
+    /**
+     * This constructor creates an instance of OffHeapList with a default capacity and segments of about 1 MiB.
+     * @param codec the codec that converts elements to and from bytes
+     */
+    public OffHeapList(ElementCodec<T> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This constructor creates an instance of OffHeapList with a specific capacity and segments of about 1 MiB.
+     * @param codec           the codec that converts elements to and from bytes
+     * @param initialCapacity the initial capacity of the list, in elements
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public OffHeapList(ElementCodec<T> codec, int initialCapacity) {
+        this(codec, initialCapacity, defaultSegmentSize(codec));
+    }
+
+    /**
+     * This constructor creates an instance of OffHeapList with a specific capacity and segments of a specific size.
+     * @param codec           the codec that converts elements to and from bytes
+     * @param initialCapacity the initial capacity of the list, in elements
+     * @param segmentSize     the number of elements in a segment, a power of two
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0, or the segment size is not
+     *                                  a positive power of two whose elements fit into one buffer
+     */
+    public OffHeapList(ElementCodec<T> codec, int initialCapacity, int segmentSize) {
+        super(codec, shiftOf(codec, segmentSize));
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+        if (initialCapacity <= segmentSize) {
+            init(new ByteBuffer[] {allocate(initialCapacity)}, 0);
+        } else {
+            init(addSegments(new ByteBuffer[0], initialCapacity), 0);
+        }
+    }
+
+    /**
+     * Releases the direct memory held by the list. Calling close more than once has no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer[] data = detach();
+        if (data != null) {
+            for (ByteBuffer segment : data) {
+                DirectBuffers.free(segment);
+            }
+        }
+    }
+
+    /**
+     * Grows the list. A single buffer shorter than a segment is copied into a larger buffer, which is never longer
+     * than a segment, and releases the old buffer immediately; beyond that, full segments are added and no element
+     * is copied.
+     * @param current     the segments that store the elements
+     * @param minCapacity the required capacity, in elements
+     * @return the new segments
+     */
+    @Override
+    ByteBuffer[] resize(ByteBuffer[] current, int minCapacity) {
+        int segmentCapacity = segmentCapacity();
+        ByteBuffer first = current[0];
+        int firstCapacity = first.capacity() / elementSize();
+        if (firstCapacity == segmentCapacity) {
+            return addSegments(current, minCapacity);
+        }
+        ByteBuffer grown = allocate(Math.min(newCapacity(firstCapacity, minCapacity), segmentCapacity));
+        ByteBuffer source = first.duplicate();
+        source.position(0).limit(size() * elementSize());
+        grown.put(source);
+        grown.clear();
+        DirectBuffers.free(first);
+        ByteBuffer[] next = {grown};
+        return minCapacity <= segmentCapacity ? next : addSegments(next, minCapacity);
+    }
+
+    /**
+     * Returns the segments followed by as many new full segments as needed to hold the specified number of elements.
+     * @param current     the full segments that store the elements
+     * @param minCapacity the required capacity, in elements
+     * @return the new segments
+     */
+    private ByteBuffer[] addSegments(ByteBuffer[] current, int minCapacity) {
+        int count = (int) (((long) minCapacity + segmentCapacity() - 1) >>> shift());
+        ByteBuffer[] next = Arrays.copyOf(current, count);
+        for (int i = current.length; i < count; i++) {
+            next[i] = allocate(segmentCapacity());
+        }
+        return next;
+    }
+
+    /**
+     * Allocates a direct buffer for the specified number of elements.
+     * @param capacity the capacity of the buffer, in elements
+     * @return the new buffer
+     */
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * elementSize()).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the largest power-of-two number of elements of the codec that fits into DEFAULT_SEGMENT_BYTES,
+     * or 1 for elements that are larger.
+     * @param codec the codec that converts elements to and from bytes
+     * @return the default segment size, in elements
+     */
+    private static int defaultSegmentSize(ElementCodec<?> codec) {
+        return Integer.highestOneBit(Math.max(1, DEFAULT_SEGMENT_BYTES / Math.max(1, codec.size())));
+    }
+
+    /**
+     * Returns the number of index bits within a segment of the specified size.
+     * @param codec       the codec that converts elements to and from bytes
+     * @param segmentSize the number of elements in a segment
+     * @return the segment shift
+     * @throws IllegalArgumentException if the segment size is not a positive power of two whose elements fit into
+     *                                  one buffer
+     */
+    private static int shiftOf(ElementCodec<?> codec, int segmentSize) {
+        if (segmentSize <= 0 || Integer.bitCount(segmentSize) != 1
+                || (long) segmentSize * codec.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Illegal segment size: " + segmentSize);
+        }
+        return Integer.numberOfTrailingZeros(segmentSize);
+    }
+}
@@ -0,0 +1,241 @@
+package org.arraylist;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelSort is a stable fork-join merge sort for a range of an object array.
+ * The range is split in halves until a slice is no longer than the threshold, slices are sorted with {@link TimSort},
+ * and the sorted halves are merged back in parallel. The two arrays swap roles on every level, so the elements
+ * are never copied back after a merge.
+ */
+final class ParallelSort {
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ParallelSort() {
+    }
+
+    /**
+     * Sorts the specified range of the array in the common fork-join pool.
+     * @param a          the array to be sorted
+     * @param lo         the index of the first element, inclusive, to be sorted
+     * @param hi         the index of the last element, exclusive, to be sorted
+     * @param threshold  the size of a slice below which the sequential sort is used
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements being sorted
+     */
+    static <T> void sort(Object[] a, int lo, int hi, int threshold, Comparator<? super T> comparator) {
+        Object[] buffer = new Object[hi];
+        ForkJoinPool.commonPool().invoke(new SortTask<>(a, buffer, lo, hi, false, threshold, comparator));
+    }
+
+    /**
+     * Sorts a range of the array, leaving the result either in the array itself or in the buffer.
+     * @param <T> the type of the elements being sorted
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /** The array being sorted. */
+        private final Object[] a;
+        /** The buffer of the same length as the array. */
+        private final Object[] buffer;
+        /** The index of the first element of the range. */
+        private final int lo;
+        /** The index after the last element of the range. */
+        private final int hi;
+        /** Whether the sorted range has to end up in the buffer rather than in the array. */
+        private final boolean intoBuffer;
+        /** The size of a slice below which the sequential sort is used. */
+        private final int threshold;
+        /** The comparator that determines the order of the elements. */
+        private final Comparator<? super T> comparator;
+
+        /**
+         * Creates a task that sorts the specified range.
+         * @param a          the array being sorted
+         * @param buffer     the buffer that covers the sorted range
+         * @param lo         the index of the first element of the range
+         * @param hi         the index after the last element of the range
+         * @param intoBuffer whether the result has to end up in the buffer
+         * @param threshold  the size of a slice below which the sequential sort is used
+         * @param comparator the comparator to determine the order of the elements
+         */
+        SortTask(Object[] a, Object[] buffer, int lo, int hi, boolean intoBuffer, int threshold,
+                 Comparator<? super T> comparator) {
+            this.a = a;
+            this.buffer = buffer;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoBuffer = intoBuffer;
+            this.threshold = threshold;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                TimSort.sort(a, lo, hi, comparator);
+                if (intoBuffer) {
+                    System.arraycopy(a, lo, buffer, lo, hi - lo);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask<>(a, buffer, lo, mid, !intoBuffer, threshold, comparator),
+                    new SortTask<>(a, buffer, mid, hi, !intoBuffer, threshold, comparator));
+            Object[] source = intoBuffer ? a : buffer;
+            Object[] dest = intoBuffer ? buffer : a;
+            new MergeTask<>(source, dest, lo, mid, mid, hi, lo, threshold, comparator).invoke();
+        }
+    }
+
+    /**
+     * Merges two sorted ranges of the source array into the destination array,
+     * splitting the larger range at its middle and the smaller one by binary search.
+     * @param <T> the type of the elements being merged
+     */
+    private static final class MergeTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /** The array that holds both sorted ranges. */
+        private final Object[] source;
+        /** The array that receives the merged range. */
+        private final Object[] dest;
+        /** The index of the first element of the left range. */
+        private final int lo1;
+        /** The index after the last element of the left range. */
+        private final int hi1;
+        /** The index of the first element of the right range. */
+        private final int lo2;
+        /** The index after the last element of the right range. */
+        private final int hi2;
+        /** The index in the destination array of the first merged element. */
+        private final int destLo;
+        /** The number of elements below which the ranges are merged sequentially. */
+        private final int threshold;
+        /** The comparator that determines the order of the elements. */
+        private final Comparator<? super T> comparator;
+
+        /**
+         * Creates a task that merges the two specified ranges.
+         * @param source     the array that holds both sorted ranges
+         * @param dest       the array that receives the merged range
+         * @param lo1        the index of the first element of the left range
+         * @param hi1        the index after the last element of the left range
+         * @param lo2        the index of the first element of the right range
+         * @param hi2        the index after the last element of the right range
+         * @param destLo     the index in the destination array of the first merged element
+         * @param threshold  the number of elements below which the ranges are merged sequentially
+         * @param comparator the comparator to determine the order of the elements
+         */
+        MergeTask(Object[] source, Object[] dest, int lo1, int hi1, int lo2, int hi2, int destLo, int threshold,
+                  Comparator<? super T> comparator) {
+            this.source = source;
+            this.dest = dest;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.destLo = destLo;
+            this.threshold = threshold;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+            if (len1 + len2 <= threshold) {
+                merge();
+                return;
+            }
+            int split1;
+            int split2;
+            if (len1 >= len2) {
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(lo2, hi2, source[split1]);
+            } else {
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(lo1, hi1, source[split2]);
+            }
+            int destSplit = destLo + (split1 - lo1) + (split2 - lo2);
+            invokeAll(new MergeTask<>(source, dest, lo1, split1, lo2, split2, destLo, threshold, comparator),
+                    new MergeTask<>(source, dest, split1, hi1, split2, hi2, destSplit, threshold, comparator));
+        }
+
+        /**
+         * Merges the two ranges sequentially, taking the left element first when two elements are equal.
+         */
+        private void merge() {
+            int cursor1 = lo1;
+            int cursor2 = lo2;
+            int d = destLo;
+            while (cursor1 < hi1 && cursor2 < hi2) {
+                if (compare(source[cursor2], source[cursor1]) < 0) {
+                    dest[d++] = source[cursor2++];
+                } else {
+                    dest[d++] = source[cursor1++];
+                }
+            }
+            if (cursor1 < hi1) {
+                System.arraycopy(source, cursor1, dest, d, hi1 - cursor1);
+            } else if (cursor2 < hi2) {
+                System.arraycopy(source, cursor2, dest, d, hi2 - cursor2);
+            }
+        }
+
+        /**
+         * Returns the index of the first element in the sorted range that is greater than the key.
+         * @param lo  the index of the first element in the range
+         * @param hi  the index after the last element in the range
+         * @param key the key to search for
+         * @return the index of the first element greater than the key, or hi if there is none
+         */
+        private int upperBound(int lo, int hi, Object key) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compare(key, source[mid]) < 0) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Returns the index of the first element in the sorted range that is greater than or equal to the key.
+         * @param lo  the index of the first element in the range
+         * @param hi  the index after the last element in the range
+         * @param key the key to search for
+         * @return the index of the first element not less than the key, or hi if there is none
+         */
+        private int lowerBound(int lo, int hi, Object key) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compare(source[mid], key) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Compares two elements using the comparator.
+         * @param first  the first element to be compared
+         * @param second the second element to be compared
+         * @return a negative integer, zero, or a positive integer as the first element is less than,
+         * equal to, or greater than the second
+         */
+        @SuppressWarnings("unchecked")
+        private int compare(Object first, Object second) {
+            return comparator.compare((T) first, (T) second);
+        }
+    }
+}
@@ -0,0 +1,689 @@
+package org.arraylist;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * PersistentList is an immutable MyList whose updates return a new version that shares almost all of its structure
+ * with the old one, so versions can be kept and passed between threads without copying.
+ * <p>
+ * The elements are stored in a tree of 32-element arrays indexed by groups of 5 bits of the index, with the last
+ * up to 32 elements held in a separate tail. {@link #get(int)}, {@link #with(int, Object)},
+ * {@link #plus(Object)} and {@link #removeLast()} take O(log32 n) steps, which is at most 7 levels for any int
+ * size; an update copies only the arrays on the path to the element, and appending usually copies only the tail.
+ * {@link #plus(int, Object)} and {@link #minus(int)} anywhere but the end rebuild the list in O(n).
+ * <p>
+ * The mutators of MyList throw UnsupportedOperationException. To build or change many elements at once, use a
+ * {@link Builder}, which edits the arrays it has created in place and shares the rest with the list it started from.
+ * @param <T> the type of objects to be stored in the list
+ */
+public final class PersistentList<T> implements MyList<T> {
+    /** The number of index bits per level of the tree. */
+    private static final int SHIFT = 5;
+    /** The number of elements or children in an array of the tree. */
+    private static final int WIDTH = 1 << SHIFT;
+    /** The mask of the index bits of one level. */
+    private static final int MASK = WIDTH - 1;
+    /** The empty root shared by all lists whose elements fit in the tail. */
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    /** The empty list. */
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, SHIFT, EMPTY_NODE, new Object[0]);
+
+    /** The number of elements in the list. */
+    private final int size;
+    /** The number of index bits below the root. */
+    private final int shift;
+    /** The root of the tree, which holds all elements before the tail. */
+    private final Node root;
+    /** The last elements, exactly size() - tailOffset() of them. */
+    private final Object[] tail;
+
+    /**
+     * Creates a list from its parts.
+     * @param size  the number of elements
+     * @param shift the number of index bits below the root
+     * @param root  the root of the tree
+     * @param tail  the last elements
+     */
+    private PersistentList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty list.
+     * @param <T> the type of the elements
+     * @return the empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding the elements of the specified iterable, in order.
+     * @param elements the elements
+     * @param <T>      the type of the elements
+     * @return a list of the elements
+     */
+    public static <T> PersistentList<T> copyOf(Iterable<? extends T> elements) {
+        Builder<T> builder = builder();
+        for (T element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder that starts from the empty list.
+     * @param <T> the type of the elements
+     * @return a new builder
+     */
+    public static <T> Builder<T> builder() {
+        return PersistentList.<T>empty().toBuilder();
+    }
+
+    /**
+     * Returns a builder that starts from this list. The list itself never changes.
+     * @return a new builder
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Returns a new version with the specified element appended.
+     * @param element the element to be appended
+     * @return the new version
+     */
+    public PersistentList<T> plus(T element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> SHIFT) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += SHIFT;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentList<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Returns a new version with the specified element inserted at the specified position. Inserting anywhere but at
+     * the end rebuilds the list in O(n).
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     * @return the new version
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    public PersistentList<T> plus(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            return plus(element);
+        }
+        Builder<T> builder = builder();
+        for (int i = 0; i < index; i++) {
+            builder.add(get(i));
+        }
+        builder.add(element);
+        for (int i = index; i < size; i++) {
+            builder.add(get(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a new version with the element at the specified position replaced.
+     * @param index   the index of the element to be replaced
+     * @param element the replacement element
+     * @return the new version
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public PersistentList<T> with(int index, T element) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+        return new PersistentList<>(size, shift, assoc(null, shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a new version without the element at the specified position. Removing anywhere but at the end
+     * rebuilds the list in O(n).
+     * @param index the index of the element to be removed
+     * @return the new version
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public PersistentList<T> minus(int index) {
+        Objects.checkIndex(index, size);
+        if (index == size - 1) {
+            return removeLast();
+        }
+        Builder<T> builder = builder();
+        for (int i = 0; i < size; i++) {
+            if (i != index) {
+                builder.add(get(i));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a new version without the last element.
+     * @return the new version
+     * @throws NoSuchElementException if the list is empty
+     */
+    public PersistentList<T> removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = arrayFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > SHIFT && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= SHIFT;
+        }
+        return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns a new version with the elements sorted by the specified comparator, with the same stable sort as
+     * MyArrayList.
+     * @param comparator the comparator to determine the order of the elements
+     * @return the sorted version
+     */
+    public PersistentList<T> sorted(Comparator<? super T> comparator) {
+        Object[] elements = toArray();
+        TimSort.sort(elements, 0, size, comparator);
+        Builder<T> builder = builder();
+        for (Object element : elements) {
+            @SuppressWarnings("unchecked")
+            T t = (T) element;
+            builder.add(t);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns an array containing all the elements in order.
+     * @return a new array of the elements
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int tailOffset = tailOffset(size);
+        for (int i = 0; i < tailOffset; i += WIDTH) {
+            System.arraycopy(arrayFor(i), 0, result, i, WIDTH);
+        }
+        System.arraycopy(tail, 0, result, tailOffset, size - tailOffset);
+        return result;
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     * @param index the index of the element to retrieve
+     * @return the element at the specified position in the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        @SuppressWarnings("unchecked")
+        T element = (T) arrayFor(index)[index & MASK];
+        return element;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator that walks the leaf arrays of the tree directly. The list never changes, so the iterator
+     * cannot fail; it does not support removal.
+     * @return an iterator over the elements in the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int cursor;
+            private int leafEnd;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public T next() {
+                int i = cursor;
+                if (i == leafEnd) {
+                    if (i >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    leaf = arrayFor(i);
+                    leafEnd = Math.min(size, i + WIDTH);
+                }
+                cursor = i + 1;
+                @SuppressWarnings("unchecked")
+                T element = (T) leaf[i & MASK];
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Returns this list, which is already immutable.
+     * @return this list
+     */
+    @Override
+    public MyList<T> readOnlyView() {
+        return this;
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable; use {@link #plus(Object)}.
+     * @param element the element to be added
+     */
+    @Override
+    public void add(T element) {
+        throw immutable();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable; use {@link #plus(int, Object)}.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     */
+    @Override
+    public void add(int index, T element) {
+        throw immutable();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable; use a {@link Builder}.
+     * @param collection the collection containing the elements to be added
+     */
+    @Override
+    public void addAll(Collection<? extends T> collection) {
+        throw immutable();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable; use a {@link Builder}.
+     * @param list the list containing the elements to be added
+     */
+    @Override
+    public void addAll(MyList<? extends T> list) {
+        throw immutable();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable; use {@link #minus(int)}.
+     * @param index the index of the element to be removed
+     * @return never
+     */
+    @Override
+    public T remove(int index) {
+        throw immutable();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable.
+     * @param filter the predicate that returns true for the elements to be removed
+     * @return never
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw immutable();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw immutable();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable; use {@link #with(int, Object)}.
+     * @param index   the index of the element to be replaced
+     * @param element the replacement element
+     */
+    @Override
+    public void set(int index, T element) {
+        throw immutable();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable; use {@link #empty()}.
+     */
+    @Override
+    public void clear() {
+        throw immutable();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the list is immutable; use {@link #sorted(Comparator)}.
+     * @param comparator the comparator to determine the order of the elements
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        throw immutable();
+    }
+
+    /**
+     * Returns the array holding the element at the specified checked position: the tail or a leaf of the tree.
+     * @param index the index of the element
+     * @return the array holding the element
+     */
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= SHIFT) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    /**
+     * Returns a copy of the path to the last leaf of the tree with that leaf removed, or null if nothing is left.
+     * @param level the number of index bits below the node
+     * @param node  the node of the path
+     * @return the new node, or null
+     */
+    private Node popTail(int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > SHIFT) {
+            Node child = popTail(level - SHIFT, (Node) node.array[subIndex]);
+            if (child == null && subIndex == 0) {
+                return null;
+            }
+            Node result = new Node(null, node.array.clone());
+            result.array[subIndex] = child;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node result = new Node(null, node.array.clone());
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    /**
+     * Returns the number of elements held in the tree for a list of the specified size, which is the index of the
+     * first element of the tail.
+     * @param size the number of elements
+     * @return the index of the first element of the tail
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> SHIFT) << SHIFT;
+    }
+
+    /**
+     * Returns a node that may be edited in place by the specified owner: the node itself if the owner created it,
+     * otherwise a copy.
+     * @param owner the token of a builder, or null for a persistent update that always copies
+     * @param node  the node
+     * @return a node the owner may edit
+     */
+    private static Node editable(Object owner, Node node) {
+        return owner != null && node.owner == owner ? node : new Node(owner, node.array.clone());
+    }
+
+    /**
+     * Returns a chain of single-child nodes from the specified level down to the specified leaf.
+     * @param owner the owner of the new nodes
+     * @param level the number of index bits below the top node
+     * @param node  the leaf
+     * @return the top node of the chain
+     */
+    private static Node newPath(Object owner, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node result = new Node(owner, new Object[WIDTH]);
+        result.array[0] = newPath(owner, level - SHIFT, node);
+        return result;
+    }
+
+    /**
+     * Returns the node with the full tail of a list of the specified size added as the next leaf.
+     * @param owner    the owner of the new nodes
+     * @param size     the number of elements of the list before the tail is pushed
+     * @param level    the number of index bits below the node
+     * @param parent   the node
+     * @param tailNode the leaf holding the tail
+     * @return the updated node
+     */
+    private static Node pushTail(Object owner, int size, int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = editable(owner, parent);
+        Node child;
+        if (level == SHIFT) {
+            child = tailNode;
+        } else {
+            Node existing = (Node) parent.array[subIndex];
+            child = existing != null
+                    ? pushTail(owner, size, level - SHIFT, existing, tailNode)
+                    : newPath(owner, level - SHIFT, tailNode);
+        }
+        result.array[subIndex] = child;
+        return result;
+    }
+
+    /**
+     * Returns the node with the element at the specified position replaced.
+     * @param owner   the owner of the new nodes
+     * @param level   the number of index bits below the node
+     * @param node    the node
+     * @param index   the index of the element
+     * @param element the replacement element
+     * @return the updated node
+     */
+    private static Node assoc(Object owner, int level, Node node, int index, Object element) {
+        Node result = editable(owner, node);
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(owner, level - SHIFT, (Node) node.array[subIndex], index, element);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the exception thrown by the mutators of MyList.
+     * @return the exception
+     */
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("PersistentList is immutable");
+    }
+
+    /**
+     * Node is an array of the tree: children in inner nodes, elements in leaves. A node is never changed once it is
+     * part of a PersistentList, except by the builder that created it before that builder has built its list.
+     */
+    private static final class Node {
+        /** The token of the builder that may edit the node in place, or null. */
+        final Object owner;
+        /** The children or elements. */
+        final Object[] array;
+
+        /**
+         * Creates a node.
+         * @param owner the token of the builder that may edit the node, or null
+         * @param array the children or elements
+         */
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Builder is the transient form of a PersistentList for building or changing many elements at once. It edits
+     * the arrays it has created in place, so appending costs amortized O(1), and it copies an array of the list it
+     * started from only the first time it changes it. A builder is not thread-safe and can build only one list.
+     * @param <T> the type of objects to be stored in the list
+     */
+    public static final class Builder<T> {
+        /** The token that marks the nodes this builder may edit, or null once the list has been built. */
+        private Object owner = new Object();
+        /** The number of elements. */
+        private int size;
+        /** The number of index bits below the root. */
+        private int shift;
+        /** The root of the tree. */
+        private Node root;
+        /** The last elements, in an array of full width. */
+        private Object[] tail;
+
+        /**
+         * Creates a builder that starts from the specified list.
+         * @param list the list to start from
+         */
+        private Builder(PersistentList<T> list) {
+            this.size = list.size;
+            this.shift = list.shift;
+            this.root = list.root;
+            this.tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        /**
+         * Appends the specified element.
+         * @param element the element to be appended
+         * @return this builder
+         * @throws IllegalStateException if the list has already been built
+         */
+        public Builder<T> add(T element) {
+            checkNotBuilt();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> SHIFT) > (1 << shift)) {
+                Node newRoot = new Node(owner, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += SHIFT;
+            } else {
+                root = pushTail(owner, size, shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the specified iterable, in order.
+         * @param elements the elements to be appended
+         * @return this builder
+         * @throws IllegalStateException if the list has already been built
+         */
+        public Builder<T> addAll(Iterable<? extends T> elements) {
+            for (T element : elements) {
+                add(element);
+            }
+            return this;
+        }
+
+        /**
+         * Replaces the element at the specified position.
+         * @param index   the index of the element to be replaced
+         * @param element the replacement element
+         * @return this builder
+         * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+         * @throws IllegalStateException     if the list has already been built
+         */
+        public Builder<T> set(int index, T element) {
+            checkNotBuilt();
+            Objects.checkIndex(index, size);
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = assoc(owner, shift, root, index, element);
+            }
+            return this;
+        }
+
+        /**
+         * Returns the number of elements added so far, including those of the list the builder started from.
+         * @return the number of elements
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the list and ends the builder, whose nodes become immutable.
+         * @return the built list
+         * @throws IllegalStateException if the list has already been built
+         */
+        public PersistentList<T> build() {
+            checkNotBuilt();
+            owner = null;
+            if (size == 0) {
+                return empty();
+            }
+            return new PersistentList<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        /**
+         * Throws an exception if the list has already been built.
+         * @throws IllegalStateException if the list has already been built
+         */
+        private void checkNotBuilt() {
+            if (owner == null) {
+                throw new IllegalStateException("List has already been built");
+            }
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package org.arraylist;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Pipeline is a lazy chain of operations over a MyList, created with {@link MyList#pipeline()}.
+ * <p>
+ * The intermediate operations {@link #map(Function)}, {@link #filter(Predicate)}, {@link #flatMap(Function)},
+ * {@link #limit(long)} and {@link #skip(long)} only record a stage. A terminal operation fuses all stages into
+ * one chain of sinks and pushes the elements of the list through it in a single pass, so no intermediate list is
+ * built; a MyArrayList source is read straight from its underlying array. {@link #limit(long)} stops the pass
+ * as soon as enough elements have been produced. {@link #toList()} pre-sizes the result exactly when the pipeline
+ * only maps elements.
+ * <p>
+ * After {@link #parallel()}, terminal operations split lists of more than {@value #CHUNK_SIZE} elements into chunks
+ * of that size, run the chunks in the common fork-join pool and combine the results in encounter order.
+ * Pipelines with limit or skip always run sequentially, as those stages depend on the position in the whole list.
+ * A pipeline can be evaluated more than once; every evaluation reads the list as it is at that time.
+ * @param <T> the type of the elements produced by the pipeline
+ */
+public final class Pipeline<T> {
+    /** The number of elements in a chunk of a parallel evaluation. */
+    public static final int CHUNK_SIZE = 1 << 13;
+    /** The initial capacity of the result of {@link #toList()} when the number of elements is not known. */
+    private static final int UNKNOWN_SIZE_CAPACITY = 10;
+
+    /** The list the elements come from. */
+    private final MyList<?> source;
+    /** Wraps the sink of the next stage into the sink that receives the elements of the source. */
+    private final Function<Sink<? super T>, Sink<Object>> stages;
+    /** Whether every element of the source produces exactly one element. */
+    private final boolean sizePreserving;
+    /** Whether a stage depends on the position in the whole list, so the pipeline must run sequentially. */
+    private final boolean positional;
+    /** Whether terminal operations may run in parallel. */
+    private final boolean parallel;
+
+    /**
+     * Creates a pipeline from its parts.
+     * @param source         the list the elements come from
+     * @param stages         the composed stages
+     * @param sizePreserving whether every element of the source produces exactly one element
+     * @param positional     whether a stage depends on the position in the whole list
+     * @param parallel       whether terminal operations may run in parallel
+     */
+    private Pipeline(MyList<?> source, Function<Sink<? super T>, Sink<Object>> stages,
+                     boolean sizePreserving, boolean positional, boolean parallel) {
+        this.source = source;
+        this.stages = stages;
+        this.sizePreserving = sizePreserving;
+        this.positional = positional;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns a sequential pipeline over the elements of the specified list.
+     * @param list the list the elements come from
+     * @param <T>  the type of the elements
+     * @return a pipeline without stages
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Pipeline<T> of(MyList<T> list) {
+        return new Pipeline<>(Objects.requireNonNull(list), sink -> (Sink<Object>) sink, true, false, false);
+    }
+
+    /**
+     * Returns a pipeline that applies the specified function to every element.
+     * @param mapper the function to apply
+     * @param <R>    the type of the results
+     * @return the new pipeline
+     */
+    public <R> Pipeline<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return new Pipeline<R>(source, downstream -> stages.apply(element -> downstream.accept(mapper.apply(element))),
+                sizePreserving, positional, parallel);
+    }
+
+    /**
+     * Returns a pipeline that keeps only the elements matching the specified predicate.
+     * @param predicate the predicate that returns true for the elements to keep
+     * @return the new pipeline
+     */
+    public Pipeline<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return new Pipeline<T>(source,
+                downstream -> stages.apply(element -> !predicate.test(element) || downstream.accept(element)),
+                false, positional, parallel);
+    }
+
+    /**
+     * Returns a pipeline that replaces every element with the elements of the list the specified function returns.
+     * @param mapper the function that returns the list of elements for an element
+     * @param <R>    the type of the results
+     * @return the new pipeline
+     */
+    public <R> Pipeline<R> flatMap(Function<? super T, ? extends MyList<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+        return new Pipeline<R>(source, downstream -> stages.apply(element -> {
+            MyList<? extends R> results = mapper.apply(element);
+            int count = results.size();
+            for (int i = 0; i < count; i++) {
+                if (!downstream.accept(results.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }), false, positional, parallel);
+    }
+
+    /**
+     * Returns a pipeline that produces at most the specified number of elements and then stops reading the list.
+     * @param maxSize the maximum number of elements
+     * @return the new pipeline
+     * @throws IllegalArgumentException if maxSize is negative
+     */
+    public Pipeline<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Illegal limit: " + maxSize);
+        }
+        return new Pipeline<T>(source, downstream -> stages.apply(new Sink<T>() {
+            private long remaining = maxSize;
+
+            @Override
+            public boolean accept(T element) {
+                if (remaining == 0) {
+                    return false;
+                }
+                remaining--;
+                return downstream.accept(element) && remaining != 0;
+            }
+        }), false, true, parallel);
+    }
+
+    /**
+     * Returns a pipeline that drops the specified number of elements first.
+     * @param count the number of elements to drop
+     * @return the new pipeline
+     * @throws IllegalArgumentException if count is negative
+     */
+    public Pipeline<T> skip(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Illegal skip: " + count);
+        }
+        return new Pipeline<T>(source, downstream -> stages.apply(new Sink<T>() {
+            private long remaining = count;
+
+            @Override
+            public boolean accept(T element) {
+                if (remaining != 0) {
+                    remaining--;
+                    return true;
+                }
+                return downstream.accept(element);
+            }
+        }), false, true, parallel);
+    }
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations may run in parallel.
+     * @return the new pipeline
+     */
+    public Pipeline<T> parallel() {
+        return new Pipeline<>(source, stages, sizePreserving, positional, true);
+    }
+
+    /**
+     * Returns an equivalent pipeline whose terminal operations run sequentially.
+     * @return the new pipeline
+     */
+    public Pipeline<T> sequential() {
+        return new Pipeline<>(source, stages, sizePreserving, positional, false);
+    }
+
+    /**
+     * Collects the elements into a new MyArrayList in encounter order.
+     * @return the list of the elements
+     */
+    public MyArrayList<T> toList() {
+        int size = source.size();
+        int expectedSize = sizePreserving ? (parallel ? Math.min(size, CHUNK_SIZE) : size) : UNKNOWN_SIZE_CAPACITY;
+        Object[] parts = evaluate(() -> new Accumulator<T, MyArrayList<T>>() {
+            private final MyArrayList.Builder<T> builder = MyArrayList.builder(expectedSize);
+
+            @Override
+            public boolean accept(T element) {
+                builder.add(element);
+                return true;
+            }
+
+            @Override
+            MyArrayList<T> result() {
+                return builder.build();
+            }
+        });
+        if (parts.length == 1) {
+            @SuppressWarnings("unchecked")
+            MyArrayList<T> only = (MyArrayList<T>) parts[0];
+            return only;
+        }
+        int total = 0;
+        for (Object part : parts) {
+            total += ((MyArrayList<?>) part).size();
+        }
+        MyArrayList<T> result = new MyArrayList<>(Math.max(total, 1));
+        for (Object part : parts) {
+            @SuppressWarnings("unchecked")
+            MyArrayList<T> list = (MyArrayList<T>) part;
+            result.addAll(list);
+        }
+        return result;
+    }
+
+    /**
+     * Combines the elements with the specified associative operator, starting from the identity.
+     * In parallel, every chunk starts from the identity and the chunk results are combined in encounter order.
+     * @param identity the identity value of the operator
+     * @param operator the associative operator
+     * @return the result of the reduction
+     */
+    public T reduce(T identity, BinaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        Object[] parts = evaluate(() -> new Accumulator<T, T>() {
+            private T value = identity;
+
+            @Override
+            public boolean accept(T element) {
+                value = operator.apply(value, element);
+                return true;
+            }
+
+            @Override
+            T result() {
+                return value;
+            }
+        });
+        @SuppressWarnings("unchecked")
+        T result = (T) parts[0];
+        for (int i = 1; i < parts.length; i++) {
+            @SuppressWarnings("unchecked")
+            T part = (T) parts[i];
+            result = operator.apply(result, part);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of elements the pipeline produces.
+     * @return the number of elements
+     */
+    public long count() {
+        Object[] parts = evaluate(() -> new Accumulator<T, Long>() {
+            private long count;
+
+            @Override
+            public boolean accept(T element) {
+                count++;
+                return true;
+            }
+
+            @Override
+            Long result() {
+                return count;
+            }
+        });
+        long count = 0;
+        for (Object part : parts) {
+            count += (Long) part;
+        }
+        return count;
+    }
+
+    /**
+     * Performs the specified action for every element. In parallel, the action may be called from several threads
+     * at once and not in encounter order.
+     * @param action the action to perform
+     */
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        evaluate(() -> new Accumulator<T, Object>() {
+            @Override
+            public boolean accept(T element) {
+                action.accept(element);
+                return true;
+            }
+
+            @Override
+            Object result() {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Runs the pipeline, sequentially or in chunks, and returns the results of the accumulators in encounter order.
+     * @param factory creates an accumulator for the whole list or for one chunk
+     * @param <R>     the type of the result of an accumulator
+     * @return the results of the accumulators
+     */
+    private <R> Object[] evaluate(Supplier<? extends Accumulator<T, R>> factory) {
+        int size = source.size();
+        if (!parallel || positional || size <= CHUNK_SIZE) {
+            return new Object[]{run(factory.get(), 0, size)};
+        }
+        Object[] results = new Object[(size + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        ForkJoinPool.commonPool().invoke(new ChunkTask<>(factory, results, 0, results.length, size));
+        return results;
+    }
+
+    /**
+     * Pushes the elements of a range of the source through the stages into the specified accumulator.
+     * @param accumulator the accumulator at the end of the chain
+     * @param from        the index of the first element
+     * @param to          the index after the last element
+     * @param <R>         the type of the result of the accumulator
+     * @return the result of the accumulator
+     */
+    private <R> R run(Accumulator<T, R> accumulator, int from, int to) {
+        Sink<Object> sink = stages.apply(accumulator);
+        if (source instanceof MyArrayList) {
+            ((MyArrayList<?>) source).forEachWhile(from, to, sink::accept);
+        } else {
+            for (int i = from; i < to && sink.accept(source.get(i)); i++) {
+                // the sink does the work
+            }
+        }
+        return accumulator.result();
+    }
+
+    /**
+     * Sink receives the elements of a stage.
+     * @param <T> the type of the elements
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+        /**
+         * Receives an element.
+         * @param element the element
+         * @return true to receive more elements, false to stop the pass
+         */
+        boolean accept(T element);
+    }
+
+    /**
+     * Accumulator is the sink of a terminal operation.
+     * @param <T> the type of the elements
+     * @param <R> the type of the result
+     */
+    private abstract static class Accumulator<T, R> implements Sink<T> {
+        /**
+         * Returns the result after all elements have been received.
+         * @return the result
+         */
+        abstract R result();
+    }
+
+    /**
+     * ChunkTask evaluates a range of chunks of a parallel pipeline, splitting the range in halves.
+     * @param <R> the type of the result of an accumulator
+     */
+    private final class ChunkTask<R> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        /** Creates an accumulator for one chunk. */
+        private final Supplier<? extends Accumulator<T, R>> factory;
+        /** The results of the chunks, in encounter order. */
+        private final Object[] results;
+        /** The index of the first chunk of the range. */
+        private final int lo;
+        /** The index after the last chunk of the range. */
+        private final int hi;
+        /** The number of elements of the source. */
+        private final int size;
+
+        /**
+         * Creates a task for a range of chunks.
+         * @param factory creates an accumulator for one chunk
+         * @param results the results of the chunks
+         * @param lo      the index of the first chunk
+         * @param hi      the index after the last chunk
+         * @param size    the number of elements of the source
+         */
+        ChunkTask(Supplier<? extends Accumulator<T, R>> factory, Object[] results, int lo, int hi, int size) {
+            this.factory = factory;
+            this.results = results;
+            this.lo = lo;
+            this.hi = hi;
+            this.size = size;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                int from = lo * CHUNK_SIZE;
+                results[lo] = run(factory.get(), from, Math.min(size, from + CHUNK_SIZE));
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkTask<>(factory, results, lo, mid, size),
+                    new ChunkTask<>(factory, results, mid, hi, size));
+        }
+    }
+}
@@ -0,0 +1,476 @@
+package org.arraylist;
+
+/**
+ * PrimitiveKernels holds the scanning and aggregation loops shared by the primitive lists.
+ * <p>
+ * The loops are written so that the JIT compiler can keep several independent operations in flight:
+ * range counts add the result of each comparison instead of branching on it, so their speed does not depend on
+ * how predictable the data is, and sums, minimums and maximums use independent accumulators instead of one long
+ * dependency chain. Searches are plain loops, which the JIT compiler already unrolls well.
+ * All methods work on the range [0, size) of the array.
+ * <p>
+ * When the library is built with the {@code vector} profile and the JVM runs with
+ * {@code --add-modules jdk.incubator.vector}, ranges of at least {@value #VECTOR_THRESHOLD} elements are handed to
+ * {@code VectorKernels}, which processes a whole SIMD register per step with the Vector API. Otherwise, and for
+ * shorter ranges, the scalar loops below are used.
+ */
+final class PrimitiveKernels {
+    /** Ranges shorter than this are always scanned with the scalar loops. */
+    static final int VECTOR_THRESHOLD = 64;
+    /** The name of the class that implements the kernels with the Vector API. */
+    private static final String VECTOR_KERNELS = "org.arraylist.VectorKernels";
+    /** The kernels that use the Vector API, or null if the Vector API is not available. */
+    private static final Vectorized VECTOR = loadVectorKernels();
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private PrimitiveKernels() {
+    }
+
+    /**
+     * Vectorized holds the kernels that have a Vector API implementation. The implementation is compiled only by
+     * the {@code vector} profile, so this library refers to it by name.
+     */
+    interface Vectorized {
+        /**
+         * Returns the index of the first occurrence of the value, or -1 if there is none.
+         * @param a     the array
+         * @param size  the number of elements in use
+         * @param value the value to search for
+         * @return the index of the first occurrence, or -1
+         */
+        int indexOf(int[] a, int size, int value);
+
+        /**
+         * Returns the index of the first occurrence of the value, or -1 if there is none.
+         * @param a     the array
+         * @param size  the number of elements in use
+         * @param value the value to search for
+         * @return the index of the first occurrence, or -1
+         */
+        int indexOf(long[] a, int size, long value);
+
+        /**
+         * Returns the index of the first element with the same bits as the value, comparing like Double.equals,
+         * or -1 if there is none.
+         * @param a     the array
+         * @param size  the number of elements in use
+         * @param value the value to search for
+         * @return the index of the first occurrence, or -1
+         */
+        int indexOf(double[] a, int size, double value);
+
+        /**
+         * Counts the elements between low and high, both inclusive. low is not greater than high.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @param low  the smallest value counted
+         * @param high the largest value counted
+         * @return the number of elements in the range
+         */
+        int countInRange(int[] a, int size, int low, int high);
+
+        /**
+         * Counts the elements between low and high, both inclusive. low is not greater than high.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @param low  the smallest value counted
+         * @param high the largest value counted
+         * @return the number of elements in the range
+         */
+        int countInRange(long[] a, int size, long low, long high);
+
+        /**
+         * Counts the elements between low and high, both inclusive. NaN elements are never counted.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @param low  the smallest value counted
+         * @param high the largest value counted
+         * @return the number of elements in the range
+         */
+        int countInRange(double[] a, int size, double low, double high);
+
+        /**
+         * Returns the sum of the elements as a long.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @return the sum of the elements
+         */
+        long sum(int[] a, int size);
+
+        /**
+         * Returns the sum of the elements; it silently overflows.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @return the sum of the elements
+         */
+        long sum(long[] a, int size);
+
+        /**
+         * Returns the sum of the elements, which can differ in the last bits from a strict left-to-right sum.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @return the sum of the elements
+         */
+        double sum(double[] a, int size);
+
+        /**
+         * Returns the smallest of the elements. The array holds at least one element.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @return the smallest element
+         */
+        int min(int[] a, int size);
+
+        /**
+         * Returns the largest of the elements. The array holds at least one element.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @return the largest element
+         */
+        int max(int[] a, int size);
+
+        /**
+         * Returns the smallest of the elements. The array holds at least one element.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @return the smallest element
+         */
+        long min(long[] a, int size);
+
+        /**
+         * Returns the largest of the elements. The array holds at least one element.
+         * @param a    the array
+         * @param size the number of elements in use
+         * @return the largest element
+         */
+        long max(long[] a, int size);
+    }
+
+    /**
+     * Returns true if the kernels use the Vector API for long ranges.
+     * @return true if the Vector API kernels are loaded
+     */
+    static boolean vectorized() {
+        return VECTOR != null;
+    }
+
+    /**
+     * Loads the Vector API kernels if the jdk.incubator.vector module is resolved and the kernels were compiled.
+     * A JVM that is too old for the class file or a CPU without useful vector registers falls back to the scalar
+     * loops.
+     * @return the Vector API kernels, or null if they cannot be used
+     */
+    private static Vectorized loadVectorKernels() {
+        if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return null;
+        }
+        try {
+            return (Vectorized) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value, or -1 if there is none.
+     * @param a     the array
+     * @param size  the number of elements in use
+     * @param value the value to search for
+     * @return the index of the first occurrence, or -1
+     */
+    static int indexOf(int[] a, int size, int value) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.indexOf(a, size, value);
+        }
+        for (int i = 0; i < size; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value, or -1 if there is none.
+     * @param a     the array
+     * @param size  the number of elements in use
+     * @param value the value to search for
+     * @return the index of the first occurrence, or -1
+     */
+    static int indexOf(long[] a, int size, long value) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.indexOf(a, size, value);
+        }
+        for (int i = 0; i < size; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element with the same bits as the value, comparing like Double.equals,
+     * or -1 if there is none.
+     * @param a     the array
+     * @param size  the number of elements in use
+     * @param value the value to search for
+     * @return the index of the first occurrence, or -1
+     */
+    static int indexOf(double[] a, int size, double value) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.indexOf(a, size, value);
+        }
+        long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(a[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the elements between low and high, both inclusive, without branching on the elements.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @param low  the smallest value counted
+     * @param high the largest value counted
+     * @return the number of elements in the range
+     */
+    static int countInRange(int[] a, int size, int low, int high) {
+        if (low > high) {
+            return 0;
+        }
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.countInRange(a, size, low, high);
+        }
+        // x is in [low, high] exactly when x - low, read as unsigned, is at most high - low.
+        int width = (high - low) + Integer.MIN_VALUE;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += (a[i] - low) + Integer.MIN_VALUE <= width ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Counts the elements between low and high, both inclusive, without branching on the elements.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @param low  the smallest value counted
+     * @param high the largest value counted
+     * @return the number of elements in the range
+     */
+    static int countInRange(long[] a, int size, long low, long high) {
+        if (low > high) {
+            return 0;
+        }
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.countInRange(a, size, low, high);
+        }
+        long width = (high - low) + Long.MIN_VALUE;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += (a[i] - low) + Long.MIN_VALUE <= width ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Counts the elements between low and high, both inclusive, without branching on the elements.
+     * NaN elements are never counted.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @param low  the smallest value counted
+     * @param high the largest value counted
+     * @return the number of elements in the range
+     */
+    static int countInRange(double[] a, int size, double low, double high) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.countInRange(a, size, low, high);
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            double x = a[i];
+            count += x >= low & x <= high ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of the elements as a long, so it cannot overflow for any int array.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @return the sum of the elements
+     */
+    static long sum(int[] a, int size) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.sum(a, size);
+        }
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = 0;
+        for (int bound = size - 4; i <= bound; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < size; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Returns the sum of the elements; like a sequential sum, it silently overflows.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @return the sum of the elements
+     */
+    static long sum(long[] a, int size) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.sum(a, size);
+        }
+        long s0 = 0;
+        long s1 = 0;
+        long s2 = 0;
+        long s3 = 0;
+        int i = 0;
+        for (int bound = size - 4; i <= bound; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < size; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Returns the sum of the elements, accumulated in four interleaved partial sums. The result can differ
+     * in the last bits from a strict left-to-right sum.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @return the sum of the elements
+     */
+    static double sum(double[] a, int size) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.sum(a, size);
+        }
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        int i = 0;
+        for (int bound = size - 4; i <= bound; i += 4) {
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < size; i++) {
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Returns the smallest of the elements. The array must hold at least one element.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @return the smallest element
+     */
+    static int min(int[] a, int size) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.min(a, size);
+        }
+        int m0 = a[0];
+        int m1 = m0;
+        int i = 1;
+        for (int bound = size - 2; i <= bound; i += 2) {
+            m0 = Math.min(m0, a[i]);
+            m1 = Math.min(m1, a[i + 1]);
+        }
+        for (; i < size; i++) {
+            m0 = Math.min(m0, a[i]);
+        }
+        return Math.min(m0, m1);
+    }
+
+    /**
+     * Returns the largest of the elements. The array must hold at least one element.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @return the largest element
+     */
+    static int max(int[] a, int size) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.max(a, size);
+        }
+        int m0 = a[0];
+        int m1 = m0;
+        int i = 1;
+        for (int bound = size - 2; i <= bound; i += 2) {
+            m0 = Math.max(m0, a[i]);
+            m1 = Math.max(m1, a[i + 1]);
+        }
+        for (; i < size; i++) {
+            m0 = Math.max(m0, a[i]);
+        }
+        return Math.max(m0, m1);
+    }
+
+    /**
+     * Returns the smallest of the elements. The array must hold at least one element.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @return the smallest element
+     */
+    static long min(long[] a, int size) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.min(a, size);
+        }
+        long m0 = a[0];
+        long m1 = m0;
+        int i = 1;
+        for (int bound = size - 2; i <= bound; i += 2) {
+            m0 = Math.min(m0, a[i]);
+            m1 = Math.min(m1, a[i + 1]);
+        }
+        for (; i < size; i++) {
+            m0 = Math.min(m0, a[i]);
+        }
+        return Math.min(m0, m1);
+    }
+
+    /**
+     * Returns the largest of the elements. The array must hold at least one element.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @return the largest element
+     */
+    static long max(long[] a, int size) {
+        if (VECTOR != null && size >= VECTOR_THRESHOLD) {
+            return VECTOR.max(a, size);
+        }
+        long m0 = a[0];
+        long m1 = m0;
+        int i = 1;
+        for (int bound = size - 2; i <= bound; i += 2) {
+            m0 = Math.max(m0, a[i]);
+            m1 = Math.max(m1, a[i + 1]);
+        }
+        for (; i < size; i++) {
+            m0 = Math.max(m0, a[i]);
+        }
+        return Math.max(m0, m1);
+    }
+}
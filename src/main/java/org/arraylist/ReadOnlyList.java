@@ -0,0 +1,158 @@
+package org.arraylist;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+/**
+ * ReadOnlyList is the read-only view of a MyList returned by {@link MyList#readOnlyView()}. It reads through to
+ * the underlying list without copying, and every mutator throws UnsupportedOperationException.
+ * @param <T> the type of the elements
+ */
+final class ReadOnlyList<T> implements MyList<T> {
+    /** The list the view reads from. */
+    private final MyList<T> list;
+
+    /**
+     * Creates a read-only view of the specified list.
+     * @param list the list the view reads from
+     */
+    ReadOnlyList(MyList<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public void add(T element) {
+        throw readOnly();
+    }
+
+    @Override
+    public void add(int index, T element) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> collection) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addAll(MyList<? extends T> list) {
+        throw readOnly();
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public T remove(int index) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw readOnly();
+    }
+
+    @Override
+    public void set(int index, T element) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return list.contains(element);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        return list.indexOf(element);
+    }
+
+    @Override
+    public int lastIndexOf(T element) {
+        return list.lastIndexOf(element);
+    }
+
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns an iterator over the underlying list whose remove method throws UnsupportedOperationException.
+     * @return an iterator over the elements in the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = list.iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return list.spliterator();
+    }
+
+    /**
+     * Returns a read-only view of a range of the underlying list.
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     * @return a read-only view of the specified range
+     */
+    @Override
+    public MyList<T> subList(int fromIndex, int toIndex) {
+        return new ReadOnlyList<>(list.subList(fromIndex, toIndex));
+    }
+
+    /**
+     * Returns this view, which is already read-only.
+     * @return this view
+     */
+    @Override
+    public MyList<T> readOnlyView() {
+        return this;
+    }
+
+    /**
+     * Creates the exception thrown by the mutators.
+     * @return the exception
+     */
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("List is read-only");
+    }
+}
@@ -0,0 +1,285 @@
+package org.arraylist;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * SegmentedList is an append-optimized MyList that stores its elements in fixed-size segments and never copies them
+ * when it grows.
+ * <p>
+ * All segments have the same power-of-two length, so the segment of an index is {@code index >>> shift} and the slot
+ * is {@code index & mask}: {@link #get(int)} and {@link #set(int, Object)} are O(1) with one extra array load.
+ * When the last segment is full, {@link #add(Object)} allocates one new segment; the only copy it ever makes is of the
+ * directory of segment references, which grows with the policy of MyArrayList and is segmentSize times smaller than
+ * the elements. The cost of an append therefore stays flat however large the list becomes, and growing never needs
+ * the old and the new array at the same time.
+ * <p>
+ * Inserting and removing in the middle shift the later elements with one array copy per segment, as MyArrayList does
+ * with one copy. {@link #sort(Comparator)} copies the elements into a temporary array.
+ * @param <T> the type of objects to be stored in the list
+ */
+public class SegmentedList<T> implements MyList<T> {
+    /** The default number of elements in a segment. */
+    private static final int DEFAULT_SEGMENT_SIZE = 1024;
+    /** The default number of slots in the directory. */
+    private static final int DEFAULT_DIRECTORY_CAPACITY = 4;
+
+    /** The number of index bits within a segment. */
+    private final int shift;
+    /** The mask of the index bits within a segment. */
+    private final int mask;
+    /** The segments; the first segmentCount slots are allocated. */
+    private Object[][] segments;
+    /** The number of allocated segments. */
+    private int segmentCount;
+    /** The number of elements in the list. */
+    private int size;
+
+    /**
+     * This constructor creates an instance of SegmentedList with segments of 1024 elements.
+     */
+    public SegmentedList() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * This constructor creates an instance of SegmentedList with segments of a specific size.
+     * @param segmentSize the number of elements in a segment, a power of two
+     * @throws IllegalArgumentException if the segment size is not a positive power of two
+     */
+    public SegmentedList(int segmentSize) {
+        if (segmentSize <= 0 || Integer.bitCount(segmentSize) != 1) {
+            throw new IllegalArgumentException("Illegal segment size: " + segmentSize);
+        }
+        this.shift = Integer.numberOfTrailingZeros(segmentSize);
+        this.mask = segmentSize - 1;
+        this.segments = new Object[DEFAULT_DIRECTORY_CAPACITY][];
+    }
+
+    /**
+     * Adds the specified element to the end of the list, allocating a new segment if the last one is full.
+     * @param element the element to be added
+     */
+    @Override
+    public void add(T element) {
+        int index = size;
+        if (index == capacity()) {
+            addSegment();
+        }
+        segments[index >>> shift][index & mask] = element;
+        size = index + 1;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in the list, shifting the later elements
+     * with one array copy per segment.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        add(null);
+        move(index, index + 1, size - 1 - index);
+        segments[index >>> shift][index & mask] = element;
+    }
+
+    /**
+     * Adds all elements from the specified collection to the end of the list.
+     * @param collection the collection containing the elements to be added
+     */
+    @Override
+    public void addAll(Collection<? extends T> collection) {
+        for (T element : collection) {
+            add(element);
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        @SuppressWarnings("unchecked")
+        T element = (T) segments[index >>> shift][index & mask];
+        return element;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        segments[index >>> shift][index & mask] = element;
+    }
+
+    /**
+     * Removes the element at the specified position in the list, shifting the later elements
+     * with one array copy per segment.
+     * @param index the index of the element to be removed
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    @Override
+    public T remove(int index) {
+        T removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive,
+     * shifting the later elements once. Segments that become empty are kept for later appends.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        move(toIndex, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        clearSlots(newSize, size);
+        size = newSize;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list, or -1 if there is none.
+     * The segments are scanned directly.
+     * @param element the element to search for
+     * @return the index of the first occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int base = 0; base < size; base += mask + 1) {
+            Object[] segment = segments[base >>> shift];
+            int end = Math.min(segment.length, size - base);
+            for (int i = 0; i < end; i++) {
+                if (Objects.equals(element, segment[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all the elements from this list. The used slots are nulled and the segments are kept.
+     */
+    @Override
+    public void clear() {
+        clearSlots(0, size);
+        size = 0;
+    }
+
+    /**
+     * Sorts the elements in the list with the same stable sort as MyArrayList. The elements are copied into
+     * a temporary array, sorted there and copied back.
+     * @param comparator the comparator to determine the order of the elements
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        Object[] elements = new Object[size];
+        for (int base = 0; base < size; base += mask + 1) {
+            System.arraycopy(segments[base >>> shift], 0, elements, base, Math.min(mask + 1, size - base));
+        }
+        TimSort.sort(elements, 0, size, comparator);
+        for (int base = 0; base < size; base += mask + 1) {
+            System.arraycopy(elements, base, segments[base >>> shift], 0, Math.min(mask + 1, size - base));
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements the list can hold before it allocates another segment.
+     * @return the total length of the allocated segments
+     */
+    public int capacity() {
+        return segmentCount << shift;
+    }
+
+    /**
+     * Releases the segments that hold no elements and trims the directory to the segments that are left.
+     */
+    public void trimToSize() {
+        int needed = (size + mask) >>> shift;
+        Arrays.fill(segments, needed, segmentCount, null);
+        segmentCount = needed;
+        segments = Arrays.copyOf(segments, Math.max(needed, 1));
+    }
+
+    /**
+     * Allocates one more segment, growing the directory if it is full.
+     * @throws OutOfMemoryError if the list would exceed the maximum int size
+     */
+    private void addSegment() {
+        if (capacity() > Integer.MAX_VALUE - (mask + 1)) {
+            throw new OutOfMemoryError("Required list size too large");
+        }
+        if (segmentCount == segments.length) {
+            segments = Arrays.copyOf(segments, MyArrayList.newCapacity(segments.length, segmentCount + 1));
+        }
+        segments[segmentCount++] = new Object[mask + 1];
+    }
+
+    /**
+     * Copies a range of elements to another position within the list, one array copy per segment boundary.
+     * The ranges may overlap.
+     * @param from   the index of the first element to copy
+     * @param to     the index the first element is copied to
+     * @param length the number of elements to copy
+     */
+    private void move(int from, int to, int length) {
+        if (from == to || length == 0) {
+            return;
+        }
+        int segmentSize = mask + 1;
+        if (to < from) {
+            while (length > 0) {
+                int chunk = Math.min(length, Math.min(segmentSize - (from & mask), segmentSize - (to & mask)));
+                System.arraycopy(segments[from >>> shift], from & mask, segments[to >>> shift], to & mask, chunk);
+                from += chunk;
+                to += chunk;
+                length -= chunk;
+            }
+        } else {
+            int fromEnd = from + length;
+            int toEnd = to + length;
+            while (length > 0) {
+                int chunk = Math.min(length, Math.min(((fromEnd - 1) & mask) + 1, ((toEnd - 1) & mask) + 1));
+                fromEnd -= chunk;
+                toEnd -= chunk;
+                System.arraycopy(segments[fromEnd >>> shift], fromEnd & mask,
+                        segments[toEnd >>> shift], toEnd & mask, chunk);
+                length -= chunk;
+            }
+        }
+    }
+
+    /**
+     * Nulls the slots between fromIndex, inclusive, and toIndex, exclusive.
+     * @param fromIndex the index of the first slot
+     * @param toIndex   the index after the last slot
+     */
+    private void clearSlots(int fromIndex, int toIndex) {
+        while (fromIndex < toIndex) {
+            int end = Math.min(toIndex, (fromIndex | mask) + 1);
+            Arrays.fill(segments[fromIndex >>> shift], fromIndex & mask, ((end - 1) & mask) + 1, null);
+            fromIndex = end;
+        }
+    }
+}
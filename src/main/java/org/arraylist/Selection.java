@@ -0,0 +1,263 @@
+package org.arraylist;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * Selection holds the algorithms behind {@link MyList#select(int, Comparator)},
+ * {@link MyList#partialSort(int, Comparator)} and {@link MyList#topK(int, Comparator)}.
+ * <p>
+ * {@link #select(Object[], int, int, int, Comparator)} is an introselect: a quickselect with a median-of-three pivot
+ * and a three-way partition, so runs of equal elements are settled in one pass, taking O(n) comparisons expected.
+ * If the partitions keep being unbalanced, it stops after 2 log2(n) rounds and sorts what is left with TimSort,
+ * which bounds the worst case by O(n log n). {@link #topK(Iterator, int, Comparator)} keeps the best k elements in a
+ * bounded heap, taking O(n log k) comparisons and O(k) memory without changing the source.
+ */
+final class Selection {
+    /** Ranges of at most this many elements are finished with insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private Selection() {
+    }
+
+    /**
+     * Reorders the range so that the element at position nth is the one a sort would put there, the elements
+     * before it are not greater and the elements after it are not less.
+     * @param a          the array
+     * @param lo         the index of the first element of the range
+     * @param hi         the index after the last element of the range
+     * @param nth        the checked position within [lo, hi)
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements
+     */
+    static <T> void select(Object[] a, int lo, int hi, int nth, Comparator<? super T> comparator) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo));
+        while (hi - lo > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                TimSort.sort(a, lo, hi, comparator);
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            T pivot = (T) a[medianOfThree(a, lo, (lo + hi) >>> 1, hi - 1, comparator)];
+            int lt = lo;
+            int i = lo;
+            int gt = hi;
+            while (i < gt) {
+                @SuppressWarnings("unchecked")
+                int c = comparator.compare((T) a[i], pivot);
+                if (c < 0) {
+                    swap(a, lt++, i++);
+                } else if (c > 0) {
+                    swap(a, i, --gt);
+                } else {
+                    i++;
+                }
+            }
+            if (nth < lt) {
+                hi = lt;
+            } else if (nth >= gt) {
+                lo = gt;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, lo, hi, comparator);
+    }
+
+    /**
+     * Reorders the range so that its first k positions hold the k least elements in sorted order. The other
+     * elements follow in no particular order. Takes O(n + k log k) comparisons expected. Unlike a full sort,
+     * the order of equal elements is not kept.
+     * @param a          the array
+     * @param lo         the index of the first element of the range
+     * @param hi         the index after the last element of the range
+     * @param k          the number of least elements to sort, at least 0
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements
+     */
+    static <T> void partialSort(Object[] a, int lo, int hi, int k, Comparator<? super T> comparator) {
+        if (k >= hi - lo) {
+            TimSort.sort(a, lo, hi, comparator);
+            return;
+        }
+        if (k == 0) {
+            return;
+        }
+        select(a, lo, hi, lo + k - 1, comparator);
+        TimSort.sort(a, lo, lo + k - 1, comparator);
+    }
+
+    /**
+     * Returns the k least elements in sorted order, exactly as the first k elements of a stable sort would be,
+     * equal elements included. The elements are kept in a bounded max-heap whose ties are broken by the position
+     * in the source, so an element only replaces the greatest kept one if it is strictly less.
+     * @param elements   the elements
+     * @param k          the maximum number of elements to return, at least 0
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements
+     * @return a new list of at most k elements
+     */
+    static <T> MyArrayList<T> topK(Iterator<? extends T> elements, int k, Comparator<? super T> comparator) {
+        Object[] heap = new Object[Math.max(k, 1)];
+        int[] ranks = new int[heap.length];
+        int count = 0;
+        int rank = 0;
+        while (elements.hasNext()) {
+            T element = elements.next();
+            if (count < k) {
+                siftUp(heap, ranks, count++, element, rank, comparator);
+            } else if (k > 0) {
+                @SuppressWarnings("unchecked")
+                T greatest = (T) heap[0];
+                if (comparator.compare(element, greatest) < 0) {
+                    siftDown(heap, ranks, count, element, rank, comparator);
+                }
+            }
+            rank++;
+        }
+        for (int end = count - 1; end > 0; end--) {
+            Object greatest = heap[0];
+            int greatestRank = ranks[0];
+            siftDown(heap, ranks, end, heap[end], ranks[end], comparator);
+            heap[end] = greatest;
+            ranks[end] = greatestRank;
+        }
+        return new MyArrayList<>(heap, count);
+    }
+
+    /**
+     * Compares two elements of the heap by the comparator and then by their position in the source.
+     * @param x          the first element
+     * @param xRank      the position of the first element
+     * @param y          the second element
+     * @param yRank      the position of the second element
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements
+     * @return a negative number, zero or a positive number as the first element is less than, equal to
+     *         or greater than the second
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int compare(Object x, int xRank, Object y, int yRank, Comparator<? super T> comparator) {
+        int c = comparator.compare((T) x, (T) y);
+        return c != 0 ? c : Integer.compare(xRank, yRank);
+    }
+
+    /**
+     * Inserts an element at the end of the heap and moves it up to its place.
+     * @param heap       the elements of the heap
+     * @param ranks      the positions in the source of the elements of the heap
+     * @param index      the number of elements in the heap before the insertion
+     * @param element    the element to insert
+     * @param rank       the position of the element in the source
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements
+     */
+    private static <T> void siftUp(Object[] heap, int[] ranks, int index, Object element, int rank,
+                                   Comparator<? super T> comparator) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(element, rank, heap[parent], ranks[parent], comparator) <= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            ranks[index] = ranks[parent];
+            index = parent;
+        }
+        heap[index] = element;
+        ranks[index] = rank;
+    }
+
+    /**
+     * Replaces the root of the heap with an element and moves it down to its place.
+     * @param heap       the elements of the heap
+     * @param ranks      the positions in the source of the elements of the heap
+     * @param count      the number of elements in the heap
+     * @param element    the element that replaces the root
+     * @param rank       the position of the element in the source
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements
+     */
+    private static <T> void siftDown(Object[] heap, int[] ranks, int count, Object element, int rank,
+                                     Comparator<? super T> comparator) {
+        int index = 0;
+        int half = count >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < count && compare(heap[right], ranks[right], heap[child], ranks[child], comparator) > 0) {
+                child = right;
+            }
+            if (compare(element, rank, heap[child], ranks[child], comparator) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            ranks[index] = ranks[child];
+            index = child;
+        }
+        heap[index] = element;
+        ranks[index] = rank;
+    }
+
+    /**
+     * Returns the index of the median of three elements.
+     * @param a          the array
+     * @param i          the index of the first element
+     * @param j          the index of the second element
+     * @param k          the index of the third element
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements
+     * @return the index of the median
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int medianOfThree(Object[] a, int i, int j, int k, Comparator<? super T> comparator) {
+        T x = (T) a[i];
+        T y = (T) a[j];
+        T z = (T) a[k];
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) {
+                return j;
+            }
+            return comparator.compare(x, z) < 0 ? k : i;
+        }
+        if (comparator.compare(x, z) < 0) {
+            return i;
+        }
+        return comparator.compare(y, z) < 0 ? k : j;
+    }
+
+    /**
+     * Sorts a small range with insertion sort.
+     * @param a          the array
+     * @param lo         the index of the first element
+     * @param hi         the index after the last element
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void insertionSort(Object[] a, int lo, int hi, Comparator<? super T> comparator) {
+        for (int i = lo + 1; i < hi; i++) {
+            Object element = a[i];
+            int j = i - 1;
+            while (j >= lo && comparator.compare((T) a[j], (T) element) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = element;
+        }
+    }
+
+    /**
+     * Swaps two elements of the array.
+     * @param a the array
+     * @param i the index of the first element
+     * @param j the index of the second element
+     */
+    private static void swap(Object[] a, int i, int j) {
+        Object tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+}
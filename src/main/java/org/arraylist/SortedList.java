@@ -0,0 +1,405 @@
+package org.arraylist;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+/**
+ * SortedList is a MyList that always keeps its elements ordered by a fixed comparator.
+ * <p>
+ * The elements are stored in a MyArrayList. {@link #add(Object)} finds the insertion point with a binary search
+ * and shifts the later elements with a single array copy; equal elements keep their insertion order.
+ * {@link #contains(Object)}, {@link #indexOf(Object)}, {@link #lastIndexOf(Object)}, the floor, ceiling, lower
+ * and higher queries and the range queries take O(log n) comparisons. {@link #addAll(Collection)} appends all
+ * elements and sorts once: the existing elements form a single run, so the sort only orders the new elements
+ * and merges the two runs.
+ * <p>
+ * Elements are compared with the comparator only, so it must support null if null elements are added.
+ * {@link #indexOf(Object)} and {@link #lastIndexOf(Object)} additionally use equals to pick the occurrence among
+ * elements the comparator considers equal.
+ * @param <T> the type of objects to be stored in the list
+ */
+public class SortedList<T> implements MyList<T> {
+    /** The comparator that determines the order of the elements. */
+    private final Comparator<? super T> comparator;
+    /** The elements in sorted order. */
+    private final MyArrayList<T> elements;
+
+    /**
+     * This constructor creates an empty SortedList ordered by the specified comparator.
+     * @param comparator the comparator that determines the order of the elements
+     */
+    public SortedList(Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.elements = new MyArrayList<>();
+    }
+
+    /**
+     * This constructor creates an empty SortedList ordered by the specified comparator with a specific capacity.
+     * @param comparator      the comparator that determines the order of the elements
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity is negative or 0
+     */
+    public SortedList(Comparator<? super T> comparator, int initialCapacity) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.elements = new MyArrayList<>(initialCapacity);
+    }
+
+    /**
+     * Returns the comparator that determines the order of the elements.
+     * @return the comparator of the list
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Inserts the specified element at its sorted position, after any equal elements.
+     * @param element the element to be added
+     */
+    public void add(T element) {
+        elements.add(upperBound(element), element);
+    }
+
+    /**
+     * Inserts the specified element at the specified position, which must keep the list sorted.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     * @throws IllegalArgumentException  if the element does not belong at the specified position
+     */
+    public void add(int index, T element) {
+        Objects.checkIndex(index, elements.size() + 1);
+        if (index > 0 && comparator.compare(elements.get(index - 1), element) > 0
+                || index < elements.size() && comparator.compare(element, elements.get(index)) > 0) {
+            throw new IllegalArgumentException("Element out of order at index " + index);
+        }
+        elements.add(index, element);
+    }
+
+    /**
+     * Adds all elements from the specified collection. The elements are appended and the list is sorted once,
+     * which merges them with the existing elements in O(n + m log m) comparisons for m new elements.
+     * @param collection the collection containing the elements to be added
+     */
+    public void addAll(Collection<? extends T> collection) {
+        int oldSize = elements.size();
+        elements.addAll(collection);
+        if (elements.size() != oldSize) {
+            elements.sort(comparator);
+        }
+    }
+
+    /**
+     * Adds all elements of the specified list. Like {@link #addAll(Collection)}, the elements are appended
+     * and the list is sorted once.
+     * @param list the list containing the elements to be added, which may be this list
+     */
+    @Override
+    public void addAll(MyList<? extends T> list) {
+        int oldSize = elements.size();
+        elements.addAll(list);
+        if (elements.size() != oldSize) {
+            elements.sort(comparator);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position, which must keep the list sorted.
+     * @param index   the index of the element to be replaced
+     * @param element the replacement element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     * @throws IllegalArgumentException  if the element does not belong at the specified position
+     */
+    public void set(int index, T element) {
+        Objects.checkIndex(index, elements.size());
+        if (index > 0 && comparator.compare(elements.get(index - 1), element) > 0
+                || index < elements.size() - 1 && comparator.compare(element, elements.get(index + 1)) > 0) {
+            throw new IllegalArgumentException("Element out of order at index " + index);
+        }
+        elements.set(index, element);
+    }
+
+    /**
+     * Removes the element at the specified position in the list.
+     * @param index the index of the element to be removed
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public T remove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Removes all the elements of the list that satisfy the specified predicate. The order is kept.
+     * @param filter the predicate that returns true for the elements to be removed
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return elements.removeIf(filter);
+    }
+
+    /**
+     * Removes the elements whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is out of range
+     *                                   (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        elements.removeRange(fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the element at the specified position in the list.
+     * @param index the index of the element to retrieve
+     * @return the element at the specified position in the list
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size())
+     */
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Returns true if the list contains an element the comparator considers equal to the specified element.
+     * This is a binary search.
+     * @param element the element to be checked for containment in the list
+     * @return true if the list contains the specified element, false otherwise
+     */
+    public boolean contains(T element) {
+        int index = lowerBound(element);
+        return index < elements.size() && comparator.compare(elements.get(index), element) == 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the list, or -1 if there is none.
+     * The equal elements are found with a binary search and then checked with equals.
+     * @param element the element to search for
+     * @return the index of the first occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int indexOf(T element) {
+        int to = upperBound(element);
+        for (int i = lowerBound(element); i < to; i++) {
+            if (Objects.equals(element, elements.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in the list, or -1 if there is none.
+     * The equal elements are found with a binary search and then checked with equals.
+     * @param element the element to search for
+     * @return the index of the last occurrence, or -1 if the list does not contain the element
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        int from = lowerBound(element);
+        for (int i = upperBound(element) - 1; i >= from; i--) {
+            if (Objects.equals(element, elements.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the greatest element less than or equal to the specified element, or null if there is none.
+     * @param element the element to search for
+     * @return the greatest element not greater than the specified element, or null
+     */
+    public T floor(T element) {
+        return elementAt(upperBound(element) - 1);
+    }
+
+    /**
+     * Returns the least element greater than or equal to the specified element, or null if there is none.
+     * @param element the element to search for
+     * @return the least element not less than the specified element, or null
+     */
+    public T ceiling(T element) {
+        return elementAt(lowerBound(element));
+    }
+
+    /**
+     * Returns the greatest element strictly less than the specified element, or null if there is none.
+     * @param element the element to search for
+     * @return the greatest element less than the specified element, or null
+     */
+    public T lower(T element) {
+        return elementAt(lowerBound(element) - 1);
+    }
+
+    /**
+     * Returns the least element strictly greater than the specified element, or null if there is none.
+     * @param element the element to search for
+     * @return the least element greater than the specified element, or null
+     */
+    public T higher(T element) {
+        return elementAt(upperBound(element));
+    }
+
+    /**
+     * Returns the number of elements between fromElement, inclusive, and toElement, exclusive.
+     * @param fromElement the low endpoint of the range
+     * @param toElement   the high endpoint of the range
+     * @return the number of elements in the range, or 0 if fromElement is greater than toElement
+     */
+    public int countRange(T fromElement, T toElement) {
+        return Math.max(0, lowerBound(toElement) - lowerBound(fromElement));
+    }
+
+    /**
+     * Returns a new MyArrayList holding the elements between fromElement, inclusive, and toElement, exclusive,
+     * in sorted order.
+     * @param fromElement the low endpoint of the range
+     * @param toElement   the high endpoint of the range
+     * @return the elements in the range
+     */
+    public MyArrayList<T> range(T fromElement, T toElement) {
+        int from = lowerBound(fromElement);
+        int to = lowerBound(toElement);
+        MyArrayList<T> result = new MyArrayList<>(Math.max(to - from, 1));
+        for (int i = from; i < to; i++) {
+            result.add(elements.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Removes all the elements from this list.
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Does nothing if the specified comparator is the comparator of this list, which keeps the list sorted anyway.
+     * @param comparator the comparator to determine the order of the elements
+     * @throws UnsupportedOperationException if the comparator differs from the comparator of this list
+     */
+    public void sort(Comparator<? super T> comparator) {
+        if (comparator != this.comparator) {
+            throw new UnsupportedOperationException("SortedList is always sorted by its own comparator");
+        }
+    }
+
+    /**
+     * Does nothing if the specified comparator is the comparator of this list, whose elements are already in order.
+     * @param k          the number of least elements to sort
+     * @param comparator the comparator to determine the order of the elements
+     * @throws IllegalArgumentException      if k is negative
+     * @throws UnsupportedOperationException if the comparator differs from the comparator of this list
+     */
+    @Override
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal k: " + k);
+        }
+        sort(comparator);
+    }
+
+    /**
+     * Returns the element at position nth if the specified comparator is the comparator of this list,
+     * whose elements are already in order.
+     * @param nth        the position in sorted order of the element to select
+     * @param comparator the comparator to determine the order of the elements
+     * @return the element at position nth
+     * @throws IndexOutOfBoundsException     if nth is out of range (nth < 0 || nth >= size())
+     * @throws UnsupportedOperationException if the comparator differs from the comparator of this list
+     */
+    @Override
+    public T select(int nth, Comparator<? super T> comparator) {
+        T element = elements.get(nth);
+        sort(comparator);
+        return element;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements in sorted order.
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return elements.iterator();
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the elements in sorted order.
+     * @return a spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return elements.spliterator();
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * Returns the element at the specified position, or null if the position is outside the list.
+     * @param index the index of the element
+     * @return the element, or null
+     */
+    private T elementAt(int index) {
+        return index >= 0 && index < elements.size() ? elements.get(index) : null;
+    }
+
+    /**
+     * Returns the index of the first element that is not less than the specified element.
+     * @param element the element to search for
+     * @return the index of the first element not less than the specified element, or size() if there is none
+     */
+    private int lowerBound(T element) {
+        int lo = 0;
+        int hi = elements.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(elements.get(mid), element) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the index of the first element that is greater than the specified element.
+     * @param element the element to search for
+     * @return the index of the first element greater than the specified element, or size() if there is none
+     */
+    private int upperBound(T element) {
+        int lo = 0;
+        int hi = elements.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(elements.get(mid), element) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,90 @@
+package org.arraylist;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The StreamCodec interface describes how elements of type T are written to and read from a binary stream
+ * by {@link ListSerializer}. Unlike {@link ElementCodec}, elements may take a variable number of bytes.
+ * The predefined codecs do not support null elements.
+ * @param <T> the type of the elements
+ */
+public interface StreamCodec<T> {
+    /** The codec that writes Integer values in 4 bytes. */
+    StreamCodec<Integer> INTEGER = new StreamCodec<Integer>() {
+        @Override
+        public void write(DataOutput out, Integer element) throws IOException {
+            out.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /** The codec that writes Long values in 8 bytes. */
+    StreamCodec<Long> LONG = new StreamCodec<Long>() {
+        @Override
+        public void write(DataOutput out, Long element) throws IOException {
+            out.writeLong(element);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /** The codec that writes Double values in 8 bytes. */
+    StreamCodec<Double> DOUBLE = new StreamCodec<Double>() {
+        @Override
+        public void write(DataOutput out, Double element) throws IOException {
+            out.writeDouble(element);
+        }
+
+        @Override
+        public Double read(DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    };
+
+    /** The codec that writes String values as their length in bytes followed by their UTF-8 encoding. */
+    StreamCodec<String> STRING = new StreamCodec<String>() {
+        @Override
+        public void write(DataOutput out, String element) throws IOException {
+            byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("Negative string length: " + length);
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Writes the specified element to the stream.
+     * @param out     the stream to write to
+     * @param element the element to be written
+     * @throws IOException if the element cannot be written
+     */
+    void write(DataOutput out, T element) throws IOException;
+
+    /**
+     * Reads an element from the stream.
+     * @param in the stream to read from
+     * @return the element read
+     * @throws IOException if the element cannot be read
+     */
+    T read(DataInput in) throws IOException;
+}
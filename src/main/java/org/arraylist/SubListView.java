@@ -0,0 +1,193 @@
+package org.arraylist;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * SubListView is the default fixed-size view of a range of a MyList. It reads and writes the elements of the parent
+ * with get and set. Changes of the size of the parent are detected by comparing it with the size the view was
+ * created with, so the view fails with ConcurrentModificationException after any insertion or removal.
+ * @param <T> the type of the elements
+ */
+final class SubListView<T> implements MyList<T> {
+    /** The list the view belongs to. */
+    private final MyList<T> parent;
+    /** The index of the first element of the view in the parent. */
+    private final int offset;
+    /** The number of elements in the view. */
+    private final int size;
+    /** The size the parent is expected to have. */
+    private final int expectedParentSize;
+
+    /**
+     * Creates a view of the specified range of the parent, which must already have been checked.
+     * @param parent    the list the view belongs to
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     */
+    SubListView(MyList<T> parent, int fromIndex, int toIndex) {
+        this.parent = parent;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.expectedParentSize = parent.size();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the view has a fixed size.
+     * @param element the element to be added
+     */
+    @Override
+    public void add(T element) {
+        throw fixedSize();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the view has a fixed size.
+     * @param index   the index at which the element is to be inserted
+     * @param element the element to be inserted
+     */
+    @Override
+    public void add(int index, T element) {
+        throw fixedSize();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the view has a fixed size.
+     * @param collection the collection containing the elements to be added
+     */
+    @Override
+    public void addAll(Collection<? extends T> collection) {
+        throw fixedSize();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the view has a fixed size.
+     * @param list the list containing the elements to be added
+     */
+    @Override
+    public void addAll(MyList<? extends T> list) {
+        throw fixedSize();
+    }
+
+    @Override
+    public T get(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        return parent.get(offset + index);
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the view has a fixed size.
+     * @param index the index of the element to be removed
+     * @return never
+     */
+    @Override
+    public T remove(int index) {
+        throw fixedSize();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the view has a fixed size.
+     * @param filter the predicate that returns true for the elements to be removed
+     * @return never
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw fixedSize();
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the view has a fixed size.
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex   the index after the last element to be removed
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw fixedSize();
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        parent.set(offset + index, element);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Throws UnsupportedOperationException, as the view has a fixed size.
+     */
+    @Override
+    public void clear() {
+        throw fixedSize();
+    }
+
+    /**
+     * Sorts the elements of the window: they are copied out, sorted with the same stable sort as MyArrayList
+     * and written back with set.
+     * @param comparator the comparator to determine the order of the elements
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        checkForComodification();
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = parent.get(offset + i);
+        }
+        TimSort.sort(elements, 0, size, comparator);
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            T element = (T) elements[i];
+            parent.set(offset + i, element);
+        }
+    }
+
+    /**
+     * Returns a view of a range of this view, which is a view of the corresponding range of the parent.
+     * @param fromIndex the index of the first element of the view
+     * @param toIndex   the index after the last element of the view
+     * @return a view of the specified range
+     */
+    @Override
+    public MyList<T> subList(int fromIndex, int toIndex) {
+        checkForComodification();
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new SubListView<>(parent, offset + fromIndex, offset + toIndex);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    /**
+     * Throws an exception if the size of the parent has changed since the view was created.
+     * @throws ConcurrentModificationException if the parent has been structurally modified
+     */
+    private void checkForComodification() {
+        if (parent.size() != expectedParentSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Creates the exception thrown by the operations that would change the size of the view.
+     * @return the exception
+     */
+    private static UnsupportedOperationException fixedSize() {
+        return new UnsupportedOperationException("SubList views have a fixed size");
+    }
+}
@@ -0,0 +1,344 @@
+package org.arraylist;
+
+import java.util.Comparator;
+
+/**
+ * TimSort is a stable, adaptive merge sort used to order a range of an object array.
+ * It detects runs that are already ascending (or strictly descending, which are reversed in place),
+ * extends short runs with binary insertion sort and merges the runs from an explicit stack,
+ * so it needs O(n log n) comparisons in the worst case, O(n) on presorted input and no recursion.
+ * @param <T> the type of the elements being sorted
+ */
+final class TimSort<T> {
+    /** Slices shorter than this are sorted with binary insertion sort only. */
+    private static final int MIN_MERGE = 32;
+    /** The maximum number of pending runs; enough for any array that fits in an int index. */
+    private static final int MAX_PENDING_RUNS = 49;
+
+    /** The array being sorted. */
+    private final Object[] a;
+    /** The comparator that determines the order of the elements. */
+    private final Comparator<? super T> comparator;
+    /** The temporary storage used when merging two runs, allocated lazily. */
+    private Object[] tmp;
+    /** The start index of each pending run. */
+    private final int[] runBase = new int[MAX_PENDING_RUNS];
+    /** The length of each pending run. */
+    private final int[] runLen = new int[MAX_PENDING_RUNS];
+    /** The number of pending runs on the stack. */
+    private int stackSize;
+
+    /**
+     * Creates a sorter for the specified array.
+     * @param a          the array to be sorted
+     * @param comparator the comparator to determine the order of the elements
+     */
+    private TimSort(Object[] a, Comparator<? super T> comparator) {
+        this.a = a;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Sorts the specified range of the array using the specified comparator.
+     * @param a          the array to be sorted
+     * @param lo         the index of the first element, inclusive, to be sorted
+     * @param hi         the index of the last element, exclusive, to be sorted
+     * @param comparator the comparator to determine the order of the elements
+     * @param <T>        the type of the elements being sorted
+     */
+    static <T> void sort(Object[] a, int lo, int hi, Comparator<? super T> comparator) {
+        int remaining = hi - lo;
+        if (remaining < 2) {
+            return;
+        }
+        TimSort<T> sorter = new TimSort<>(a, comparator);
+        if (remaining < MIN_MERGE) {
+            int initRunLen = sorter.countRunAndMakeAscending(lo, hi);
+            sorter.binaryInsertionSort(lo, hi, lo + initRunLen);
+            return;
+        }
+        int minRun = minRunLength(remaining);
+        do {
+            int runLen = sorter.countRunAndMakeAscending(lo, hi);
+            if (runLen < minRun) {
+                int force = Math.min(remaining, minRun);
+                sorter.binaryInsertionSort(lo, lo + force, lo + runLen);
+                runLen = force;
+            }
+            sorter.pushRun(lo, runLen);
+            sorter.mergeCollapse();
+            lo += runLen;
+            remaining -= runLen;
+        } while (remaining != 0);
+        sorter.mergeForceCollapse();
+    }
+
+    /**
+     * Returns the minimum run length for a range of the specified length, chosen so that the number
+     * of runs is a power of two or slightly less, which keeps the merges balanced.
+     * @param n the length of the range to be sorted
+     * @return the minimum run length
+     */
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * Returns the length of the run beginning at the specified position, reversing it if it is strictly descending.
+     * Only strictly descending runs are reversed so that the sort stays stable.
+     * @param lo the index of the first element in the run
+     * @param hi the index after the last element that may be contained in the run
+     * @return the length of the run
+     */
+    private int countRunAndMakeAscending(int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+        if (compare(a[runHi++], a[lo]) < 0) {
+            while (runHi < hi && compare(a[runHi], a[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverseRange(lo, runHi);
+        } else {
+            while (runHi < hi && compare(a[runHi], a[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    /**
+     * Reverses the specified range of the array.
+     * @param lo the index of the first element, inclusive, to be reversed
+     * @param hi the index of the last element, exclusive, to be reversed
+     */
+    private void reverseRange(int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            Object temp = a[lo];
+            a[lo++] = a[hi];
+            a[hi--] = temp;
+        }
+    }
+
+    /**
+     * Sorts the specified range with binary insertion sort, assuming that the elements before start are already sorted.
+     * @param lo    the index of the first element in the range
+     * @param hi    the index after the last element in the range
+     * @param start the index of the first element that is not known to be sorted
+     */
+    private void binaryInsertionSort(int lo, int hi, int start) {
+        for (; start < hi; start++) {
+            Object pivot = a[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (compare(pivot, a[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(a, left, a, left + 1, start - left);
+            a[left] = pivot;
+        }
+    }
+
+    /**
+     * Pushes the specified run onto the pending run stack.
+     * @param base the index of the first element in the run
+     * @param len  the number of elements in the run
+     */
+    private void pushRun(int base, int len) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = len;
+        stackSize++;
+    }
+
+    /**
+     * Merges pending runs until the run lengths on the stack satisfy the TimSort invariants,
+     * which bounds the stack depth logarithmically and keeps the merges balanced.
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                    || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                if (runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges all pending runs until only one remains.
+     */
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges the two adjacent runs at the specified stack positions i and i + 1.
+     * @param i the stack index of the first of the two runs
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+
+        int start = upperBound(base1, base1 + len1, a[base2]);
+        len1 -= start - base1;
+        base1 = start;
+        if (len1 == 0) {
+            return;
+        }
+        len2 = lowerBound(base2, base2 + len2, a[base1 + len1 - 1]) - base2;
+        if (len2 == 0) {
+            return;
+        }
+        if (len1 <= len2) {
+            mergeLo(base1, len1, base2, len2);
+        } else {
+            mergeHi(base1, len1, base2, len2);
+        }
+    }
+
+    /**
+     * Merges two adjacent runs front to back, copying the first (shorter) run into temporary storage.
+     * @param base1 the index of the first element of the first run
+     * @param len1  the length of the first run
+     * @param base2 the index of the first element of the second run
+     * @param len2  the length of the second run
+     */
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        Object[] buffer = ensureCapacity(len1);
+        System.arraycopy(a, base1, buffer, 0, len1);
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int end2 = base2 + len2;
+        int dest = base1;
+        while (cursor1 < len1 && cursor2 < end2) {
+            if (compare(a[cursor2], buffer[cursor1]) < 0) {
+                a[dest++] = a[cursor2++];
+            } else {
+                a[dest++] = buffer[cursor1++];
+            }
+        }
+        if (cursor1 < len1) {
+            System.arraycopy(buffer, cursor1, a, dest, len1 - cursor1);
+        }
+    }
+
+    /**
+     * Merges two adjacent runs back to front, copying the second (shorter) run into temporary storage.
+     * @param base1 the index of the first element of the first run
+     * @param len1  the length of the first run
+     * @param base2 the index of the first element of the second run
+     * @param len2  the length of the second run
+     */
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        Object[] buffer = ensureCapacity(len2);
+        System.arraycopy(a, base2, buffer, 0, len2);
+        int cursor1 = base1 + len1 - 1;
+        int cursor2 = len2 - 1;
+        int dest = base2 + len2 - 1;
+        while (cursor1 >= base1 && cursor2 >= 0) {
+            if (compare(buffer[cursor2], a[cursor1]) < 0) {
+                a[dest--] = a[cursor1--];
+            } else {
+                a[dest--] = buffer[cursor2--];
+            }
+        }
+        if (cursor2 >= 0) {
+            System.arraycopy(buffer, 0, a, dest - cursor2, cursor2 + 1);
+        }
+    }
+
+    /**
+     * Returns the index of the first element in the sorted range that is greater than the key.
+     * @param lo  the index of the first element in the range
+     * @param hi  the index after the last element in the range
+     * @param key the key to search for
+     * @return the index of the first element greater than the key, or hi if there is none
+     */
+    private int upperBound(int lo, int hi, Object key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(key, a[mid]) < 0) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the index of the first element in the sorted range that is greater than or equal to the key.
+     * @param lo  the index of the first element in the range
+     * @param hi  the index after the last element in the range
+     * @param key the key to search for
+     * @return the index of the first element not less than the key, or hi if there is none
+     */
+    private int lowerBound(int lo, int hi, Object key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(a[mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns a temporary array with at least the specified length, growing it if necessary.
+     * @param minCapacity the minimum length of the temporary array
+     * @return the temporary array
+     */
+    private Object[] ensureCapacity(int minCapacity) {
+        if (tmp == null || tmp.length < minCapacity) {
+            int newCapacity = Math.max(minCapacity, Math.min(a.length >>> 1, minCapacity << 1));
+            tmp = new Object[Math.max(newCapacity, minCapacity)];
+        }
+        return tmp;
+    }
+
+    /**
+     * Compares two elements of the array using the comparator.
+     * @param first  the first element to be compared
+     * @param second the second element to be compared
+     * @return a negative integer, zero, or a positive integer as the first element is less than,
+     * equal to, or greater than the second
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(Object first, Object second) {
+        return comparator.compare((T) first, (T) second);
+    }
+}
@@ -0,0 +1,240 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for ColumnarList.
+ */
+public class ColumnarListTest {
+    /**
+     * A small record stored by the tests.
+     */
+    private static final class Trade {
+        /** The identifier of the trade. */
+        final int id;
+        /** The time of the trade. */
+        final long time;
+        /** The price of the trade. */
+        final double price;
+        /** The symbol of the trade. */
+        final String symbol;
+
+        /**
+         * Creates a trade.
+         * @param id     the identifier
+         * @param time   the time
+         * @param price  the price
+         * @param symbol the symbol
+         */
+        Trade(int id, long time, double price, String symbol) {
+            this.id = id;
+            this.time = time;
+            this.price = price;
+            this.symbol = symbol;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Trade)) {
+                return false;
+            }
+            Trade other = (Trade) o;
+            return id == other.id && time == other.time && price == other.price && symbol.equals(other.symbol);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, time, price, symbol);
+        }
+    }
+
+    /** The schema of the trades. */
+    private static final ColumnarList.Schema<Trade> SCHEMA = ColumnarList.<Trade>schema()
+            .intColumn("id", t -> t.id)
+            .longColumn("time", t -> t.time)
+            .doubleColumn("price", t -> t.price)
+            .objectColumn("symbol", t -> t.symbol)
+            .build(row -> new Trade(row.getInt(0), row.getLong(1), row.getDouble(2), (String) row.getObject(3)));
+
+    private ColumnarList<Trade> list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new ColumnarList<>(SCHEMA, 2);
+        for (int i = 0; i < 10; i++) {
+            list.add(new Trade(i, 1000L - i, i * 1.5, "S" + (i % 3)));
+        }
+    }
+
+    /**
+     * Test case for the row operations, which split and rebuild records.
+     */
+    @Test
+    public void testRowOperations() {
+        assertEquals(10, list.size());
+        assertEquals(new Trade(3, 997L, 4.5, "S0"), list.get(3));
+        assertNotSame(list.get(3), list.get(3));
+
+        list.add(0, new Trade(-1, 0L, 0.0, "X"));
+        assertEquals(11, list.size());
+        assertEquals(-1, list.getInt(0, 0));
+        assertEquals(0, list.getInt(1, 0));
+
+        list.set(1, new Trade(42, 1L, 2.0, "Y"));
+        assertEquals(new Trade(42, 1L, 2.0, "Y"), list.get(1));
+
+        assertEquals(new Trade(42, 1L, 2.0, "Y"), list.remove(1));
+        assertEquals(10, list.size());
+        assertEquals(1, list.getInt(1, 0));
+        assertTrue(list.contains(new Trade(9, 991L, 13.5, "S0")));
+        assertEquals(9, list.indexOf(new Trade(9, 991L, 13.5, "S0")));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(12, new Trade(0, 0L, 0.0, "Z")));
+    }
+
+    /**
+     * Test case for the typed getters and the checks of the column type.
+     */
+    @Test
+    public void testTypedGetters() {
+        assertEquals(995L, list.getLong(5, 1));
+        assertEquals(7.5, list.getDouble(5, 2), 0.0);
+        assertEquals("S2", list.getObject(5, 3));
+        assertThrows(IllegalArgumentException.class, () -> list.getInt(5, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(5, 4));
+        assertEquals(2, SCHEMA.columnIndex("price"));
+        assertEquals(-1, SCHEMA.columnIndex("missing"));
+        assertEquals(ColumnarList.ColumnType.OBJECT, SCHEMA.columnType(3));
+        assertEquals(4, SCHEMA.columnCount());
+    }
+
+    /**
+     * Test case for the column scans.
+     */
+    @Test
+    public void testColumnScans() {
+        assertEquals(45L, list.sum(0));
+        assertEquals(9955L, list.sum(1));
+        assertEquals(67.5, list.sumDouble(2), 1e-9);
+        assertEquals(4, list.countInRange(0, 3L, 6L));
+        assertEquals(10, list.countInRange(0, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(0, list.countInRange(0, 6L, 3L));
+        assertEquals(2, list.countInRange(1, 991L, 992L));
+        assertEquals(3, list.countInRange(2, 0.0, 3.0));
+        assertThrows(IllegalArgumentException.class, () -> list.sum(2));
+        assertThrows(IllegalArgumentException.class, () -> list.sumDouble(0));
+    }
+
+    /**
+     * Test case for the sorted permutation of every column type, which is stable and leaves the list unchanged.
+     */
+    @Test
+    public void testSortedPermutation() {
+        assertArrayEquals(new int[]{9, 8, 7, 6, 5, 4, 3, 2, 1, 0}, list.sortedPermutation(1));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, list.sortedPermutation(2));
+        assertArrayEquals(new int[]{0, 3, 6, 9, 1, 4, 7, 2, 5, 8}, list.sortedPermutation(3));
+        assertEquals(0, list.getInt(0, 0));
+
+        ColumnarList<Trade> negative = new ColumnarList<>(SCHEMA);
+        int[] ids = {5, -3, Integer.MIN_VALUE, 5, Integer.MAX_VALUE, 0};
+        for (int id : ids) {
+            negative.add(new Trade(id, 0L, 0.0, ""));
+        }
+        assertArrayEquals(new int[]{2, 1, 5, 0, 3, 4}, negative.sortedPermutation(0));
+    }
+
+    /**
+     * Test case for sorting by a column and by a comparator, which keeps the fields of a record together.
+     */
+    @Test
+    public void testSort() {
+        Random random = new Random(11);
+        ColumnarList<Trade> trades = new ColumnarList<>(SCHEMA);
+        Trade[] expected = new Trade[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = new Trade(random.nextInt(100), i, random.nextDouble(), "S" + random.nextInt(10));
+            trades.add(expected[i]);
+        }
+        trades.sortByColumn(0);
+        Arrays.sort(expected, Comparator.comparingInt(t -> t.id));
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], trades.get(i));
+        }
+
+        trades.sort(Comparator.comparing((Trade t) -> t.symbol).thenComparingDouble(t -> t.price));
+        Arrays.sort(expected, Comparator.comparing((Trade t) -> t.symbol).thenComparingDouble(t -> t.price));
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], trades.get(i));
+        }
+    }
+
+    /**
+     * Test case for the bulk removals.
+     */
+    @Test
+    public void testRemoval() {
+        assertTrue(list.removeIf(t -> t.id % 2 == 0));
+        assertFalse(list.removeIf(t -> t.id > 100));
+        assertEquals(5, list.size());
+        assertEquals(new Trade(3, 997L, 4.5, "S0"), list.get(1));
+
+        list.removeRange(1, 3);
+        assertEquals(3, list.size());
+        assertEquals(1, list.getInt(0, 0));
+        assertEquals(7, list.getInt(1, 0));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.add(new Trade(1, 1L, 1.0, "A"));
+        assertEquals(new Trade(1, 1L, 1.0, "A"), list.get(0));
+    }
+
+    /**
+     * Test case for records that cannot be read, which leave the list unchanged.
+     */
+    @Test
+    public void testFailedWritesLeaveListUnchanged() {
+        ColumnarList.Schema<Trade> strict = ColumnarList.<Trade>schema()
+                .intColumn("id", t -> t.id)
+                .objectColumn("symbol", t -> Objects.requireNonNull(t.symbol))
+                .build(row -> new Trade(row.getInt(0), 0L, 0.0, (String) row.getObject(1)));
+        ColumnarList<Trade> trades = new ColumnarList<>(strict, 3);
+        trades.add(new Trade(1, 0L, 0.0, "x"));
+        trades.add(new Trade(2, 0L, 0.0, "y"));
+        trades.add(new Trade(3, 0L, 0.0, "z"));
+
+        assertThrows(NullPointerException.class, () -> trades.add(0, null));
+        assertThrows(NullPointerException.class, () -> trades.add(0, new Trade(4, 0L, 0.0, null)));
+        assertThrows(NullPointerException.class, () -> trades.add(new Trade(4, 0L, 0.0, null)));
+        assertThrows(NullPointerException.class, () -> trades.set(1, new Trade(4, 0L, 0.0, null)));
+        assertEquals(3, trades.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(new Trade(i + 1, 0L, 0.0, String.valueOf((char) ('x' + i))), trades.get(i));
+        }
+    }
+
+    /**
+     * Test case for building a schema.
+     */
+    @Test
+    public void testSchemaBuilding() {
+        ColumnarList.Schema<Trade> schema = ColumnarList.<Trade>schema().intColumn("id", t -> t.id);
+        assertThrows(IllegalStateException.class, () -> new ColumnarList<>(schema));
+        assertThrows(IllegalArgumentException.class, () -> schema.longColumn("id", t -> t.time));
+        schema.build(row -> new Trade(row.getInt(0), 0L, 0.0, ""));
+        assertThrows(IllegalStateException.class, () -> schema.doubleColumn("price", t -> t.price));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarList<>(schema, 0));
+    }
+}
@@ -0,0 +1,312 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for ConcurrentArrayList.
+ */
+public class ConcurrentArrayListTest {
+    private ConcurrentArrayList<Integer> list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new ConcurrentArrayList<>();
+    }
+
+    /**
+     * Test case for adding elements across several buckets.
+     */
+    @Test
+    public void testAddAndGet() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    /**
+     * Test case for adding elements from many threads at the same time; no element may be lost.
+     */
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        int threads = 16;
+        int perThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i += 2) {
+                    list.add(base + i);
+                    list.addAll(Arrays.asList(base + i + 1));
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(threads * perThread, list.size());
+        boolean[] seen = new boolean[threads * perThread];
+        for (int i = 0; i < list.size(); i++) {
+            seen[list.get(i)] = true;
+        }
+        for (boolean value : seen) {
+            assertTrue(value);
+        }
+    }
+
+    /**
+     * Test case for inserting and removing elements by index.
+     */
+    @Test
+    public void testAddAndRemoveByIndex() {
+        list.addAll(Arrays.asList(1, 2, 4));
+
+        list.add(2, 3);
+        Integer removed = list.remove(0);
+
+        assertEquals(Integer.valueOf(1), removed);
+        assertEquals(3, list.size());
+        assertEquals(Integer.valueOf(3), list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    /**
+     * Test case for storing null elements, which must not be mistaken for slots that are not written yet.
+     */
+    @Test
+    public void testNullElements() {
+        list.add(null);
+        list.add(1);
+
+        assertNull(list.get(0));
+        assertFalse(list.contains(2));
+        assertTrue(list.contains(1));
+    }
+
+    /**
+     * Test case for sorting and clearing the list.
+     */
+    @Test
+    public void testSortAndClear() {
+        list.addAll(Arrays.asList(15, 10, 20));
+
+        list.sort(Integer::compareTo);
+
+        assertEquals(Integer.valueOf(10), list.get(0));
+        assertEquals(Integer.valueOf(20), list.get(2));
+
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    /**
+     * Test case for iterating and streaming over the list with the weakly consistent iterator and spliterator.
+     */
+    @Test
+    public void testIterationAndStreams() {
+        for (int i = 1; i <= 1000; i++) {
+            list.add(i);
+        }
+
+        int sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+
+        assertEquals(500_500, sum);
+        assertEquals(500_500, list.parallelStream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * Test case for lock-free scans and iteration while another thread shrinks the list; they must never throw.
+     */
+    @Test
+    public void testReadsWhileShrinking() throws InterruptedException {
+        Thread writer = new Thread(() -> {
+            for (int round = 0; round < 2000; round++) {
+                for (int i = 0; i < 64; i++) {
+                    list.add(i);
+                }
+                if (round % 3 == 0) {
+                    list.clear();
+                } else if (round % 3 == 1) {
+                    list.removeIf(element -> element % 2 == 0);
+                } else {
+                    while (!list.isEmpty()) {
+                        list.remove(list.size() - 1);
+                    }
+                }
+            }
+            list.clear();
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            assertFalse(list.contains(-1));
+            assertEquals(-1, list.lastIndexOf(-1));
+            for (Integer element : list) {
+                assertNotNull(element);
+            }
+            list.stream().count();
+        }
+        writer.join();
+        assertTrue(list.isEmpty());
+    }
+
+    /**
+     * Test case for searching, including null elements.
+     */
+    @Test
+    public void testIndexOf() {
+        list.addAll(Arrays.asList(1, null, 2, 1));
+
+        assertEquals(0, list.indexOf(1));
+        assertEquals(3, list.lastIndexOf(1));
+        assertEquals(1, list.indexOf(null));
+        assertTrue(list.contains(null));
+        assertEquals(-1, list.indexOf(5));
+    }
+
+    /**
+     * Test case for bulk removal under the write lock.
+     */
+    @Test
+    public void testBulkRemoval() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        list.removeIf(element -> element % 2 == 0);
+        list.removeRange(0, 10);
+        list.retainAll(Arrays.asList(21, 23, 99));
+
+        assertEquals(3, list.size());
+        assertEquals(Integer.valueOf(21), list.get(0));
+        assertEquals(Integer.valueOf(99), list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    /**
+     * Test case for partialSort and select under the write lock.
+     */
+    @Test
+    public void testSelection() {
+        list.addAll(Arrays.asList(5, 3, 9, 1, 7, 3, 8, 6));
+
+        assertEquals(Integer.valueOf(6), list.select(4, Comparator.naturalOrder()));
+        assertEquals(Integer.valueOf(6), list.get(4));
+        list.partialSort(3, Comparator.reverseOrder());
+
+        assertEquals(Integer.valueOf(9), list.get(0));
+        assertEquals(Integer.valueOf(8), list.get(1));
+        assertEquals(Integer.valueOf(7), list.get(2));
+        assertEquals(8, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.select(8, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Test case for adding a MyList while other threads add single elements; the batch must stay in one block.
+     */
+    @Test
+    public void testAddAllListIsContiguous() throws InterruptedException {
+        MyArrayList<Integer> batch = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            batch.add(-1 - i);
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 10_000; i++) {
+                    list.add(i);
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+
+        start.countDown();
+        list.addAll(batch);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        int first = list.indexOf(-1);
+        assertEquals(41_000, list.size());
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(batch.get(i), list.get(first + i));
+        }
+        list.addAll(list);
+        assertEquals(82_000, list.size());
+        assertEquals(Integer.valueOf(-1), list.get(41_000 + first));
+    }
+
+    /**
+     * Test case for an append whose bucket cannot be allocated; it must reserve nothing, so that readers do not
+     * wait forever for the slots it would have written.
+     */
+    @Test(timeout = 10_000)
+    public void testFailedBucketAllocationReservesNothing() {
+        boolean[] failing = {false};
+        ConcurrentArrayList<Integer> failingList = new ConcurrentArrayList<Integer>() {
+            @Override
+            AtomicReferenceArray<Object> newBucket(int length) {
+                if (failing[0]) {
+                    throw new OutOfMemoryError("Simulated");
+                }
+                return super.newBucket(length);
+            }
+        };
+        for (int i = 0; i < 8; i++) {
+            failingList.add(i);
+        }
+
+        failing[0] = true;
+        assertThrows(OutOfMemoryError.class, () -> failingList.add(8));
+        assertThrows(OutOfMemoryError.class, () -> failingList.addAll(Arrays.asList(8, 9, 10)));
+
+        assertEquals(8, failingList.size());
+        assertFalse(failingList.contains(8));
+        assertEquals(-1, failingList.lastIndexOf(8));
+        failing[0] = false;
+        failingList.add(8);
+        assertEquals(Integer.valueOf(8), failingList.get(8));
+        assertEquals(9, failingList.size());
+    }
+}
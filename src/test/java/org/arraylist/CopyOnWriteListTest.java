@@ -0,0 +1,165 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for CopyOnWriteList.
+ */
+public class CopyOnWriteListTest {
+    private CopyOnWriteList<Integer> list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new CopyOnWriteList<>();
+    }
+
+    /**
+     * Test case for adding, inserting, setting and removing elements.
+     */
+    @Test
+    public void testMutators() {
+        list.addAll(Arrays.asList(1, 2, 4));
+
+        list.add(2, 3);
+        list.add(5);
+        list.set(0, 0);
+        Integer removed = list.remove(1);
+
+        assertEquals(Integer.valueOf(2), removed);
+        assertEquals(4, list.size());
+        assertEquals(Integer.valueOf(0), list.get(0));
+        assertEquals(Integer.valueOf(5), list.get(3));
+    }
+
+    /**
+     * Test case for an iterator, which keeps reading the snapshot it was created from.
+     */
+    @Test
+    public void testIteratorReadsSnapshot() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        Iterator<Integer> iterator = list.iterator();
+
+        list.clear();
+
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        assertEquals(6, sum);
+        assertTrue(list.isEmpty());
+    }
+
+    /**
+     * Test case for applying several changes at once.
+     */
+    @Test
+    public void testUpdate() {
+        list.addAll(Arrays.asList(30, 10));
+
+        list.update(batch -> {
+            batch.add(20);
+            batch.remove(0);
+            batch.add(40);
+            batch.sort(Integer::compareTo);
+        });
+
+        assertEquals(3, list.size());
+        assertEquals(Integer.valueOf(10), list.get(0));
+        assertEquals(Integer.valueOf(40), list.get(2));
+        assertTrue(list.contains(20));
+        assertFalse(list.contains(30));
+    }
+
+    /**
+     * Test case for sorting the list.
+     */
+    @Test
+    public void testSort() {
+        list.addAll(Arrays.asList(15, 10, 20));
+
+        list.sort(Integer::compareTo);
+
+        assertEquals(Integer.valueOf(10), list.get(0));
+        assertEquals(Integer.valueOf(20), list.get(2));
+    }
+
+    /**
+     * Test case for getting an element at an index that is out of bounds.
+     */
+    @Test
+    public void testGetByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        list.add(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+
+    /**
+     * Test case for bulk removal, which publishes a single new snapshot.
+     */
+    @Test
+    public void testBulkRemoval() {
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5, 6));
+
+        list.removeIf(element -> element % 2 == 0);
+        list.removeRange(0, 1);
+
+        assertEquals(2, list.size());
+        assertEquals(Integer.valueOf(3), list.get(0));
+        assertEquals(Integer.valueOf(5), list.get(1));
+    }
+
+    /**
+     * Test case for partialSort and select, which reorder a copy and publish it once.
+     */
+    @Test
+    public void testSelection() {
+        list.addAll(Arrays.asList(5, 3, 9, 1, 7, 3, 8, 6));
+        Iterator<Integer> before = list.iterator();
+
+        assertEquals(Integer.valueOf(6), list.select(4, Comparator.naturalOrder()));
+        assertEquals(Integer.valueOf(6), list.get(4));
+        list.partialSort(3, Comparator.reverseOrder());
+
+        assertEquals(Arrays.asList(9, 8, 7), Arrays.asList(list.get(0), list.get(1), list.get(2)));
+        assertEquals(8, list.size());
+        assertEquals(Integer.valueOf(5), before.next());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.select(8, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> list.partialSort(-1, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Test case for adding a MyList, which must be published at once so that readers never see part of a batch.
+     */
+    @Test
+    public void testAddAllListPublishesOnce() throws InterruptedException {
+        MyArrayList<Integer> batch = new MyArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(i);
+        }
+        Thread writer = new Thread(() -> {
+            for (int round = 0; round < 500; round++) {
+                list.addAll(batch);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            assertEquals(0, list.size() % batch.size());
+        }
+        writer.join();
+
+        assertEquals(50_000, list.size());
+        list.addAll(list);
+        assertEquals(100_000, list.size());
+        assertEquals(Integer.valueOf(99), list.get(99_999));
+    }
+}
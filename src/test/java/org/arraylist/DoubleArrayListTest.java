@@ -0,0 +1,137 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for DoubleArrayList.
+ */
+public class DoubleArrayListTest {
+    private DoubleArrayList list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new DoubleArrayList();
+    }
+
+    /**
+     * Test case for adding elements beyond the default capacity.
+     */
+    @Test
+    public void testAddAndGet() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i / 2.0);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(49.5, list.get(99), 0.0);
+    }
+
+    /**
+     * Test case for inserting and removing elements by index.
+     */
+    @Test
+    public void testAddAndRemoveByIndex() {
+        list.addAll(1.5, 2.5, 4.5);
+
+        list.add(2, 3.5);
+        double removed = list.remove(0);
+
+        assertEquals(1.5, removed, 0.0);
+        assertArrayEquals(new double[]{2.5, 3.5, 4.5}, list.toArray(), 0.0);
+    }
+
+    /**
+     * Test case for containment, which follows Double.equals.
+     */
+    @Test
+    public void testContains() {
+        list.addAll(Double.NaN, 0.0);
+
+        assertTrue(list.contains(Double.NaN));
+        assertTrue(list.contains(0.0));
+        assertFalse(list.contains(-0.0));
+    }
+
+    /**
+     * Test case for sorting the list.
+     */
+    @Test
+    public void testSort() {
+        list.addAll(Double.NaN, 1.0, -0.0, 0.0, -3.0);
+
+        list.sort();
+
+        assertArrayEquals(new double[]{-3.0, -0.0, 0.0, 1.0, Double.NaN}, list.toArray(), 0.0);
+    }
+
+    /**
+     * Test case for sum, min and max.
+     */
+    @Test
+    public void testAggregates() {
+        list.addAll(1.5, -2.0, 4.0);
+
+        assertEquals(3.5, list.sum(), 0.0);
+        assertEquals(-2.0, list.min(), 0.0);
+        assertEquals(4.0, list.max(), 0.0);
+    }
+
+    /**
+     * Test case for min on an empty list, which should throw a NoSuchElementException.
+     */
+    @Test
+    public void testMinOnEmptyList() {
+        assertThrows(NoSuchElementException.class, () -> list.min());
+    }
+
+    /**
+     * Test case for finding elements in every position of a block, including NaN and signed zeros.
+     */
+    @Test
+    public void testIndexOf() {
+        for (int i = 0; i < 19; i++) {
+            list.add(i + 0.5);
+        }
+        list.add(-0.0);
+        list.add(Double.NaN);
+
+        for (int i = 0; i < 19; i++) {
+            assertEquals(i, list.indexOf(i + 0.5));
+        }
+        assertEquals(19, list.indexOf(-0.0));
+        assertEquals(-1, list.indexOf(0.0));
+        assertEquals(20, list.indexOf(Double.NaN));
+    }
+
+    /**
+     * Test case for counting elements in a range, which never counts NaN.
+     */
+    @Test
+    public void testCountInRange() {
+        list.addAll(-1.5, 0.0, 2.5, 2.5, Double.NaN, Double.POSITIVE_INFINITY);
+
+        assertEquals(3, list.countInRange(0.0, 2.5));
+        assertEquals(5, list.countInRange(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+        assertEquals(0, list.countInRange(3.0, 1.0));
+    }
+
+    /**
+     * Test case for summing more elements than the unrolled loop handles at once.
+     */
+    @Test
+    public void testSumOfLongerList() {
+        for (int i = 1; i <= 1001; i++) {
+            list.add(i * 0.5);
+        }
+
+        assertEquals(250750.5, list.sum(), 1e-9);
+    }
+}
@@ -0,0 +1,201 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for GapBufferList.
+ */
+public class GapBufferListTest {
+    private GapBufferList<Integer> list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new GapBufferList<>();
+    }
+
+    /**
+     * Test case for appending elements and reading them back.
+     */
+    @Test
+    public void testAddAndGet() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    /**
+     * Test case for typing and deleting at a moving cursor.
+     */
+    @Test
+    public void testEditingAtCursor() {
+        list.addAll(Arrays.asList(0, 1, 2, 3, 4, 5));
+
+        list.add(3, 30);
+        list.add(4, 31);
+        list.remove(2);
+        list.add(0, -1);
+        list.add(7, 50);
+
+        Integer[] expected = {-1, 0, 1, 30, 31, 3, 4, 50, 5};
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    /**
+     * Test case for random edits compared with java.util.ArrayList.
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    /**
+     * Test case for searching on both sides of the gap.
+     */
+    @Test
+    public void testIndexOfAcrossGap() {
+        list.addAll(Arrays.asList(1, 2, 3, 4));
+        list.add(2, null);
+
+        assertEquals(2, list.indexOf(null));
+        assertEquals(3, list.indexOf(3));
+        assertEquals(0, list.indexOf(1));
+        assertTrue(list.contains(4));
+        assertFalse(list.contains(9));
+    }
+
+    /**
+     * Test case for removing a range around the gap.
+     */
+    @Test
+    public void testRemoveRange() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add(5, 100);
+
+        list.removeRange(2, 8);
+
+        assertEquals(5, list.size());
+        assertEquals(Integer.valueOf(1), list.get(1));
+        assertEquals(Integer.valueOf(7), list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(3, 9));
+    }
+
+    /**
+     * Test case for sorting with the gap in the middle.
+     */
+    @Test
+    public void testSort() {
+        list.addAll(Arrays.asList(5, 3, 9, 1));
+        list.add(2, 7);
+
+        list.sort(Comparator.naturalOrder());
+
+        Integer[] expected = {1, 3, 5, 7, 9};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    /**
+     * Test case for clearing the list and reusing it.
+     */
+    @Test
+    public void testClear() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        list.add(1, 4);
+
+        list.clear();
+        list.add(8);
+
+        assertEquals(1, list.size());
+        assertEquals(Integer.valueOf(8), list.get(0));
+    }
+
+    /**
+     * Test case for out of range indices.
+     */
+    @Test
+    public void testIndexOutOfBounds() {
+        list.add(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IllegalArgumentException.class, () -> new GapBufferList<>(0));
+    }
+
+    /**
+     * Test case for the default implementations of topK, partialSort and select, which use get and set.
+     */
+    @Test
+    public void testSelectionDefaults() {
+        GapBufferList<Integer> numbers = new GapBufferList<>();
+        for (int value : new int[]{5, 3, 9, 1, 7, 3, 8}) {
+            numbers.add(value);
+        }
+        numbers.add(0, 6);
+        assertEquals(Arrays.asList(1, 3, 3), toList(numbers.topK(3, Comparator.naturalOrder())));
+        assertEquals(Integer.valueOf(6), numbers.select(4, Comparator.naturalOrder()));
+        assertEquals(Integer.valueOf(6), numbers.get(4));
+        numbers.partialSort(3, Comparator.reverseOrder());
+        assertEquals(Integer.valueOf(9), numbers.get(0));
+        assertEquals(Integer.valueOf(8), numbers.get(1));
+        assertEquals(Integer.valueOf(7), numbers.get(2));
+        assertEquals(8, numbers.size());
+    }
+
+    /**
+     * Returns the elements of a MyArrayList in a java.util.List.
+     * @param myList the list
+     * @return the elements
+     */
+    private static List<Integer> toList(MyArrayList<Integer> myList) {
+        List<Integer> result = new ArrayList<>();
+        for (Integer element : myList) {
+            result.add(element);
+        }
+        return result;
+    }
+}
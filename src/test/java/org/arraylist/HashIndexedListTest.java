@@ -0,0 +1,146 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for HashIndexedList.
+ */
+public class HashIndexedListTest {
+    private HashIndexedList<Integer> list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new HashIndexedList<>();
+    }
+
+    /**
+     * Test case for looking up elements after appending them.
+     */
+    @Test
+    public void testIndexOfAfterAdd() {
+        list.addAll(Arrays.asList(5, 7, 5, 9));
+
+        assertTrue(list.contains(7));
+        assertFalse(list.contains(8));
+        assertEquals(0, list.indexOf(5));
+        assertEquals(2, list.lastIndexOf(5));
+        assertEquals(-1, list.indexOf(8));
+    }
+
+    /**
+     * Test case for inserting and removing in the middle, which shifts the indexed positions.
+     */
+    @Test
+    public void testPositionsShiftOnInsertAndRemove() {
+        list.addAll(Arrays.asList(1, 2, 3, 2));
+
+        list.add(1, 4);
+        assertEquals(2, list.indexOf(2));
+        assertEquals(4, list.lastIndexOf(2));
+        assertEquals(1, list.indexOf(4));
+
+        list.remove(0);
+        assertEquals(0, list.indexOf(4));
+        assertEquals(3, list.lastIndexOf(2));
+        assertFalse(list.contains(1));
+    }
+
+    /**
+     * Test case for replacing an element and for null elements.
+     */
+    @Test
+    public void testSetAndNullElements() {
+        list.addAll(Arrays.asList(1, 2, 3));
+
+        list.set(1, null);
+
+        assertFalse(list.contains(2));
+        assertTrue(list.contains(null));
+        assertEquals(1, list.indexOf(null));
+    }
+
+    /**
+     * Test case for sorting, clearing and bulk removal, which rebuild the index.
+     */
+    @Test
+    public void testSortAndBulkOperations() {
+        list.addAll(Arrays.asList(30, 10, 20, 10));
+
+        list.sort(Integer::compareTo);
+        assertEquals(0, list.indexOf(10));
+        assertEquals(1, list.lastIndexOf(10));
+        assertEquals(3, list.indexOf(30));
+
+        list.removeIf(element -> element == 10);
+        assertEquals(0, list.indexOf(20));
+
+        list.clear();
+        assertFalse(list.contains(20));
+        assertTrue(list.isEmpty());
+    }
+
+    /**
+     * Test case for random operations, compared against the linear scans of MyArrayList.
+     */
+    @Test
+    public void testRandomOperationsMatchLinearScan() {
+        MyArrayList<Integer> expected = new MyArrayList<>();
+        Random random = new Random(5);
+        for (int step = 0; step < 5_000; step++) {
+            int value = random.nextInt(50);
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, value);
+                list.add(index, value);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, value);
+                list.set(index, value);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                expected.add(value);
+                list.add(value);
+            }
+            int probe = random.nextInt(50);
+            assertEquals(expected.indexOf(probe), list.indexOf(probe));
+            assertEquals(expected.lastIndexOf(probe), list.lastIndexOf(probe));
+        }
+    }
+
+    /**
+     * Test case for partialSort and select, which rebuild the index once.
+     */
+    @Test
+    public void testSelectionKeepsIndex() {
+        list.addAll(Arrays.asList(5, 3, 9, 1, 7, 3, 8, 6));
+
+        assertEquals(Integer.valueOf(6), list.select(4, Comparator.naturalOrder()));
+        assertEquals(4, list.indexOf(6));
+        list.partialSort(3, Comparator.naturalOrder());
+
+        assertEquals(0, list.indexOf(1));
+        assertEquals(1, list.indexOf(3));
+        assertEquals(2, list.lastIndexOf(3));
+        MyArrayList<Integer> expected = new MyArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            expected.add(list.get(i));
+        }
+        for (int value = 0; value <= 10; value++) {
+            assertEquals(expected.indexOf(value), list.indexOf(value));
+            assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for IntArrayList.
+ */
+public class IntArrayListTest {
+    private IntArrayList list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new IntArrayList();
+    }
+
+    /**
+     * Test case for creating a list with a wrong capacity.
+     */
+    @Test
+    public void testCreateListWithWrongCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> list = new IntArrayList(0));
+    }
+
+    /**
+     * Test case for adding elements beyond the default capacity.
+     */
+    @Test
+    public void testAddAndGet() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 2);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(198, list.get(99));
+    }
+
+    /**
+     * Test case for inserting and removing elements by index.
+     */
+    @Test
+    public void testAddAndRemoveByIndex() {
+        list.addAll(1, 2, 4);
+
+        list.add(2, 3);
+        int removed = list.remove(0);
+
+        assertEquals(1, removed);
+        assertArrayEquals(new int[]{2, 3, 4}, list.toArray());
+    }
+
+    /**
+     * Test case for getting an element at an index that is out of bounds.
+     */
+    @Test
+    public void testGetByIndexThrowsExceptionWhenIndexIsOutOfBounds() {
+        list.addAll(1, 2, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    /**
+     * Test case for setting an element and checking containment.
+     */
+    @Test
+    public void testSetAndContains() {
+        list.addAll(1, 2, 3);
+
+        list.set(1, 20);
+
+        assertTrue(list.contains(20));
+        assertFalse(list.contains(2));
+    }
+
+    /**
+     * Test case for sorting the list.
+     */
+    @Test
+    public void testSort() {
+        list.addAll(15, -10, 20, 0);
+
+        list.sort();
+
+        assertArrayEquals(new int[]{-10, 0, 15, 20}, list.toArray());
+    }
+
+    /**
+     * Test case for sum, min and max.
+     */
+    @Test
+    public void testAggregates() {
+        list.addAll(Integer.MAX_VALUE, Integer.MAX_VALUE, -5);
+
+        assertEquals(2L * Integer.MAX_VALUE - 5, list.sum());
+        assertEquals(-5, list.min());
+        assertEquals(Integer.MAX_VALUE, list.max());
+    }
+
+    /**
+     * Test case for min on an empty list, which should throw a NoSuchElementException.
+     */
+    @Test
+    public void testMinOnEmptyList() {
+        assertThrows(NoSuchElementException.class, () -> list.min());
+    }
+
+    /**
+     * Test case for clearing the list.
+     */
+    @Test
+    public void testClear() {
+        list.addAll(1, 2, 3);
+
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertFalse(list.contains(1));
+    }
+
+    /**
+     * Test case for finding elements in every position of a block and in the tail after the last block.
+     */
+    @Test
+    public void testIndexOf() {
+        for (int i = 0; i < 21; i++) {
+            list.add(i * 3);
+        }
+
+        for (int i = 0; i < 21; i++) {
+            assertEquals(i, list.indexOf(i * 3));
+        }
+        assertEquals(-1, list.indexOf(1));
+        list.add(6);
+        assertEquals(2, list.indexOf(6));
+    }
+
+    /**
+     * Test case for counting elements in a range, including the extreme values.
+     */
+    @Test
+    public void testCountInRange() {
+        list.addAll(Integer.MIN_VALUE, -5, 0, 3, 7, 7, 10, Integer.MAX_VALUE);
+
+        assertEquals(4, list.countInRange(0, 7));
+        assertEquals(8, list.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(1, list.countInRange(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertEquals(2, list.countInRange(Integer.MIN_VALUE, -5));
+        assertEquals(0, list.countInRange(7, 0));
+    }
+
+    /**
+     * Test case for aggregating more elements than the unrolled loops handle at once.
+     */
+    @Test
+    public void testAggregatesOfLongerList() {
+        long expected = 0;
+        for (int i = 0; i < 1003; i++) {
+            int value = (i * 7919) % 1000 - 500;
+            list.add(value);
+            expected += value;
+        }
+        list.add(Integer.MAX_VALUE);
+        list.add(Integer.MAX_VALUE);
+
+        assertEquals(expected + 2L * Integer.MAX_VALUE, list.sum());
+        assertEquals(-500, list.min());
+        assertEquals(Integer.MAX_VALUE, list.max());
+    }
+}
@@ -0,0 +1,104 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for ListMetrics and the instrumented mode of MyArrayList.
+ */
+public class ListMetricsTest {
+    private MyArrayList<Integer> list;
+    private ListMetrics metrics;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new MyArrayList<>(4);
+        metrics = list.enableMetrics();
+    }
+
+    /**
+     * Test case for counting grow events and the elements they copy.
+     */
+    @Test
+    public void testGrowIsCounted() {
+        for (int i = 0; i < 7; i++) {
+            list.add(i);
+        }
+
+        ListMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.getGrowCount());
+        assertEquals(4 + 6, snapshot.getElementsCopied());
+        assertTrue(snapshot.getBytesCopied() >= 4 * snapshot.getElementsCopied());
+    }
+
+    /**
+     * Test case for counting the elements shifted by add at an index, remove and addAll.
+     */
+    @Test
+    public void testShiftsAreCounted() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        list.add(0, 0);
+        list.remove(1);
+
+        assertEquals(0, metrics.getGrowCount());
+        assertEquals(3 + 3 + 2, metrics.getElementsCopied());
+    }
+
+    /**
+     * Test case for counting comparisons and the scan length of contains.
+     */
+    @Test
+    public void testComparisonsAndContainsAreCounted() {
+        list.addAll(Arrays.asList(3, 1, 2));
+
+        list.sort(Integer::compareTo);
+        list.contains(2);
+        list.contains(10);
+
+        assertTrue(metrics.getComparisons() > 0);
+        assertEquals(2, metrics.getContainsCalls());
+        assertEquals(2 + 3, metrics.getContainsScanLength());
+    }
+
+    /**
+     * Test case for disabling instrumentation, after which nothing is counted.
+     */
+    @Test
+    public void testDisableMetrics() {
+        list.disableMetrics();
+
+        list.contains(1);
+
+        assertNull(list.getMetrics());
+        assertEquals(0, metrics.getContainsCalls());
+    }
+
+    /**
+     * Test case for publishing the metrics over JMX.
+     */
+    @Test
+    public void testRegisterMBean() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = metrics.register("test-list");
+        try {
+            list.contains(1);
+
+            assertEquals(1L, server.getAttribute(name, "ContainsCalls"));
+            server.invoke(name, "reset", null, null);
+            assertEquals(0, metrics.getContainsCalls());
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
@@ -0,0 +1,130 @@
+package org.arraylist;
+
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for ListPool.
+ */
+public class ListPoolTest {
+    /**
+     * Test case for releasing a list and acquiring it again, empty and with its grown array.
+     */
+    @Test
+    public void testReuseKeepsCapacity() {
+        ListPool<Integer> pool = ListPool.threadLocal(4, 1000, 2);
+        MyArrayList<Integer> list = pool.acquire();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        int capacity = list.capacity();
+        pool.release(list);
+        assertEquals(1, pool.idleCount());
+
+        MyArrayList<Integer> reused = pool.acquire();
+        assertSame(list, reused);
+        assertTrue(reused.isEmpty());
+        assertEquals(capacity, reused.capacity());
+        assertEquals(1, pool.createdCount());
+        assertEquals(0, pool.idleCount());
+    }
+
+    /**
+     * Test case for a list that grew beyond the maximum retained capacity.
+     */
+    @Test
+    public void testRetainedCapacityIsCapped() {
+        ListPool<Integer> pool = ListPool.shared(4, 16, 2);
+        MyArrayList<Integer> list = pool.acquire();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        pool.release(list);
+        MyArrayList<Integer> reused = pool.acquire();
+        assertSame(list, reused);
+        assertEquals(16, reused.capacity());
+        reused.add(1);
+        assertEquals(Integer.valueOf(1), reused.get(0));
+    }
+
+    /**
+     * Test case for the bound on the number of idle lists.
+     */
+    @Test
+    public void testIdleListsAreBounded() {
+        ListPool<Integer> pool = ListPool.shared(4, 16, 2);
+        MyArrayList<Integer> a = pool.acquire();
+        MyArrayList<Integer> b = pool.acquire();
+        MyArrayList<Integer> c = pool.acquire();
+        pool.release(a);
+        pool.release(b);
+        pool.release(c);
+        assertEquals(2, pool.idleCount());
+        assertEquals(3, pool.createdCount());
+    }
+
+    /**
+     * Test case for iterators of a released list, which fail fast.
+     */
+    @Test
+    public void testReleaseInvalidatesIterators() {
+        ListPool<Integer> pool = ListPool.threadLocal(4, 16, 2);
+        MyArrayList<Integer> list = pool.acquire();
+        list.add(1);
+        Iterator<Integer> iterator = list.iterator();
+        pool.release(list);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    /**
+     * Test case for apply, which releases the list even if the function throws.
+     */
+    @Test
+    public void testApply() {
+        ListPool<String> pool = ListPool.threadLocal(4, 16, 2);
+        int size = pool.apply(list -> {
+            list.add("a");
+            list.add("b");
+            return list.size();
+        });
+        assertEquals(2, size);
+        assertEquals(1, pool.idleCount());
+        assertThrows(IllegalStateException.class, () -> pool.apply(list -> {
+            list.add("c");
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, pool.idleCount());
+        assertTrue(pool.acquire().isEmpty());
+        assertEquals(1, pool.createdCount());
+    }
+
+    /**
+     * Test case for a thread-local pool, whose idle lists are not visible to other threads.
+     */
+    @Test
+    public void testThreadLocalIsolation() throws InterruptedException {
+        ListPool<Integer> pool = ListPool.threadLocal(4, 16, 2);
+        pool.release(pool.acquire());
+        AtomicReference<Integer> otherIdle = new AtomicReference<>();
+        Thread thread = new Thread(() -> otherIdle.set(pool.idleCount()));
+        thread.start();
+        thread.join();
+        assertEquals(Integer.valueOf(0), otherIdle.get());
+        assertEquals(1, pool.idleCount());
+    }
+
+    /**
+     * Test case for illegal pool settings.
+     */
+    @Test
+    public void testIllegalSettings() {
+        assertThrows(IllegalArgumentException.class, () -> ListPool.shared(0, 16, 2));
+        assertThrows(IllegalArgumentException.class, () -> ListPool.shared(32, 16, 2));
+        assertThrows(IllegalArgumentException.class, () -> ListPool.threadLocal(4, 16, 0));
+    }
+}
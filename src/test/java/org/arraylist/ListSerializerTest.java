@@ -0,0 +1,155 @@
+package org.arraylist;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for ListSerializer.
+ */
+public class ListSerializerTest {
+    /**
+     * Test case for writing and reading a list of strings that spans several chunks.
+     */
+    @Test
+    public void testObjectRoundTrip() throws IOException {
+        MyArrayList<String> list = new MyArrayList<>();
+        for (int i = 0; i < ListSerializer.CHUNK_SIZE * 2 + 5; i++) {
+            list.add("element-" + i + (i % 100 == 0 ? "é中" : ""));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListSerializer.write(list, StreamCodec.STRING, out);
+        MyArrayList<String> copy = ListSerializer.read(new ByteArrayInputStream(out.toByteArray()), StreamCodec.STRING);
+
+        assertEquals(list.size(), copy.size());
+        assertEquals(list.size(), copy.capacity());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(list.get(i), copy.get(i));
+        }
+    }
+
+    /**
+     * Test case for writing and reading empty lists.
+     */
+    @Test
+    public void testEmptyLists() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListSerializer.write(new MyArrayList<Integer>(), StreamCodec.INTEGER, out);
+        ListSerializer.write(new IntArrayList(), ListSerializer.Encoding.DELTA_VARINT, out);
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+        assertTrue(ListSerializer.read(in, StreamCodec.INTEGER).isEmpty());
+        assertTrue(ListSerializer.readIntList(in).isEmpty());
+        assertEquals(0, in.available());
+    }
+
+    /**
+     * Test case for delta encoding of ints, including differences that overflow an int.
+     */
+    @Test
+    public void testIntDeltaVarint() throws IOException {
+        IntArrayList list = new IntArrayList();
+        list.addAll(Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 0, 1, Integer.MIN_VALUE);
+        Random random = new Random(3);
+        for (int i = 0; i < 10_000; i++) {
+            list.add(random.nextInt());
+        }
+
+        for (ListSerializer.Encoding encoding : ListSerializer.Encoding.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ListSerializer.write(list, encoding, out);
+            IntArrayList copy = ListSerializer.readIntList(new ByteArrayInputStream(out.toByteArray()));
+            assertArrayEquals(list.toArray(), copy.toArray());
+        }
+    }
+
+    /**
+     * Test case for delta encoding shrinking sorted data.
+     */
+    @Test
+    public void testDeltaVarintIsCompact() throws IOException {
+        LongArrayList list = new LongArrayList();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(1_700_000_000_000L + i * 3L);
+        }
+
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        ListSerializer.write(list, ListSerializer.Encoding.RAW, raw);
+        ByteArrayOutputStream packed = new ByteArrayOutputStream();
+        ListSerializer.write(list, ListSerializer.Encoding.DELTA_VARINT, packed);
+        LongArrayList copy = ListSerializer.readLongList(new ByteArrayInputStream(packed.toByteArray()));
+
+        assertTrue(packed.size() * 6 < raw.size());
+        assertArrayEquals(list.toArray(), copy.toArray());
+    }
+
+    /**
+     * Test case for longs at the extremes in both encodings.
+     */
+    @Test
+    public void testLongExtremes() throws IOException {
+        LongArrayList list = new LongArrayList();
+        list.addAll(Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, Long.MIN_VALUE);
+
+        for (ListSerializer.Encoding encoding : ListSerializer.Encoding.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ListSerializer.write(list, encoding, out);
+            LongArrayList copy = ListSerializer.readLongList(new ByteArrayInputStream(out.toByteArray()));
+            assertArrayEquals(list.toArray(), copy.toArray());
+        }
+    }
+
+    /**
+     * Test case for writing and reading doubles.
+     */
+    @Test
+    public void testDoubleRoundTrip() throws IOException {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addAll(1.5, -0.0, Double.NaN, Double.MAX_VALUE);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListSerializer.write(list, out);
+        DoubleArrayList copy = ListSerializer.readDoubleList(new ByteArrayInputStream(out.toByteArray()));
+
+        assertArrayEquals(list.toArray(), copy.toArray(), 0.0);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(copy.get(1)));
+    }
+
+    /**
+     * Test case for reading a stream that holds a different kind of list or no list at all.
+     */
+    @Test
+    public void testRejectsWrongStreams() throws IOException {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.addAll(Arrays.asList(1, 2, 3));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListSerializer.write(list, StreamCodec.INTEGER, out);
+        byte[] bytes = out.toByteArray();
+
+        assertThrows(IOException.class, () -> ListSerializer.readIntList(new ByteArrayInputStream(bytes)));
+        assertThrows(IOException.class, () -> ListSerializer.read(new ByteArrayInputStream(new byte[12]),
+                StreamCodec.INTEGER));
+    }
+
+    /**
+     * Test case for reading a truncated stream.
+     */
+    @Test
+    public void testTruncatedStream() throws IOException {
+        IntArrayList list = new IntArrayList();
+        list.addAll(1, 2, 3, 4, 5);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ListSerializer.write(list, ListSerializer.Encoding.RAW, out);
+        byte[] bytes = Arrays.copyOf(out.toByteArray(), out.size() - 3);
+
+        assertThrows(EOFException.class, () -> ListSerializer.readIntList(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -0,0 +1,130 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for LongArrayList.
+ */
+public class LongArrayListTest {
+    private LongArrayList list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new LongArrayList();
+    }
+
+    /**
+     * Test case for adding elements beyond the default capacity.
+     */
+    @Test
+    public void testAddAndGet() {
+        for (long i = 0; i < 100; i++) {
+            list.add(i << 33);
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(99L << 33, list.get(99));
+    }
+
+    /**
+     * Test case for inserting and removing elements by index.
+     */
+    @Test
+    public void testAddAndRemoveByIndex() {
+        list.addAll(1, 2, 4);
+
+        list.add(2, 3);
+        long removed = list.remove(0);
+
+        assertEquals(1, removed);
+        assertArrayEquals(new long[]{2, 3, 4}, list.toArray());
+    }
+
+    /**
+     * Test case for sorting the list and checking containment.
+     */
+    @Test
+    public void testSortAndContains() {
+        list.addAll(15, Long.MIN_VALUE, 20, 0);
+
+        list.sort();
+
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 0, 15, 20}, list.toArray());
+        assertTrue(list.contains(Long.MIN_VALUE));
+        assertFalse(list.contains(1));
+    }
+
+    /**
+     * Test case for sum, min and max.
+     */
+    @Test
+    public void testAggregates() {
+        list.addAll(10, -5, 7);
+
+        assertEquals(12, list.sum());
+        assertEquals(-5, list.min());
+        assertEquals(10, list.max());
+    }
+
+    /**
+     * Test case for max on an empty list, which should throw a NoSuchElementException.
+     */
+    @Test
+    public void testMaxOnEmptyList() {
+        assertThrows(NoSuchElementException.class, () -> list.max());
+    }
+
+    /**
+     * Test case for finding elements in every position of a block and in the tail after the last block.
+     */
+    @Test
+    public void testIndexOf() {
+        for (int i = 0; i < 21; i++) {
+            list.add(i * 3L);
+        }
+
+        for (int i = 0; i < 21; i++) {
+            assertEquals(i, list.indexOf(i * 3L));
+        }
+        assertEquals(-1, list.indexOf(1L));
+        assertTrue(list.contains(60L));
+    }
+
+    /**
+     * Test case for counting elements in a range, including the extreme values.
+     */
+    @Test
+    public void testCountInRange() {
+        list.addAll(Long.MIN_VALUE, -5L, 0L, 3L, 7L, 7L, 10L, Long.MAX_VALUE);
+
+        assertEquals(4, list.countInRange(0L, 7L));
+        assertEquals(8, list.countInRange(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(2, list.countInRange(10L, Long.MAX_VALUE));
+        assertEquals(0, list.countInRange(7L, 0L));
+    }
+
+    /**
+     * Test case for aggregating more elements than the unrolled loops handle at once.
+     */
+    @Test
+    public void testAggregatesOfLongerList() {
+        long expected = 0;
+        for (int i = 0; i < 1003; i++) {
+            long value = (i * 7919L) % 1000 - 500;
+            list.add(value);
+            expected += value;
+        }
+
+        assertEquals(expected, list.sum());
+        assertEquals(-500L, list.min());
+        assertEquals(499L, list.max());
+    }
+}
@@ -0,0 +1,143 @@
+package org.arraylist;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for MappedList.
+ */
+public class MappedListTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Test case for appending elements, closing the file and reopening it.
+     */
+    @Test
+    public void testReopenKeepsElements() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("list.bin");
+        try (MappedList<Long> list = MappedList.create(file, ElementCodec.LONG)) {
+            for (long i = 0; i < 10_000; i++) {
+                list.add(i * 3);
+            }
+            list.force();
+        }
+
+        try (MappedList<Long> list = MappedList.open(file, ElementCodec.LONG)) {
+            assertEquals(10_000, list.size());
+            assertEquals(Long.valueOf(29_997), list.get(9_999));
+
+            list.add(-1L);
+            list.remove(0);
+        }
+
+        try (MappedList<Long> list = MappedList.open(file, ElementCodec.LONG)) {
+            assertEquals(10_000, list.size());
+            assertEquals(Long.valueOf(3), list.get(0));
+            assertEquals(Long.valueOf(-1), list.get(9_999));
+        }
+    }
+
+    /**
+     * Test case for writing the elements of a MyArrayList to a file.
+     */
+    @Test
+    public void testCopyOf() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("copy.bin");
+        MyArrayList<Integer> source = new MyArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            source.add(i);
+        }
+
+        try (MappedList<Integer> list = MappedList.copyOf(file, source, ElementCodec.INTEGER)) {
+            list.sort((first, second) -> Integer.compare(second, first));
+        }
+
+        try (MappedList<Integer> list = MappedList.open(file, ElementCodec.INTEGER)) {
+            assertEquals(100, list.size());
+            assertEquals(Integer.valueOf(99), list.get(0));
+            assertTrue(list.contains(50));
+        }
+    }
+
+    /**
+     * Test case for opening a file with a codec of a different element size.
+     */
+    @Test
+    public void testOpenWithWrongCodec() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("long.bin");
+        MappedList.create(file, ElementCodec.LONG).close();
+
+        assertThrows(IOException.class, () -> MappedList.open(file, ElementCodec.INTEGER));
+    }
+
+    /**
+     * Test case for opening a file that was not written by a MappedList.
+     */
+    @Test
+    public void testOpenForeignFile() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("foreign.bin");
+        Files.write(file, new byte[32]);
+
+        assertThrows(IOException.class, () -> MappedList.open(file, ElementCodec.LONG));
+    }
+
+    /**
+     * Test case for a copy that fails on a null element; the list must be closed and no file left behind.
+     */
+    @Test
+    public void testFailedCopyLeavesNoFile() {
+        Path file = folder.getRoot().toPath().resolve("failed.bin");
+        MyArrayList<Long> source = new MyArrayList<>();
+        source.add(1L);
+        source.add(null);
+
+        assertThrows(NullPointerException.class, () -> MappedList.copyOf(file, source, ElementCodec.LONG));
+        assertFalse(Files.exists(file));
+    }
+
+    /**
+     * Test case for writing the elements of the primitive lists to files with a bulk copy.
+     */
+    @Test
+    public void testCopyOfPrimitiveLists() throws IOException {
+        IntArrayList ints = new IntArrayList();
+        LongArrayList longs = new LongArrayList();
+        DoubleArrayList doubles = new DoubleArrayList();
+        for (int i = 0; i < 1000; i++) {
+            ints.add(i - 500);
+            longs.add((long) i << 40);
+            doubles.add(i / 4.0);
+        }
+        Path intFile = folder.getRoot().toPath().resolve("ints.bin");
+        Path longFile = folder.getRoot().toPath().resolve("longs.bin");
+        Path doubleFile = folder.getRoot().toPath().resolve("doubles.bin");
+        MappedList.copyOf(intFile, ints).close();
+        MappedList.copyOf(longFile, longs).close();
+        try (MappedList<Double> list = MappedList.copyOf(doubleFile, doubles)) {
+            list.add(-1.0);
+        }
+
+        try (MappedList<Integer> list = MappedList.open(intFile, ElementCodec.INTEGER)) {
+            assertEquals(1000, list.size());
+            assertEquals(Integer.valueOf(-500), list.get(0));
+            assertEquals(Integer.valueOf(499), list.get(999));
+        }
+        try (MappedList<Long> list = MappedList.open(longFile, ElementCodec.LONG)) {
+            assertEquals(1000, list.size());
+            assertEquals(Long.valueOf(999L << 40), list.get(999));
+        }
+        try (MappedList<Double> list = MappedList.open(doubleFile, ElementCodec.DOUBLE)) {
+            assertEquals(1001, list.size());
+            assertEquals(Double.valueOf(249.75), list.get(999));
+            assertEquals(Double.valueOf(-1.0), list.get(1000));
+        }
+    }
+}
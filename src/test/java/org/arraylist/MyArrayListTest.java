@@ -4,10 +4,19 @@ import lombok.SneakyThrows;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Spliterator;
 
 import static org.junit.Assert.*;
 
@@ -189,6 +198,77 @@ public class MyArrayListTest {
         assertThrows(IndexOutOfBoundsException.class, () -> list.remove(6));
     }
 
+    /**
+     * Test case for removing the elements that satisfy a predicate; the vacated slots must be cleared.
+     */
+    @Test
+    public void testRemoveIf() {
+        fillTestArray(15, 69, 58, 78, 100);
+
+        boolean removed = list.removeIf(element -> element % 2 == 0);
+
+        Object[] internalArray = getTestArray();
+        assertTrue(removed);
+        assertEquals(2, list.size());
+        assertArrayEquals(new Object[]{15, 69, null, null, null}, internalArray);
+    }
+
+    /**
+     * Test case for a predicate that throws an exception, which must leave all the untested elements in place.
+     */
+    @Test
+    public void testRemoveIfWithThrowingPredicate() {
+        fillTestArray(1, 2, 3, 4);
+
+        assertThrows(IllegalStateException.class, () -> list.removeIf(element -> {
+            if (element == 3) {
+                throw new IllegalStateException();
+            }
+            return element == 1;
+        }));
+
+        assertArrayEquals(new Object[]{2, 3, 4}, list.toArray());
+    }
+
+    /**
+     * Test case for removing a range of elements; the vacated slots must be cleared.
+     */
+    @Test
+    public void testRemoveRange() {
+        fillTestArray(15, 69, 58, 78, 100);
+
+        list.removeRange(1, 3);
+
+        Object[] internalArray = getTestArray();
+        assertEquals(3, list.size());
+        assertArrayEquals(new Object[]{15, 78, 100, null, null}, internalArray);
+    }
+
+    /**
+     * Test case for removing a range with wrong bounds, which should throw an IndexOutOfBoundsException.
+     */
+    @Test
+    public void testRemoveRangeWithWrongBounds() {
+        fillTestArray(15, 69, 58);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 1));
+    }
+
+    /**
+     * Test case for removing and retaining the elements of a collection.
+     */
+    @Test
+    public void testRemoveAllAndRetainAll() {
+        fillTestArray(15, 69, 58, 78, 100);
+
+        assertTrue(list.removeAll(Arrays.asList(69, 78)));
+        assertFalse(list.removeAll(Arrays.asList(1, 2)));
+        assertTrue(list.retainAll(Arrays.asList(58, 100, 7)));
+
+        assertArrayEquals(new Object[]{58, 100}, list.toArray());
+    }
+
     /**
      * Test case for getting elements by index in the list.
      */
@@ -220,6 +300,110 @@ public class MyArrayListTest {
         }
     }
 
+    /**
+     * Test case for sorting a large list in reverse order, which must neither go quadratic nor overflow the stack.
+     */
+    @Test
+    public void testSortReverseOrderedList() {
+        for (int i = 500_000; i > 0; i--) {
+            list.add(i);
+        }
+
+        list.sort(Integer::compareTo);
+
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i + 1, (int) list.get(i));
+        }
+    }
+
+    /**
+     * Test case for sorting random elements, compared against Arrays.sort.
+     */
+    @Test
+    public void testSortRandomElements() {
+        Random random = new Random(42);
+        Integer[] expected = new Integer[10_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(1000);
+            list.add(expected[i]);
+        }
+        Arrays.sort(expected);
+
+        list.sort(Integer::compareTo);
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    /**
+     * Test case for the stability of sort: elements that compare equal keep their relative order.
+     */
+    @Test
+    public void testSortIsStable() {
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            list.add(random.nextInt(10) * 10_000 + i);
+        }
+
+        list.sort(Comparator.comparingInt(element -> element / 10_000));
+
+        for (int i = 1; i < list.size(); i++) {
+            int previous = list.get(i - 1);
+            int current = list.get(i);
+            assertTrue(previous / 10_000 < current / 10_000
+                    || previous / 10_000 == current / 10_000 && previous % 10_000 < current % 10_000);
+        }
+    }
+
+    /**
+     * Test case for sorting a list in parallel with a small threshold, so the list is split and merged several times.
+     */
+    @Test
+    public void testParallelSort() {
+        Random random = new Random(3);
+        Integer[] expected = new Integer[100_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(50_000);
+            list.add(expected[i]);
+        }
+        Arrays.sort(expected);
+
+        list.parallelSort(Integer::compareTo, 1_000);
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    /**
+     * Test case for the stability of parallelSort: elements that compare equal keep their relative order.
+     */
+    @Test
+    public void testParallelSortIsStable() {
+        Random random = new Random(11);
+        for (int i = 0; i < 50_000; i++) {
+            list.add(random.nextInt(10) * 100_000 + i);
+        }
+
+        list.parallelSort(Comparator.comparingInt(element -> element / 100_000), 500);
+
+        for (int i = 1; i < list.size(); i++) {
+            int previous = list.get(i - 1);
+            int current = list.get(i);
+            assertTrue(previous / 100_000 < current / 100_000
+                    || previous / 100_000 == current / 100_000 && previous % 100_000 < current % 100_000);
+        }
+    }
+
+    /**
+     * Test case for sorting in parallel with a wrong threshold.
+     */
+    @Test
+    public void testParallelSortWithWrongThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> list.parallelSort(Integer::compareTo, 0));
+    }
+
     /**
      * Test case for getting an element at an index that is out of bounds,
      * which should throw an IndexOutOfBoundsException.
@@ -231,6 +415,104 @@ public class MyArrayListTest {
         assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
     }
 
+    /**
+     * Test case for copying the elements of the list into an array.
+     */
+    @Test
+    public void testToArray() {
+        fillTestArray(15, 69, 58);
+        list.add(78);
+
+        assertArrayEquals(new Object[]{15, 69, 58, 78}, list.toArray());
+    }
+
+    /**
+     * Test case for iterating over the list and removing elements through the iterator.
+     */
+    @Test
+    public void testIteratorRemove() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertArrayEquals(new Object[]{1, 3, 5, 7, 9}, list.toArray());
+    }
+
+    /**
+     * Test case for modifying the list while iterating over it, which should throw a ConcurrentModificationException.
+     */
+    @Test
+    public void testIteratorFailsFast() {
+        fillTestArray(1, 2, 3);
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (Integer element : list) {
+                list.add(element);
+            }
+        });
+    }
+
+    /**
+     * Test case for sequential and parallel streams over the list.
+     */
+    @Test
+    public void testStreams() {
+        for (int i = 1; i <= 100_000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(5_000_050_000L, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(5_000_050_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(50_000, list.parallelStream().filter(element -> element % 2 == 0).count());
+    }
+
+    /**
+     * Test case for splitting the spliterator, which should halve the range.
+     */
+    @Test
+    public void testSpliteratorSplitsEvenly() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(50, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    }
+
+    /**
+     * Test case for modifying the list during a stream traversal, which should throw a ConcurrentModificationException.
+     */
+    @Test
+    public void testSpliteratorFailsFast() {
+        fillTestArray(1, 2, 3);
+
+        assertThrows(ConcurrentModificationException.class, () -> list.stream().forEach(element -> list.add(element)));
+    }
+
+    /**
+     * Test case for finding the first and last index of an element.
+     */
+    @Test
+    public void testIndexOfAndLastIndexOf() {
+        fillTestArray(15, 69, 15, null, 78);
+
+        assertEquals(0, list.indexOf(15));
+        assertEquals(2, list.lastIndexOf(15));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf(100));
+    }
+
     /**
      * Test case for checking if the list contains a specific element when the list is empty.
      */
@@ -264,11 +546,83 @@ public class MyArrayListTest {
      */
     @Test
     public void testClear() {
-        setTestSize(100);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Object[] internalArray = getTestArray();
 
         list.clear();
 
         assertEquals(0, list.size());
+        assertSame(internalArray, getTestArray());
+        for (Object slot : internalArray) {
+            assertNull(slot);
+        }
+    }
+
+    /**
+     * Test case for removing an element, which must clear the vacated slot so the element can be collected.
+     */
+    @Test
+    public void testRemoveClearsVacatedSlot() {
+        fillTestArray(15, 69, 58);
+
+        list.remove(0);
+
+        assertArrayEquals(new Object[]{69, 58, null}, getTestArray());
+    }
+
+    /**
+     * Test case for ensuring and trimming the capacity of the list.
+     */
+    @Test
+    public void testEnsureCapacityAndTrimToSize() {
+        list.ensureCapacity(1000);
+        assertTrue(list.capacity() >= 1000);
+
+        list.add(1);
+        list.add(2);
+        list.trimToSize();
+
+        assertEquals(2, list.capacity());
+        list.add(3);
+        assertEquals(3, list.size());
+    }
+
+    /**
+     * Test case for a custom growth factor.
+     */
+    @Test
+    public void testGrowthFactor() {
+        list = new MyArrayList<>(10, 2.0, false);
+        for (int i = 0; i < 11; i++) {
+            list.add(i);
+        }
+
+        assertEquals(20, list.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayList<Integer>(10, 1.0, false));
+    }
+
+    /**
+     * Test case for the auto-shrink policy, which halves the array when it becomes less than a quarter full.
+     */
+    @Test
+    public void testAutoShrink() {
+        list = new MyArrayList<>(8, 2.0, true);
+        for (int i = 0; i < 64; i++) {
+            list.add(i);
+        }
+        assertEquals(64, list.capacity());
+
+        list.removeRange(10, 64);
+        assertEquals(32, list.capacity());
+
+        list.removeIf(element -> element > 1);
+        assertEquals(8, list.capacity());
+        assertArrayEquals(new Object[]{0, 1}, list.toArray());
+
+        list.clear();
+        assertEquals(8, list.capacity());
     }
 
     /**
@@ -299,6 +653,175 @@ public class MyArrayListTest {
         assertEquals(3, list.size());
     }
 
+    /**
+     * Test case for Java serialization, which writes only the used part of the array.
+     */
+    @Test
+    @SneakyThrows
+    public void testJavaSerialization() {
+        MyArrayList<String> strings = new MyArrayList<>(4, 2.0, true);
+        for (int i = 0; i < 1000; i++) {
+            strings.add(i % 7 == 0 ? null : "s" + i);
+        }
+        strings.removeRange(10, 1000);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(strings);
+        }
+        MyArrayList<String> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            MyArrayList<String> read = (MyArrayList<String>) in.readObject();
+            copy = read;
+        }
+
+        assertEquals(10, copy.size());
+        assertEquals(10, copy.capacity());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(strings.get(i), copy.get(i));
+        }
+        copy.add("more");
+        assertEquals("more", copy.get(10));
+    }
+
+    /**
+     * Test case for a subList view that reads and writes the underlying array.
+     */
+    @Test
+    public void testSubList() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        Object[] array = getTestArray();
+
+        MyList<Integer> view = list.subList(2, 7);
+        view.set(0, 20);
+        view.sort(Comparator.reverseOrder());
+
+        assertSame(array, getTestArray());
+        assertEquals(5, view.size());
+        assertEquals(Integer.valueOf(20), view.get(0));
+        assertEquals(Integer.valueOf(20), list.get(2));
+        assertEquals(Integer.valueOf(3), list.get(6));
+        assertEquals(Integer.valueOf(7), list.get(7));
+        assertEquals(4, view.indexOf(3));
+        assertFalse(view.contains(1));
+        assertEquals(Integer.valueOf(5), view.subList(1, 3).get(1));
+        assertEquals(5, view.stream().count());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(3, 11));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> view.removeIf(element -> true));
+    }
+
+    /**
+     * Test case for a subList view failing after a structural modification of the list.
+     */
+    @Test
+    public void testSubListFailsAfterStructuralModification() {
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        MyList<Integer> view = list.subList(0, 2);
+
+        list.set(0, 5);
+        assertEquals(Integer.valueOf(5), view.get(0));
+        list.add(4);
+
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+        assertThrows(ConcurrentModificationException.class, view::size);
+    }
+
+    /**
+     * Test case for a read-only view of the list.
+     */
+    @Test
+    public void testReadOnlyView() {
+        list.add(1);
+        MyList<Integer> view = list.readOnlyView();
+        list.add(2);
+
+        assertEquals(2, view.size());
+        assertEquals(Integer.valueOf(2), view.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> view.subList(0, 1).set(0, 3));
+        Iterator<Integer> iterator = view.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    /**
+     * Test case for appending and inserting a range of an array.
+     */
+    @Test
+    public void testAddAllArrayRange() {
+        Integer[] source = {1, 2, 3, 4, 5, 6};
+        list.add(0);
+        list.add(9);
+
+        list.addAll(source, 4, 2);
+        list.addAll(1, source, 0, 3);
+        list.addAll(source, 6, 0);
+
+        Integer[] expected = {0, 1, 2, 3, 9, 5, 6};
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(source, 5, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(8, source, 0, 1));
+    }
+
+    /**
+     * Test case for adding the elements of another MyArrayList, of a different MyList and of the list itself.
+     */
+    @Test
+    public void testAddAllMyList() {
+        MyArrayList<Integer> other = new MyArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            other.add(i);
+        }
+        GapBufferList<Integer> gapBuffer = new GapBufferList<>();
+        gapBuffer.add(100);
+        gapBuffer.add(101);
+
+        list.addAll(other);
+        list.addAll(5, gapBuffer);
+        list.addAll(list);
+        list.addAll(0, list.subList(0, 2));
+
+        assertEquals(46, list.size());
+        assertEquals(Integer.valueOf(0), list.get(0));
+        assertEquals(Integer.valueOf(1), list.get(1));
+        assertEquals(Integer.valueOf(0), list.get(2));
+        assertEquals(Integer.valueOf(100), list.get(7));
+        assertEquals(Integer.valueOf(19), list.get(23));
+        assertEquals(Integer.valueOf(0), list.get(24));
+        assertEquals(Integer.valueOf(19), list.get(45));
+    }
+
+    /**
+     * Test case for building a list that adopts the builder's array.
+     */
+    @Test
+    public void testBuilder() {
+        MyArrayList.Builder<String> builder = MyArrayList.builder(3);
+        builder.add("a").add("b").addAll(new String[]{"x", "c", "d"}, 1, 2);
+
+        MyArrayList<String> built = builder.build();
+
+        assertEquals(4, built.size());
+        assertEquals("a", built.get(0));
+        assertEquals("d", built.get(3));
+        built.add("e");
+        assertEquals("e", built.get(4));
+        assertThrows(IllegalStateException.class, () -> builder.add("f"));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalArgumentException.class, () -> MyArrayList.builder(-1));
+        assertTrue(MyArrayList.<String>builder(0).build().isEmpty());
+    }
+
     /**
      * Sets the size of the test array through reflection.
      * @param size the size to set
@@ -321,6 +844,118 @@ public class MyArrayListTest {
         return (Object[]) field.get(list);
     }
 
+    /**
+     * Test case for topK, which returns the first k elements of a stable sort without changing the list.
+     */
+    @Test
+    public void testTopK() {
+        Random random = new Random(31);
+        MyArrayList<String> words = new MyArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            words.add(random.nextInt(100) + ":" + i);
+        }
+        Comparator<String> byPrefix = Comparator.comparingInt(w -> Integer.parseInt(w.substring(0, w.indexOf(':'))));
+        MyArrayList<String> sorted = words.topK(words.size(), byPrefix);
+        MyArrayList<String> top = words.topK(100, byPrefix);
+        assertEquals(100, top.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(sorted.get(i), top.get(i));
+        }
+        words.sort(byPrefix);
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(words.get(i), sorted.get(i));
+        }
+        assertEquals(0, words.topK(0, byPrefix).size());
+        assertEquals(0, new MyArrayList<String>().topK(5, byPrefix).size());
+        assertThrows(IllegalArgumentException.class, () -> words.topK(-1, byPrefix));
+    }
+
+    /**
+     * Test case for partialSort, which sorts the least k elements to the front and keeps all elements.
+     */
+    @Test
+    public void testPartialSort() {
+        Random random = new Random(37);
+        for (int k : new int[]{0, 1, 10, 500, 999, 1000, 2000}) {
+            MyArrayList<Integer> numbers = new MyArrayList<>();
+            Integer[] expected = new Integer[1000];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = random.nextInt(300);
+                numbers.add(expected[i]);
+            }
+            Arrays.sort(expected);
+            numbers.partialSort(k, Comparator.naturalOrder());
+            for (int i = 0; i < Math.min(k, expected.length); i++) {
+                assertEquals(expected[i], numbers.get(i));
+            }
+            Integer[] all = new Integer[numbers.size()];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = numbers.get(i);
+            }
+            Arrays.sort(all);
+            assertArrayEquals(expected, all);
+        }
+        assertThrows(IllegalArgumentException.class, () -> list.partialSort(-1, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Test case for select on random, sorted, reversed and constant input, which puts the nth element in place.
+     */
+    @Test
+    public void testSelect() {
+        Random random = new Random(41);
+        int size = 5000;
+        for (String order : new String[]{"random", "sorted", "reversed", "constant"}) {
+            for (int nth : new int[]{0, 1, size / 2, size - 2, size - 1}) {
+                MyArrayList<Integer> numbers = new MyArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    switch (order) {
+                        case "random":
+                            numbers.add(random.nextInt(1000));
+                            break;
+                        case "sorted":
+                            numbers.add(i);
+                            break;
+                        case "reversed":
+                            numbers.add(size - i);
+                            break;
+                        default:
+                            numbers.add(7);
+                            break;
+                    }
+                }
+                Integer[] expected = new Integer[size];
+                for (int i = 0; i < size; i++) {
+                    expected[i] = numbers.get(i);
+                }
+                Arrays.sort(expected);
+                Integer selected = numbers.select(nth, Comparator.naturalOrder());
+                assertEquals(expected[nth], selected);
+                assertEquals(selected, numbers.get(nth));
+                for (int i = 0; i < nth; i++) {
+                    assertTrue(numbers.get(i) <= selected);
+                }
+                for (int i = nth + 1; i < size; i++) {
+                    assertTrue(numbers.get(i) >= selected);
+                }
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.select(0, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Test case for select and partialSort, which invalidate iterators like sort.
+     */
+    @Test
+    public void testSelectionIsAModification() {
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals(Integer.valueOf(2), list.select(1, Comparator.naturalOrder()));
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
     /**
      * Retrieves the name of the test array field from the class.
      * @return the name of the test array field
@@ -0,0 +1,187 @@
+package org.arraylist;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for OffHeapList.
+ */
+public class OffHeapListTest {
+    private OffHeapList<Long> list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new OffHeapList<>(ElementCodec.LONG);
+    }
+
+    /**
+     * Releases the memory of the list after each test case.
+     */
+    @After
+    public void tearDown() {
+        list.close();
+    }
+
+    /**
+     * Test case for creating a list with a wrong capacity.
+     */
+    @Test
+    public void testCreateListWithWrongCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapList<>(ElementCodec.INTEGER, 0));
+    }
+
+    /**
+     * Test case for adding elements beyond the initial capacity.
+     */
+    @Test
+    public void testAddAndGet() {
+        for (long i = 0; i < 1000; i++) {
+            list.add(i * i);
+        }
+
+        assertEquals(1000, list.size());
+        assertEquals(Long.valueOf(999L * 999L), list.get(999));
+    }
+
+    /**
+     * Test case for inserting and removing elements by index, which moves the stored bytes.
+     */
+    @Test
+    public void testAddAndRemoveByIndex() {
+        for (long i = 0; i < 5000; i++) {
+            list.add(i);
+        }
+
+        list.add(1, -1L);
+        Long removed = list.remove(0);
+
+        assertEquals(Long.valueOf(0), removed);
+        assertEquals(Long.valueOf(-1), list.get(0));
+        assertEquals(Long.valueOf(1), list.get(1));
+        assertEquals(Long.valueOf(4999), list.get(4999));
+        assertEquals(5000, list.size());
+    }
+
+    /**
+     * Test case for setting an element and checking containment.
+     */
+    @Test
+    public void testSetAndContains() {
+        list.addAll(Arrays.asList(1L, 2L, 3L));
+
+        list.set(1, 20L);
+
+        assertTrue(list.contains(20L));
+        assertFalse(list.contains(2L));
+    }
+
+    /**
+     * Test case for sorting the list.
+     */
+    @Test
+    public void testSort() {
+        list.addAll(Arrays.asList(15L, -10L, 20L, 0L));
+
+        list.sort(Long::compareTo);
+
+        assertEquals(Long.valueOf(-10), list.get(0));
+        assertEquals(Long.valueOf(20), list.get(3));
+    }
+
+    /**
+     * Test case for using the list after it has been closed.
+     */
+    @Test
+    public void testUseAfterClose() {
+        list.add(1L);
+
+        list.close();
+
+        assertThrows(IllegalStateException.class, () -> list.add(2L));
+    }
+
+    /**
+     * Test case for the default bulk removal of MyList.
+     */
+    @Test
+    public void testBulkRemoval() {
+        for (long i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        list.removeIf(element -> element % 2 == 0);
+        list.removeRange(0, 10);
+        list.removeAll(Arrays.asList(21L, 23L));
+
+        assertEquals(38, list.size());
+        assertEquals(Long.valueOf(25), list.get(0));
+        assertEquals(Long.valueOf(99), list.get(37));
+    }
+
+    /**
+     * Test case for creating a list with a segment size that is not a power of two or does not fit into one buffer.
+     */
+    @Test
+    public void testCreateListWithWrongSegmentSize() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapList<>(ElementCodec.LONG, 10, 12));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapList<>(ElementCodec.LONG, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapList<>(ElementCodec.LONG, 10, 1 << 29));
+    }
+
+    /**
+     * Test case for a list spread over many small segments; inserts and removals move elements across
+     * segment boundaries and must give the same result as MyArrayList.
+     */
+    @Test
+    public void testElementsAcrossSegments() {
+        MyArrayList<Long> expected = new MyArrayList<>();
+        try (OffHeapList<Long> segmented = new OffHeapList<>(ElementCodec.LONG, 3, 16)) {
+            for (long i = 0; i < 1000; i++) {
+                segmented.add(i);
+                expected.add(i);
+            }
+            for (int i = 0; i < 40; i++) {
+                segmented.add(i * 7, -1L - i);
+                expected.add(i * 7, -1L - i);
+                segmented.remove(i * 11 + 3);
+                expected.remove(i * 11 + 3);
+            }
+            segmented.removeRange(100, 180);
+            expected.removeRange(100, 180);
+
+            assertEquals(expected.size(), segmented.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), segmented.get(i));
+            }
+
+            segmented.sort(Long::compareTo);
+            assertEquals(Long.valueOf(-40), segmented.get(0));
+            assertEquals(Long.valueOf(999), segmented.get(segmented.size() - 1));
+        }
+    }
+
+    /**
+     * Test case for an initial capacity larger than one segment, which allocates full segments up front.
+     */
+    @Test
+    public void testInitialCapacityAboveSegmentSize() {
+        try (OffHeapList<Integer> segmented = new OffHeapList<>(ElementCodec.INTEGER, 100, 32)) {
+            for (int i = 0; i < 200; i++) {
+                segmented.add(i);
+            }
+
+            assertEquals(200, segmented.size());
+            assertEquals(Integer.valueOf(31), segmented.get(31));
+            assertEquals(Integer.valueOf(32), segmented.get(32));
+            assertEquals(Integer.valueOf(199), segmented.get(199));
+        }
+    }
+}
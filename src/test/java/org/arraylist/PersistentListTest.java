@@ -0,0 +1,210 @@
+package org.arraylist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for PersistentList.
+ */
+public class PersistentListTest {
+    /**
+     * Test case for appending past several levels of the tree, keeping every old version intact.
+     */
+    @Test
+    public void testPlusKeepsOldVersions() {
+        int size = 40_000;
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (i % 997 == 0) {
+                versions.add(list);
+            }
+            list = list.plus(i);
+        }
+        assertEquals(size, list.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        for (int v = 0; v < versions.size(); v++) {
+            PersistentList<Integer> version = versions.get(v);
+            assertEquals(v * 997, version.size());
+            if (version.size() > 0) {
+                assertEquals(Integer.valueOf(version.size() - 1), version.get(version.size() - 1));
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.<Integer>empty().get(0));
+    }
+
+    /**
+     * Test case for replacing elements in the tree and in the tail.
+     */
+    @Test
+    public void testWith() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(1000));
+        PersistentList<Integer> changed = list.with(5, -5).with(999, -999).with(500, -500);
+        assertEquals(Integer.valueOf(5), list.get(5));
+        assertEquals(Integer.valueOf(-5), changed.get(5));
+        assertEquals(Integer.valueOf(-500), changed.get(500));
+        assertEquals(Integer.valueOf(-999), changed.get(999));
+        assertEquals(Integer.valueOf(999), list.get(999));
+        assertEquals(Integer.valueOf(6), changed.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(1000, 0));
+    }
+
+    /**
+     * Test case for removing the last element down to the empty list, shrinking the tree on the way.
+     */
+    @Test
+    public void testRemoveLast() {
+        int size = 33 * 32 + 5;
+        PersistentList<Integer> list = PersistentList.copyOf(range(size));
+        PersistentList<Integer> full = list;
+        for (int expectedSize = size - 1; expectedSize >= 0; expectedSize--) {
+            list = list.removeLast();
+            assertEquals(expectedSize, list.size());
+            if (expectedSize > 0) {
+                assertEquals(Integer.valueOf(expectedSize - 1), list.get(expectedSize - 1));
+                assertEquals(Integer.valueOf(0), list.get(0));
+            }
+            if (expectedSize == 1000) {
+                assertEquals(Integer.valueOf(999), list.plus(-1).get(999));
+                assertEquals(Integer.valueOf(-1), list.plus(-1).get(1000));
+            }
+        }
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::removeLast);
+        assertEquals(size, full.size());
+        assertEquals(Integer.valueOf(size - 1), full.get(size - 1));
+    }
+
+    /**
+     * Test case for inserting and removing in the middle, which rebuilds the list.
+     */
+    @Test
+    public void testPlusAtIndexAndMinus() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(100));
+        PersistentList<Integer> inserted = list.plus(10, -1);
+        assertEquals(101, inserted.size());
+        assertEquals(Integer.valueOf(-1), inserted.get(10));
+        assertEquals(Integer.valueOf(10), inserted.get(11));
+        PersistentList<Integer> removed = inserted.minus(10);
+        assertArrayEquals(list.toArray(), removed.toArray());
+        assertEquals(99, list.minus(99).size());
+        assertEquals(100, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(101, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(100));
+    }
+
+    /**
+     * Test case for a random sequence of operations compared with java.util.ArrayList.
+     */
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        Random random = new Random(23);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 6 || expected.isEmpty()) {
+                int value = random.nextInt();
+                list = list.plus(value);
+                expected.add(value);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size());
+                int value = random.nextInt();
+                list = list.with(index, value);
+                expected.set(index, value);
+            } else {
+                list = list.removeLast();
+                expected.remove(expected.size() - 1);
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.toArray(), list.toArray());
+        Iterator<Integer> iterator = list.iterator();
+        for (Integer value : expected) {
+            assertEquals(value, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    /**
+     * Test case for a builder that starts from an existing list and edits it without changing it.
+     */
+    @Test
+    public void testBuilder() {
+        PersistentList<Integer> base = PersistentList.copyOf(range(5000));
+        PersistentList.Builder<Integer> builder = base.toBuilder();
+        builder.set(0, -1).set(4999, -2).add(5000).addAll(Arrays.asList(5001, 5002));
+        for (int i = 0; i < 5000; i += 7) {
+            builder.set(i, -i);
+        }
+        assertEquals(5003, builder.size());
+        PersistentList<Integer> built = builder.build();
+
+        assertEquals(5003, built.size());
+        assertEquals(Integer.valueOf(-7), built.get(7));
+        assertEquals(Integer.valueOf(-2), built.get(4999));
+        assertEquals(Integer.valueOf(5002), built.get(5002));
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(Integer.valueOf(i), base.get(i));
+        }
+        assertThrows(IllegalStateException.class, () -> builder.add(1));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertTrue(PersistentList.<Integer>builder().build().isEmpty());
+    }
+
+    /**
+     * Test case for the mutators of MyList, which are not supported.
+     */
+    @Test
+    public void testMutatorsAreUnsupported() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(3));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(Comparator.naturalOrder()));
+        assertThrows(UnsupportedOperationException.class, () -> list.removeIf(i -> true));
+        assertSame(list, list.readOnlyView());
+    }
+
+    /**
+     * Test case for the queries inherited from MyList and for sorted.
+     */
+    @Test
+    public void testQueriesAndSorted() {
+        PersistentList<Integer> list = PersistentList.copyOf(Arrays.asList(3, 1, 2, 1));
+        assertTrue(list.contains(2));
+        assertFalse(list.contains(5));
+        assertEquals(1, list.indexOf(1));
+        assertEquals(3, list.lastIndexOf(1));
+        assertEquals(7, list.stream().mapToInt(Integer::intValue).sum());
+        assertArrayEquals(new Object[]{1, 1, 2, 3}, list.sorted(Comparator.naturalOrder()).toArray());
+        assertArrayEquals(new Object[]{3, 1, 2, 1}, list.toArray());
+    }
+
+    /**
+     * Returns the integers from 0, inclusive, to the specified bound, exclusive.
+     * @param bound the bound
+     * @return the integers
+     */
+    private static List<Integer> range(int bound) {
+        List<Integer> result = new ArrayList<>(bound);
+        for (int i = 0; i < bound; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for Pipeline.
+ */
+public class PipelineTest {
+    private MyArrayList<Integer> list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new MyArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+    }
+
+    /**
+     * Test case for chaining map and filter, which is evaluated only at the terminal operation.
+     */
+    @Test
+    public void testMapFilterIsLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        Pipeline<String> pipeline = list.pipeline()
+                .filter(i -> i % 2 == 0)
+                .map(i -> {
+                    calls.incrementAndGet();
+                    return "v" + i;
+                });
+        assertEquals(0, calls.get());
+
+        MyArrayList<String> result = pipeline.toList();
+        assertEquals(50, calls.get());
+        assertEquals(50, result.size());
+        assertEquals("v0", result.get(0));
+        assertEquals("v98", result.get(49));
+    }
+
+    /**
+     * Test case for limit, which stops reading the list once enough elements are produced.
+     */
+    @Test
+    public void testLimitShortCircuits() {
+        AtomicInteger reads = new AtomicInteger();
+        MyArrayList<Integer> result = list.pipeline()
+                .map(i -> {
+                    reads.incrementAndGet();
+                    return i;
+                })
+                .filter(i -> i % 3 == 0)
+                .limit(4)
+                .toList();
+        assertEquals(4, result.size());
+        assertEquals(Integer.valueOf(9), result.get(3));
+        assertEquals(10, reads.get());
+        assertEquals(0, list.pipeline().limit(0).count());
+    }
+
+    /**
+     * Test case for skip combined with limit.
+     */
+    @Test
+    public void testSkipAndLimit() {
+        MyArrayList<Integer> result = list.pipeline().skip(95).limit(10).toList();
+        assertEquals(5, result.size());
+        assertEquals(Integer.valueOf(95), result.get(0));
+        assertEquals(Integer.valueOf(99), result.get(4));
+        assertEquals(0, list.pipeline().skip(200).count());
+        assertThrows(IllegalArgumentException.class, () -> list.pipeline().skip(-1));
+        assertThrows(IllegalArgumentException.class, () -> list.pipeline().limit(-1));
+    }
+
+    /**
+     * Test case for flatMap, including a limit that stops in the middle of an inner list.
+     */
+    @Test
+    public void testFlatMap() {
+        MyArrayList<Integer> result = list.pipeline()
+                .limit(3)
+                .flatMap(i -> {
+                    MyArrayList<Integer> repeated = new MyArrayList<>();
+                    for (int j = 0; j <= i; j++) {
+                        repeated.add(i);
+                    }
+                    return repeated;
+                })
+                .toList();
+        assertEquals(6, result.size());
+        assertEquals(Integer.valueOf(2), result.get(5));
+
+        MyArrayList<Integer> partial = list.pipeline()
+                .flatMap(i -> {
+                    MyArrayList<Integer> pair = new MyArrayList<>();
+                    pair.add(i);
+                    pair.add(-i);
+                    return pair;
+                })
+                .limit(5)
+                .toList();
+        assertEquals(5, partial.size());
+        assertEquals(Integer.valueOf(2), partial.get(4));
+    }
+
+    /**
+     * Test case for reduce, count and forEach.
+     */
+    @Test
+    public void testTerminalOperations() {
+        assertEquals(Integer.valueOf(4950), list.pipeline().reduce(0, Integer::sum));
+        assertEquals(Integer.valueOf(0), new MyArrayList<Integer>().pipeline().reduce(0, Integer::sum));
+        assertEquals(33, list.pipeline().filter(i -> i % 3 == 1).count());
+        StringBuilder builder = new StringBuilder();
+        list.pipeline().limit(3).forEach(builder::append);
+        assertEquals("012", builder.toString());
+    }
+
+    /**
+     * Test case for a pipeline over a list that is not a MyArrayList.
+     */
+    @Test
+    public void testOtherSource() {
+        GapBufferList<Integer> gapList = new GapBufferList<>();
+        for (int i = 0; i < 10; i++) {
+            gapList.add(i);
+        }
+        gapList.add(0, -1);
+        MyArrayList<Integer> result = gapList.pipeline().map(i -> i * 2).skip(1).toList();
+        assertEquals(10, result.size());
+        assertEquals(Integer.valueOf(0), result.get(0));
+        assertEquals(Integer.valueOf(18), result.get(9));
+    }
+
+    /**
+     * Test case for a pipeline that is evaluated twice and sees the changes made in between.
+     */
+    @Test
+    public void testReevaluation() {
+        Pipeline<Integer> pipeline = list.pipeline().filter(i -> i >= 98);
+        assertEquals(2, pipeline.count());
+        list.add(200);
+        assertEquals(3, pipeline.count());
+    }
+
+    /**
+     * Test case for a change of the list while the pipeline reads it.
+     */
+    @Test
+    public void testConcurrentModification() {
+        assertThrows(ConcurrentModificationException.class,
+                () -> list.pipeline().forEach(i -> {
+                    if (i == 10) {
+                        list.add(0);
+                    }
+                }));
+    }
+
+    /**
+     * Test case for a parallel evaluation over several chunks, whose results keep the encounter order.
+     */
+    @Test
+    public void testParallel() {
+        int size = Pipeline.CHUNK_SIZE * 5 + 123;
+        MyArrayList<Integer> large = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            large.add(i);
+        }
+        MyArrayList<Integer> expected = new MyArrayList<>();
+        IntStream.range(0, size).filter(i -> i % 7 != 0).map(i -> i * 3).forEach(expected::add);
+
+        MyArrayList<Integer> result = large.pipeline().parallel().filter(i -> i % 7 != 0).map(i -> i * 3).toList();
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), result.get(i));
+        }
+
+        MyArrayList<Integer> mapped = large.pipeline().parallel().map(i -> i + 1).toList();
+        assertEquals(size, mapped.size());
+        assertEquals(Integer.valueOf(size), mapped.get(size - 1));
+
+        long expectedSum = (long) size * (size - 1) / 2;
+        assertEquals(Long.valueOf(expectedSum), large.pipeline().parallel().map(Integer::longValue).reduce(0L, Long::sum));
+        assertEquals(size, large.pipeline().parallel().count());
+        AtomicLong sum = new AtomicLong();
+        large.pipeline().parallel().forEach(sum::addAndGet);
+        assertEquals(expectedSum, sum.get());
+
+        MyArrayList<Integer> limited = large.pipeline().parallel().skip(10).limit(5).toList();
+        assertEquals(IntStream.range(10, 15).boxed().collect(Collectors.toList()),
+                IntStream.range(0, 5).mapToObj(limited::get).collect(Collectors.toList()));
+    }
+}
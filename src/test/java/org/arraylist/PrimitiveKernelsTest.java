@@ -0,0 +1,117 @@
+package org.arraylist;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for PrimitiveKernels. The results are compared with plain loops for sizes on both sides of
+ * the vector threshold and with tails of every length, so the Vector API kernels are checked too when they are loaded.
+ */
+public class PrimitiveKernelsTest {
+    /** The sizes that are checked. */
+    private static final int[] SIZES = {1, 7, PrimitiveKernels.VECTOR_THRESHOLD - 1, PrimitiveKernels.VECTOR_THRESHOLD,
+            PrimitiveKernels.VECTOR_THRESHOLD + 1, 100, 1000, 1027};
+
+    /**
+     * Test case for the vector profile, which must load the Vector API kernels when it runs the tests.
+     */
+    @Test
+    public void testVectorKernelsLoadedByProfile() {
+        assertEquals(Boolean.getBoolean("org.arraylist.vector.expected"), PrimitiveKernels.vectorized());
+    }
+
+    /**
+     * Test case for the int kernels.
+     */
+    @Test
+    public void testIntKernels() {
+        Random random = new Random(1);
+        for (int size : SIZES) {
+            int[] a = new int[size + 3];
+            long sum = 0;
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                a[i] = random.nextInt(2000) - 1000 + (i % 5 == 0 ? Integer.MAX_VALUE - 1000 : 0);
+                sum += a[i];
+                min = Math.min(min, a[i]);
+                max = Math.max(max, a[i]);
+                count += a[i] >= -100 && a[i] <= 100 ? 1 : 0;
+            }
+            a[size] = Integer.MIN_VALUE;
+            assertEquals(sum, PrimitiveKernels.sum(a, size));
+            assertEquals(min, PrimitiveKernels.min(a, size));
+            assertEquals(max, PrimitiveKernels.max(a, size));
+            assertEquals(count, PrimitiveKernels.countInRange(a, size, -100, 100));
+            assertEquals(0, PrimitiveKernels.countInRange(a, size, 100, -100));
+            assertEquals(size, PrimitiveKernels.countInRange(a, size, Integer.MIN_VALUE + 1, Integer.MAX_VALUE));
+            a[size - 1] = 5000;
+            assertEquals(size - 1, PrimitiveKernels.indexOf(a, size, 5000));
+            assertEquals(-1, PrimitiveKernels.indexOf(a, size, Integer.MIN_VALUE));
+        }
+    }
+
+    /**
+     * Test case for the long kernels.
+     */
+    @Test
+    public void testLongKernels() {
+        Random random = new Random(2);
+        for (int size : SIZES) {
+            long[] a = new long[size + 3];
+            long sum = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                a[i] = random.nextLong() >> (i % 3 == 0 ? 0 : 50);
+                sum += a[i];
+                min = Math.min(min, a[i]);
+                max = Math.max(max, a[i]);
+                count += a[i] >= -1000 && a[i] <= 1000 ? 1 : 0;
+            }
+            a[size] = Long.MAX_VALUE;
+            assertEquals(sum, PrimitiveKernels.sum(a, size));
+            assertEquals(min, PrimitiveKernels.min(a, size));
+            assertEquals(max, PrimitiveKernels.max(a, size));
+            assertEquals(count, PrimitiveKernels.countInRange(a, size, -1000L, 1000L));
+            assertEquals(0, PrimitiveKernels.countInRange(a, size, 1L, -1L));
+            a[size - 1] = Long.MIN_VALUE;
+            assertEquals(size - 1, PrimitiveKernels.indexOf(a, size, Long.MIN_VALUE));
+            assertEquals(-1, PrimitiveKernels.indexOf(a, size, Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Test case for the double kernels, including NaN and signed zeros, which are compared like Double.equals.
+     */
+    @Test
+    public void testDoubleKernels() {
+        Random random = new Random(3);
+        for (int size : SIZES) {
+            double[] a = new double[size + 3];
+            double sum = 0;
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                a[i] = random.nextDouble() * 2 - 1;
+                sum += a[i];
+                count += a[i] >= -0.5 && a[i] <= 0.5 ? 1 : 0;
+            }
+            assertEquals(sum, PrimitiveKernels.sum(a, size), 1e-9);
+            assertEquals(count, PrimitiveKernels.countInRange(a, size, -0.5, 0.5));
+
+            a[size - 1] = -0.0;
+            a[size] = Double.NaN;
+            assertEquals(size - 1, PrimitiveKernels.indexOf(a, size, -0.0));
+            assertEquals(-1, PrimitiveKernels.indexOf(a, size, 0.0));
+            assertEquals(-1, PrimitiveKernels.indexOf(a, size, Double.NaN));
+            a[size - 1] = Double.longBitsToDouble(0x7ff8_0000_0000_0001L);
+            assertEquals(size - 1, PrimitiveKernels.indexOf(a, size, Double.NaN));
+            assertEquals(0, PrimitiveKernels.countInRange(a, size, Double.NaN, Double.NaN));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for SegmentedList.
+ */
+public class SegmentedListTest {
+    private SegmentedList<Integer> list;
+
+    /**
+     * Sets up the test environment before each test case. Small segments make the tests cross many boundaries.
+     */
+    @Before
+    public void setUp() {
+        list = new SegmentedList<>(4);
+    }
+
+    /**
+     * Test case for appending, which allocates segments without copying the elements.
+     */
+    @Test
+    public void testAddAndGet() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        assertEquals(1000, list.size());
+        assertEquals(1000, list.capacity());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        list.set(513, -1);
+        assertEquals(Integer.valueOf(-1), list.get(513));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1000));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0));
+    }
+
+    /**
+     * Test case for inserting and removing in the middle, across segment boundaries.
+     */
+    @Test
+    public void testInsertAndRemove() {
+        list.addAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        list.add(3, 30);
+        list.add(0, -1);
+        list.add(list.size(), 100);
+        assertEquals(Arrays.asList(-1, 0, 1, 2, 30, 3, 4, 5, 6, 7, 8, 9, 100), toJavaList());
+        assertEquals(Integer.valueOf(30), list.remove(4));
+        assertEquals(Integer.valueOf(-1), list.remove(0));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 100), toJavaList());
+        list.removeRange(2, 9);
+        assertEquals(Arrays.asList(0, 1, 9, 100), toJavaList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(3, 2));
+    }
+
+    /**
+     * Test case for a random sequence of operations compared with java.util.ArrayList.
+     */
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        Random random = new Random(5);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                int value = random.nextInt(100);
+                list.add(value);
+                expected.add(value);
+            } else if (op < 7) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, step);
+                expected.add(index, step);
+            } else if (op < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(Math.min(10, expected.size() - from) + 1);
+                list.removeRange(from, to);
+                expected.subList(from, to).clear();
+            }
+        }
+        assertEquals(expected, toJavaList());
+        assertEquals(expected.indexOf(42), list.indexOf(42));
+        assertEquals(expected.lastIndexOf(42), list.lastIndexOf(42));
+        assertEquals(expected.contains(-5), list.contains(-5));
+    }
+
+    /**
+     * Test case for sorting, which keeps equal elements in their order.
+     */
+    @Test
+    public void testSort() {
+        Random random = new Random(3);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 999; i++) {
+            int value = random.nextInt(50);
+            list.add(value);
+            expected.add(value);
+        }
+        list.sort(Comparator.reverseOrder());
+        expected.sort(Comparator.reverseOrder());
+        assertEquals(expected, toJavaList());
+    }
+
+    /**
+     * Test case for clearing and trimming, which keep the list usable.
+     */
+    @Test
+    public void testClearAndTrim() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.removeRange(10, 100);
+        assertEquals(100, list.capacity());
+        list.trimToSize();
+        assertEquals(12, list.capacity());
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.trimToSize();
+        assertEquals(0, list.capacity());
+        list.add(7);
+        assertEquals(Integer.valueOf(7), list.get(0));
+    }
+
+    /**
+     * Test case for illegal segment sizes.
+     */
+    @Test
+    public void testIllegalSegmentSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedList<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedList<Integer>(12));
+        assertEquals(0, new SegmentedList<Integer>().capacity());
+    }
+
+    /**
+     * Returns the elements of the list in a java.util.List.
+     * @return the elements
+     */
+    private List<Integer> toJavaList() {
+        List<Integer> result = new ArrayList<>();
+        for (Integer element : list) {
+            result.add(element);
+        }
+        return result;
+    }
+}
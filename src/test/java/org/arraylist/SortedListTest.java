@@ -0,0 +1,198 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for SortedList.
+ */
+public class SortedListTest {
+    private SortedList<Integer> list;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        list = new SortedList<>(Comparator.naturalOrder());
+    }
+
+    /**
+     * Test case for adding elements one at a time, which keeps the list sorted.
+     */
+    @Test
+    public void testAddKeepsOrder() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(200);
+            list.add(value);
+            expected.add(value);
+        }
+        Collections.sort(expected);
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    /**
+     * Test case for equal elements keeping their insertion order.
+     */
+    @Test
+    public void testAddIsStable() {
+        SortedList<String> strings = new SortedList<>(Comparator.comparingInt(String::length));
+        strings.add("bb");
+        strings.add("a");
+        strings.add("cc");
+        strings.add("dd");
+
+        assertEquals("a", strings.get(0));
+        assertEquals("bb", strings.get(1));
+        assertEquals("cc", strings.get(2));
+        assertEquals("dd", strings.get(3));
+        assertEquals(2, strings.indexOf("cc"));
+        assertEquals(-1, strings.indexOf("ee"));
+        assertTrue(strings.contains("ee"));
+    }
+
+    /**
+     * Test case for a bulk load merged with the existing elements.
+     */
+    @Test
+    public void testAddAll() {
+        list.addAll(Arrays.asList(10, 30, 20));
+        list.addAll(Arrays.asList(25, 5, 30, 15));
+        list.addAll(Collections.emptyList());
+
+        assertEquals(7, list.size());
+        Integer[] expected = {5, 10, 15, 20, 25, 30, 30};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+    }
+
+    /**
+     * Test case for the binary search lookups.
+     */
+    @Test
+    public void testLookups() {
+        list.addAll(Arrays.asList(1, 3, 3, 3, 7, 9));
+
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(4));
+        assertEquals(1, list.indexOf(3));
+        assertEquals(3, list.lastIndexOf(3));
+        assertEquals(-1, list.indexOf(8));
+        assertEquals(-1, list.lastIndexOf(0));
+    }
+
+    /**
+     * Test case for floor, ceiling, lower and higher.
+     */
+    @Test
+    public void testNavigation() {
+        list.addAll(Arrays.asList(10, 20, 30));
+
+        assertEquals(Integer.valueOf(20), list.floor(25));
+        assertEquals(Integer.valueOf(20), list.floor(20));
+        assertNull(list.floor(5));
+        assertEquals(Integer.valueOf(30), list.ceiling(25));
+        assertEquals(Integer.valueOf(20), list.ceiling(20));
+        assertNull(list.ceiling(35));
+        assertEquals(Integer.valueOf(10), list.lower(20));
+        assertNull(list.lower(10));
+        assertEquals(Integer.valueOf(30), list.higher(20));
+        assertNull(list.higher(30));
+    }
+
+    /**
+     * Test case for the range queries.
+     */
+    @Test
+    public void testRange() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(10, list.countRange(20, 30));
+        assertEquals(0, list.countRange(30, 20));
+        assertEquals(100, list.countRange(-5, 500));
+        MyArrayList<Integer> range = list.range(20, 30);
+        assertEquals(10, range.size());
+        assertEquals(Integer.valueOf(20), range.get(0));
+        assertEquals(Integer.valueOf(29), range.get(9));
+        assertTrue(list.range(50, 50).isEmpty());
+    }
+
+    /**
+     * Test case for positional inserts and replacements, which must keep the order.
+     */
+    @Test
+    public void testPositionalChanges() {
+        list.addAll(Arrays.asList(10, 20, 30));
+
+        list.add(1, 15);
+        list.set(0, 12);
+
+        assertEquals(Integer.valueOf(12), list.get(0));
+        assertEquals(Integer.valueOf(15), list.get(1));
+        assertThrows(IllegalArgumentException.class, () -> list.add(0, 50));
+        assertThrows(IllegalArgumentException.class, () -> list.set(3, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 50));
+    }
+
+    /**
+     * Test case for sorting, which is only allowed with the comparator of the list.
+     */
+    @Test
+    public void testSort() {
+        list.add(2);
+        list.add(1);
+
+        list.sort(list.comparator());
+
+        assertEquals(Integer.valueOf(1), list.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(Comparator.reverseOrder()));
+    }
+
+    /**
+     * Test case for removals, which keep the order.
+     */
+    @Test
+    public void testRemove() {
+        list.addAll(Arrays.asList(5, 1, 4, 2, 3));
+
+        assertEquals(Integer.valueOf(1), list.remove(0));
+        assertTrue(list.removeIf(value -> value % 2 == 0));
+
+        assertEquals(2, list.size());
+        assertEquals(Integer.valueOf(3), list.get(0));
+        assertEquals(Integer.valueOf(5), list.get(1));
+    }
+
+    /**
+     * Test case for partialSort and select, which only accept the comparator of the list.
+     */
+    @Test
+    public void testSelectionUsesOwnOrder() {
+        list.addAll(Arrays.asList(5, 1, 4, 2, 3));
+        assertEquals(Integer.valueOf(3), list.select(2, list.comparator()));
+        list.partialSort(2, list.comparator());
+        assertEquals(Integer.valueOf(1), list.get(0));
+        assertEquals(2, list.topK(2, list.comparator()).size());
+        assertEquals(Integer.valueOf(2), list.topK(2, list.comparator()).get(1));
+        assertThrows(UnsupportedOperationException.class, () -> list.select(0, Comparator.reverseOrder()));
+        assertThrows(UnsupportedOperationException.class, () -> list.partialSort(1, Comparator.reverseOrder()));
+    }
+}
@@ -0,0 +1,97 @@
+package org.arraylist;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for SubListView, the default subList of MyList.
+ */
+public class SubListViewTest {
+    private GapBufferList<Integer> parent;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @Before
+    public void setUp() {
+        parent = new GapBufferList<>();
+        for (int i = 0; i < 10; i++) {
+            parent.add(i);
+        }
+    }
+
+    /**
+     * Test case for reading and writing through the view.
+     */
+    @Test
+    public void testGetAndSet() {
+        MyList<Integer> view = parent.subList(3, 6);
+
+        view.set(1, 40);
+
+        assertEquals(3, view.size());
+        assertEquals(Integer.valueOf(3), view.get(0));
+        assertEquals(Integer.valueOf(40), parent.get(4));
+        assertEquals(1, view.indexOf(40));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.set(-1, 0));
+    }
+
+    /**
+     * Test case for sorting only the window.
+     */
+    @Test
+    public void testSort() {
+        MyList<Integer> view = parent.subList(2, 8);
+
+        view.sort(Comparator.reverseOrder());
+
+        assertEquals(Integer.valueOf(1), parent.get(1));
+        assertEquals(Integer.valueOf(7), parent.get(2));
+        assertEquals(Integer.valueOf(2), parent.get(7));
+        assertEquals(Integer.valueOf(8), parent.get(8));
+    }
+
+    /**
+     * Test case for a view of a view.
+     */
+    @Test
+    public void testNestedSubList() {
+        MyList<Integer> view = parent.subList(2, 8).subList(1, 3);
+
+        assertEquals(2, view.size());
+        assertEquals(Integer.valueOf(3), view.get(0));
+        assertEquals(Integer.valueOf(4), view.get(1));
+    }
+
+    /**
+     * Test case for the operations that would change the size of the view.
+     */
+    @Test
+    public void testFixedSize() {
+        MyList<Integer> view = parent.subList(0, 5);
+
+        assertThrows(UnsupportedOperationException.class, () -> view.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.removeIf(element -> element == 0));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+        assertEquals(Integer.valueOf(0), parent.get(0));
+    }
+
+    /**
+     * Test case for the view failing once the size of the parent changes.
+     */
+    @Test
+    public void testFailsAfterStructuralModification() {
+        MyList<Integer> view = parent.subList(0, 5);
+
+        parent.remove(9);
+
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+    }
+}
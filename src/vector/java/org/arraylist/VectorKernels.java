@@ -0,0 +1,253 @@
+package org.arraylist;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorKernels implements the scans of {@link PrimitiveKernels} with the incubating Vector API, so that each step
+ * compares, adds or reduces a whole SIMD register of elements. It is compiled for Java 17 by the {@code vector}
+ * profile and loaded by PrimitiveKernels only when the JVM resolves jdk.incubator.vector.
+ * <p>
+ * Every kernel runs the vector loop up to the last full register and finishes the tail with a scalar loop.
+ * Int sums widen each register to two registers of longs, so they cannot overflow, like the scalar kernel.
+ */
+final class VectorKernels implements PrimitiveKernels.Vectorized {
+    /** The preferred species for int elements. */
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    /** The preferred species for long elements, which has the same shape as INTS and half its lanes. */
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    /** The preferred species for double elements. */
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    /** Registers narrower than this do not pay off against the scalar loops. */
+    private static final int MIN_VECTOR_BITS = 128;
+
+    /**
+     * This constructor creates an instance of VectorKernels.
+     * @throws UnsupportedOperationException if the CPU has no vector registers of at least 128 bits
+     */
+    VectorKernels() {
+        if (INTS.vectorBitSize() < MIN_VECTOR_BITS) {
+            throw new UnsupportedOperationException("Vector registers too narrow: " + INTS.vectorBitSize());
+        }
+    }
+
+    @Override
+    public int indexOf(int[] a, int size, int value) {
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            VectorMask<Integer> found = IntVector.fromArray(INTS, a, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (; i < size; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(long[] a, int size, long value) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            VectorMask<Long> found = LongVector.fromArray(LONGS, a, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (; i < size; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element with the same bits as the value, comparing like Double.equals,
+     * or -1 if there is none. A NaN value matches every NaN element; any other value matches the elements with
+     * exactly its bits.
+     * @param a     the array
+     * @param size  the number of elements in use
+     * @param value the value to search for
+     * @return the index of the first occurrence, or -1
+     */
+    @Override
+    public int indexOf(double[] a, int size, double value) {
+        boolean nan = Double.isNaN(value);
+        long bits = Double.doubleToLongBits(value);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, a, i);
+            VectorMask<?> found = nan ? v.test(VectorOperators.IS_NAN) : v.reinterpretAsLongs().eq(bits);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        for (; i < size; i++) {
+            if (Double.doubleToLongBits(a[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int countInRange(int[] a, int size, int low, int high) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, a, i);
+            count += v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LE, high)).trueCount();
+        }
+        for (; i < size; i++) {
+            int x = a[i];
+            count += x >= low & x <= high ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public int countInRange(long[] a, int size, long low, long high) {
+        int count = 0;
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            LongVector v = LongVector.fromArray(LONGS, a, i);
+            count += v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LE, high)).trueCount();
+        }
+        for (; i < size; i++) {
+            long x = a[i];
+            count += x >= low & x <= high ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public int countInRange(double[] a, int size, double low, double high) {
+        int count = 0;
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, a, i);
+            count += v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LE, high)).trueCount();
+        }
+        for (; i < size; i++) {
+            double x = a[i];
+            count += x >= low & x <= high ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sum of the elements as a long. Each register of ints is widened into two registers of longs of
+     * the same total size before it is added.
+     * @param a    the array
+     * @param size the number of elements in use
+     * @return the sum of the elements
+     */
+    @Override
+    public long sum(int[] a, int size) {
+        LongVector acc0 = LongVector.zero(LONGS);
+        LongVector acc1 = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, a, i);
+            acc0 = acc0.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 0));
+            acc1 = acc1.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 1));
+        }
+        long sum = acc0.add(acc1).reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long sum(long[] a, int size) {
+        LongVector acc = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            acc = acc.add(LongVector.fromArray(LONGS, a, i));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double sum(double[] a, int size) {
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(size); i < bound; i += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] a, int size) {
+        IntVector acc = IntVector.broadcast(INTS, a[0]);
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            acc = acc.min(IntVector.fromArray(INTS, a, i));
+        }
+        int min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] a, int size) {
+        IntVector acc = IntVector.broadcast(INTS, a[0]);
+        int i = 0;
+        for (int bound = INTS.loopBound(size); i < bound; i += INTS.length()) {
+            acc = acc.max(IntVector.fromArray(INTS, a, i));
+        }
+        int max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long min(long[] a, int size) {
+        LongVector acc = LongVector.broadcast(LONGS, a[0]);
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            acc = acc.min(LongVector.fromArray(LONGS, a, i));
+        }
+        long min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] a, int size) {
+        LongVector acc = LongVector.broadcast(LONGS, a[0]);
+        int i = 0;
+        for (int bound = LONGS.loopBound(size); i < bound; i += LONGS.length()) {
+            acc = acc.max(LongVector.fromArray(LONGS, a, i));
+        }
+        long max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+}